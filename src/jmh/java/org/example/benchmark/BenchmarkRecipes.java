@@ -0,0 +1,104 @@
+package org.example.benchmark;
+
+import org.example.domain.Recipe;
+import org.example.domain.YeastItem;
+import org.example.repository.GrainRepository;
+import org.example.repository.HopRepository;
+import org.example.repository.YeastRepository;
+import org.example.simulation.DryHopAddition;
+import org.example.simulation.TemperatureSchedule;
+
+import java.util.List;
+
+/**
+ * 벤치마크용 고정 레시피 (BrewingSimulatorTest 시나리오와 같은 구성)
+ * @Param 으로 생성 코드에서 참조하므로 public. 결과가 실행마다 같아야 비교가 되므로 값은 바꾸지 않는다. 바꾸면 이전 결과와 따로 비교할 것.
+ */
+public enum BenchmarkRecipes {
+
+    /** 몰트 1종, 홉 1종 표준 에일 */
+    STANDARD_ALE {
+        @Override
+        Recipe recipe() {
+            Recipe recipe = new Recipe(20.0, 0.75);
+            recipe.addMalt(GRAINS.findByName("Pilsner"), 5.0);
+            recipe.addHop(HOPS.findByName("Citra"), 15, 60);
+            recipe.setYeastItem(new YeastItem(YEASTS.findByName("US-05"), 11.5, true, 0, 0, false));
+            return recipe.freeze();
+        }
+
+        @Override
+        TemperatureSchedule schedule() {
+            TemperatureSchedule schedule = new TemperatureSchedule(18.0);
+            schedule.addStep(72, 21.0);
+            schedule.addStep(168, 22.0);
+            return schedule;
+        }
+    },
+
+    /** 몰트 2종, 홉 3종 West Coast IPA */
+    WEST_COAST_IPA {
+        @Override
+        Recipe recipe() {
+            Recipe recipe = new Recipe(20.0, 0.72);
+            recipe.addMalt(GRAINS.findByName("Pilsner"), 5.5);
+            recipe.addMalt(GRAINS.findByName("Vienna"), 1.0);
+            recipe.addHop(HOPS.findByName("Magnum"), 20, 60);
+            recipe.addHop(HOPS.findByName("Citra"), 20, 15);
+            recipe.addHop(HOPS.findByName("Mosaic"), 30, 5);
+            recipe.setYeastItem(new YeastItem(YEASTS.findByName("US-05"), 11.5, true, 0, 0, false));
+            return recipe.freeze();
+        }
+
+        @Override
+        TemperatureSchedule schedule() {
+            TemperatureSchedule schedule = new TemperatureSchedule(19.0);
+            schedule.addStep(168, 21.0);
+            schedule.addStep(336, 15.0);
+            return schedule;
+        }
+    },
+
+    /** 드라이 호핑 2회 DDH NEIPA (이벤트 처리와 풍미 재예측 경로 포함) */
+    DDH_NEIPA {
+        @Override
+        Recipe recipe() {
+            Recipe recipe = new Recipe(20.0, 0.70);
+            recipe.addMalt(GRAINS.findByName("Pilsner"), 4.0);
+            recipe.addMalt(GRAINS.findByName("Wheat"), 1.0);
+            recipe.addMalt(GRAINS.findByName("Oats"), 1.0);
+            recipe.addHop(HOPS.findByName("Magnum"), 5, 60);
+            recipe.addHop(HOPS.findByName("Citra"), 20, 0);
+            recipe.setYeastItem(new YeastItem(YEASTS.findByName("US-05"), 11.5, true, 0, 0, false));
+            return recipe.freeze();
+        }
+
+        @Override
+        TemperatureSchedule schedule() {
+            TemperatureSchedule schedule = new TemperatureSchedule(20.0);
+            schedule.addStep(240, 15.0);
+            return schedule;
+        }
+
+        @Override
+        List<DryHopAddition> dryHops() {
+            return List.of(
+                    new DryHopAddition(48, HOPS.findByName("Citra"), 50),
+                    new DryHopAddition(48, HOPS.findByName("Mosaic"), 50),
+                    new DryHopAddition(168, HOPS.findByName("Galaxy"), 50),
+                    new DryHopAddition(168, HOPS.findByName("Cascade"), 50));
+        }
+    };
+
+    private static final GrainRepository GRAINS = new GrainRepository();
+    private static final HopRepository HOPS = new HopRepository();
+    private static final YeastRepository YEASTS = new YeastRepository();
+
+    abstract Recipe recipe();
+
+    abstract TemperatureSchedule schedule();
+
+    List<DryHopAddition> dryHops() {
+        return List.of();
+    }
+}
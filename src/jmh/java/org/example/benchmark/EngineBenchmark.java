@@ -0,0 +1,69 @@
+package org.example.benchmark;
+
+import org.example.domain.FlavorProfile;
+import org.example.domain.Recipe;
+import org.example.engine.DensityEngine;
+import org.example.engine.FermentationEngine;
+import org.example.engine.FlavorAnalyzer;
+import org.example.engine.SensoryEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레시피 단위 계산 엔진 벤치마크 (OG, IBU, FG, 풍미 분석)
+ * 입력 비중/IBU 는 Setup 에서 미리 구해 두므로 각 벤치마크는 해당 엔진 호출만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EngineBenchmark {
+
+    @Param({"STANDARD_ALE", "WEST_COAST_IPA", "DDH_NEIPA"})
+    public BenchmarkRecipes recipeName;
+
+    private final DensityEngine densityEngine = new DensityEngine();
+    private final SensoryEngine sensoryEngine = new SensoryEngine();
+    private final FermentationEngine fermentationEngine = new FermentationEngine();
+    private final FlavorAnalyzer flavorAnalyzer = new FlavorAnalyzer();
+
+    private Recipe recipe;
+    private double og;
+    private double ibu;
+    private double fermentTemp;
+
+    @Setup
+    public void setUp() {
+        recipe = recipeName.recipe();
+        og = densityEngine.calculateOG(recipe);
+        ibu = sensoryEngine.calculateIBU(recipe, og);
+        fermentTemp = recipeName.schedule().getTempAt(0);
+    }
+
+    @Benchmark
+    public double calculateOG() {
+        return densityEngine.calculateOG(recipe);
+    }
+
+    @Benchmark
+    public double calculateIBU() {
+        return sensoryEngine.calculateIBU(recipe, og);
+    }
+
+    @Benchmark
+    public double calculateFG() {
+        return fermentationEngine.calculateFG(recipe, og, fermentTemp, 65.0);
+    }
+
+    @Benchmark
+    public FlavorProfile analyzeFlavor() {
+        return flavorAnalyzer.analyze(recipe, og, ibu, fermentTemp);
+    }
+}
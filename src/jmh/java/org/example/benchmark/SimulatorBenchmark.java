@@ -0,0 +1,58 @@
+package org.example.benchmark;
+
+import org.example.domain.Recipe;
+import org.example.service.BrewingSimulator;
+import org.example.simulation.DryHopAddition;
+import org.example.simulation.SimulationLog;
+import org.example.simulation.SimulationTimeline;
+import org.example.simulation.TemperatureSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발효 시뮬레이션 전체 실행 벤치마크 (14/40/90일)
+ * 로그 리스트를 만드는 simulate 와 컬럼 결과를 만드는 simulateTimeline 을 같이 재서 결과 형식에 따른 할당 차이를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimulatorBenchmark {
+
+    @Param({"STANDARD_ALE", "WEST_COAST_IPA", "DDH_NEIPA"})
+    public BenchmarkRecipes recipeName;
+
+    @Param({"14", "40", "90"})
+    public int durationDays;
+
+    private final BrewingSimulator simulator = new BrewingSimulator();
+
+    private Recipe recipe;
+    private TemperatureSchedule schedule;
+    private List<DryHopAddition> dryHops;
+
+    @Setup
+    public void setUp() {
+        recipe = recipeName.recipe();
+        schedule = recipeName.schedule();
+        dryHops = recipeName.dryHops();
+    }
+
+    @Benchmark
+    public List<SimulationLog> simulate() {
+        return simulator.simulate(recipe, schedule, dryHops, durationDays);
+    }
+
+    @Benchmark
+    public SimulationTimeline simulateTimeline() {
+        return simulator.simulateTimeline(recipe, schedule, dryHops, durationDays);
+    }
+}
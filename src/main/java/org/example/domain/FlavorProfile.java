@@ -5,6 +5,14 @@ import java.util.List;
 public record FlavorProfile(
         double esterScore,     // 0.0 ~ 100.0 (높을수록 과일향이 강함)
         double diacetylRisk,   // 0.0 ~ 100.0 (높을수록 디아세틸관련 이취...)
-        // 풍미에 관한 태그 추가예정
-        List<String>flavorTags
-) {}
\ No newline at end of file
+        // 풍미 태그 (FlavorTags id 집합, 문자열은 읽을 때만 꺼냄)
+        FlavorTagSet flavorTags
+) {
+    public FlavorProfile {
+        if (flavorTags == null) flavorTags = FlavorTagSet.empty();
+    }
+
+    public FlavorProfile(double esterScore, double diacetylRisk, List<String> flavorTags) {
+        this(esterScore, diacetylRisk, flavorTags == null ? FlavorTagSet.empty() : FlavorTagSet.of(flavorTags));
+    }
+}
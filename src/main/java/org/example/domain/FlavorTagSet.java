@@ -0,0 +1,224 @@
+package org.example.domain;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * 풍미 태그 집합 (FlavorTags id 비트셋, 변경 불가)
+ * 합치기/포함 검사는 long 단위 비트 연산이고, 태그 문자열은 목록으로 읽을 때(get, iterator, toString)만 꺼낸다.
+ * 기존 코드와 호환되도록 List&lt;String&gt; 으로 동작하며, 순서는 처음 추가된 순서(기존 distinct 결과와 같음), 중복은 없다.
+ * equals/hashCode 는 List 규약을 따르므로 같은 순서의 문자열 목록과도 같다.
+ */
+public final class FlavorTagSet extends AbstractList<String> implements RandomAccess {
+
+    private static final FlavorTagSet EMPTY = new FlavorTagSet(new long[0], new int[0]);
+
+    // 마지막 원소는 0이 아님 (비교용으로 길이 정규화)
+    private final long[] words;
+    // 나열 순서의 태그 id (words 와 같은 집합)
+    private final int[] order;
+    private int hash;
+
+    private FlavorTagSet(long[] words, int[] order) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) length--;
+        this.words = (length == words.length) ? words : Arrays.copyOf(words, length);
+        this.order = order;
+    }
+
+    public static FlavorTagSet empty() {
+        return EMPTY;
+    }
+
+    public static FlavorTagSet of(int... ids) {
+        Builder builder = builder();
+        for (int id : ids) {
+            builder.add(id);
+        }
+        return builder.build();
+    }
+
+    /** 태그 문자열 목록을 집합으로 변환 (처음 보는 태그는 레지스트리에 등록) */
+    public static FlavorTagSet of(Collection<String> names) {
+        if (names instanceof FlavorTagSet set) return set;
+        Builder builder = builder();
+        for (String name : names) {
+            builder.add(name);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean containsId(int id) {
+        int word = id >>> 6;
+        return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    public boolean intersects(FlavorTagSet other) {
+        int n = Math.min(words.length, other.words.length);
+        for (int i = 0; i < n; i++) {
+            if ((words[i] & other.words[i]) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 합집합 (이 집합 순서 뒤에 other 에만 있는 태그를 other 순서로 붙임)
+     * 더할 태그가 없거나 이 집합이 비어 있으면 새 객체를 만들지 않는다.
+     */
+    public FlavorTagSet union(FlavorTagSet other) {
+        if (other.order.length == 0 || containsAllIds(other)) return this;
+        if (order.length == 0) return other;
+
+        long[] merged = Arrays.copyOf(words, Math.max(words.length, other.words.length));
+        int[] mergedOrder = Arrays.copyOf(order, order.length + other.order.length);
+        int n = order.length;
+        for (int id : other.order) {
+            if (!containsId(id)) mergedOrder[n++] = id;
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            merged[i] |= other.words[i];
+        }
+        return new FlavorTagSet(merged, Arrays.copyOf(mergedOrder, n));
+    }
+
+    private boolean containsAllIds(FlavorTagSet other) {
+        if (other.words.length > words.length) return false;
+        for (int i = 0; i < other.words.length; i++) {
+            if ((other.words[i] & ~words[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    /** 오름차순 태그 id */
+    public int[] ids() {
+        int[] ids = new int[order.length];
+        int n = 0;
+        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {
+            ids[n++] = id;
+        }
+        return ids;
+    }
+
+    /** from 이상인 첫 태그 id, 없으면 -1 */
+    public int nextId(int from) {
+        int word = from >>> 6;
+        if (from < 0 || word >= words.length) return -1;
+
+        long bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) return (word << 6) + Long.numberOfTrailingZeros(bits);
+            if (++word == words.length) return -1;
+            bits = words[word];
+        }
+    }
+
+    @Override
+    public int size() {
+        return order.length;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= order.length) {
+            throw new IndexOutOfBoundsException("태그 위치가 범위를 벗어났습니다: " + index + " / " + order.length);
+        }
+        return FlavorTags.nameOf(order[index]);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < order.length;
+            }
+
+            @Override
+            public String next() {
+                if (next >= order.length) throw new NoSuchElementException();
+                return FlavorTags.nameOf(order[next++]);
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof String name && containsId(FlavorTags.find(name));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof FlavorTagSet other) return Arrays.equals(order, other.order);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // List 규약 해시 (태그 문자열 기준), 한 번만 계산
+        int h = hash;
+        if (h == 0 && order.length > 0) {
+            h = super.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * 집합을 만드는 가변 빌더 (스레드 간 공유하지 않음)
+     */
+    public static final class Builder {
+        private long[] words = new long[1];
+        private int[] order = new int[8];
+        private int size;
+
+        private Builder() {
+        }
+
+        /** 이미 있는 태그는 처음 위치를 유지 */
+        public Builder add(int id) {
+            if (id < 0) {
+                throw new IllegalArgumentException("태그 id 는 0 이상이어야 합니다: " + id);
+            }
+            int word = id >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+            }
+            long bit = 1L << id;
+            if ((words[word] & bit) != 0) return this;
+
+            words[word] |= bit;
+            if (size == order.length) {
+                order = Arrays.copyOf(order, size * 2);
+            }
+            order[size++] = id;
+            return this;
+        }
+
+        public Builder add(String name) {
+            return add(FlavorTags.idOf(name));
+        }
+
+        public Builder addAll(FlavorTagSet set) {
+            for (int id : set.order) {
+                add(id);
+            }
+            return this;
+        }
+
+        public FlavorTagSet build() {
+            if (size == 0) return EMPTY;
+            return new FlavorTagSet(words.clone(), Arrays.copyOf(order, size));
+        }
+    }
+}
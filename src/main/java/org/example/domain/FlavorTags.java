@@ -0,0 +1,85 @@
+package org.example.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 풍미 태그 레지스트리 (태그 문자열 <-> 작은 정수 id)
+ * 분석기 태그는 미리 등록된 상수를 쓰고, 홉 태그 등 그 밖의 태그는 처음 쓰일 때 등록된다.
+ * 등록된 id 는 프로세스가 끝날 때까지 바뀌지 않는다. (프로세스 간에는 같다는 보장이 없으므로 저장할 때는 문자열을 쓴다)
+ * 조회는 잠금 없이, 등록만 잠금을 잡으므로 여러 스레드에서 사용해도 안전하다.
+ */
+public final class FlavorTags {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    // id -> 이름, 용량이 차면 두 배로 늘린 사본으로 교체 (count 까지만 유효)
+    private static volatile String[] names = new String[64];
+    private static volatile int count;
+
+    // FlavorAnalyzer 태그 (출력 순서는 FlavorTagSet 에 추가한 순서를 따르므로 id 순서와는 무관)
+    // 밸런스
+    public static final int AGGRESSIVELY_BITTER = idOf("Aggressively Bitter");
+    public static final int HOPPY = idOf("Hoppy");
+    public static final int MALTY_SWEETNESS = idOf("Malty Sweetness");
+    // 재료 구성
+    public static final int ROASTY = idOf("Roasty");
+    public static final int COFFEE = idOf("Coffee");
+    public static final int HEAVY_BODY = idOf("Heavy Body");
+    public static final int JUICE_BOMB = idOf("Juice Bomb");
+    public static final int VERY_HOPPY = idOf("Very Hoppy");
+    // 이취
+    public static final int FUSEL_ALCOHOL = idOf("⚠\uFE0F Fusel Alcohol");
+    public static final int DMS = idOf("⚠\uFE0F DMS");
+    public static final int ACETALDEHYDE = idOf("⚠\uFE0F Green Apple (Acetaldehyde)");
+    public static final int BUTTERY_DIACETYL = idOf("⚠\uFE0F Buttery (Diacetyl)");
+    // 효모 특성
+    public static final int STEAM_BEER_CHARACTER = idOf("Steam Beer Character");
+    public static final int BANANA = idOf("Banana");
+    public static final int CLOVE = idOf("Clove");
+
+    private FlavorTags() {
+    }
+
+    /** 태그 id (처음 보는 태그면 새로 등록) */
+    public static int idOf(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("태그 이름이 없습니다");
+        }
+        Integer id = IDS.get(name);
+        return (id != null) ? id : register(name);
+    }
+
+    /** 등록된 태그 id, 없으면 -1 (등록하지 않음) */
+    public static int find(String name) {
+        Integer id = (name == null) ? null : IDS.get(name);
+        return (id != null) ? id : -1;
+    }
+
+    public static String nameOf(int id) {
+        if (id < 0 || id >= count) {
+            throw new IllegalArgumentException("등록되지 않은 태그 id 입니다: " + id);
+        }
+        return names[id];
+    }
+
+    /** 등록된 태그 수 (id 는 0 ~ size-1) */
+    public static int size() {
+        return count;
+    }
+
+    private static synchronized int register(String name) {
+        Integer existing = IDS.get(name);
+        if (existing != null) return existing;
+
+        // 이름과 개수를 먼저 공개한 뒤 id 를 공개해야 다른 스레드가 id 로 이름을 찾을 수 있다
+        int id = count;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+        }
+        names[id] = name;
+        count = id + 1;
+        IDS.put(name, id);
+        return id;
+    }
+}
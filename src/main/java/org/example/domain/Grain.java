@@ -1,10 +1,42 @@
 package org.example.domain;
 
+import org.example.domain.enums.GrainCategory;
+import org.example.domain.enums.GrainTrait;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /** 몰트 원재료
  * @param name 이름
  * @param potential 잠재 비중
+ * @param category 몰트 분류 (없으면 이름으로 추정)
+ * @param traits 풍미 분석용 특성, 여러 개일 수 있음 (없으면 이름과 분류로 추정)
  */
-public record Grain(String name, double potential, double lovibond) {
-}
+public record Grain(String name, double potential, double lovibond, GrainCategory category, Set<GrainTrait> traits) {
 
+    public Grain {
+        if (category == null) category = GrainCategory.infer(name);
+        if (traits == null) {
+            traits = GrainTrait.infer(name, category);
+        } else {
+            EnumSet<GrainTrait> copy = EnumSet.noneOf(GrainTrait.class);
+            copy.addAll(traits);
+            traits = Collections.unmodifiableSet(copy);
+        }
+    }
 
+    /** 특성을 이름과 분류로 추정 */
+    public Grain(String name, double potential, double lovibond, GrainCategory category) {
+        this(name, potential, lovibond, category, null);
+    }
+
+    /** 분류와 특성을 이름으로 추정 */
+    public Grain(String name, double potential, double lovibond) {
+        this(name, potential, lovibond, null, null);
+    }
+
+    public boolean hasTrait(GrainTrait trait) {
+        return traits.contains(trait);
+    }
+}
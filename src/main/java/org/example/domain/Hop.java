@@ -5,7 +5,15 @@ import java.util.List;
 /** 홉 원재료
  * @param name 홉 이름
  * @param alphaAcid 알파산 함량 (%)
- * flavorTags 홉 플레이버 태그
+ * @param flavorTags 홉 플레이버 태그 (FlavorTags id 집합, 생성 시 한 번 등록)
  */
-public record Hop(String name, double alphaAcid, List<String> flavorTags) {
-}
\ No newline at end of file
+public record Hop(String name, double alphaAcid, FlavorTagSet flavorTags) {
+
+    public Hop {
+        if (flavorTags == null) flavorTags = FlavorTagSet.empty();
+    }
+
+    public Hop(String name, double alphaAcid, List<String> flavorTags) {
+        this(name, alphaAcid, flavorTags == null ? FlavorTagSet.empty() : FlavorTagSet.of(flavorTags));
+    }
+}
@@ -1,35 +1,77 @@
 package org.example.domain;
 
+import org.example.domain.enums.GrainTrait;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
+/**
+ * 레시피 (몰트, 홉, 효모 구성)
+ * 기본 인스턴스는 재료를 추가하며 만드는 작성용 객체이고, freeze() 로 변경 불가능한 사본을 만들 수 있다.
+ * 동결된 레시피는 hashCode 와 지문을 미리 계산해 두며, 복사나 잠금 없이 여러 스레드에서 공유하거나 캐시 키로 쓸 수 있다.
+ * equals/hashCode 는 내용 기준이다. (동결 여부는 비교하지 않음)
+ */
 public class Recipe {
 
-    private final List<GrainItem> grainItems = new ArrayList<>();
-    private final List<HopItem> hopItems = new ArrayList<>();
+    private final List<GrainItem> grainItems;
+    private final List<HopItem> hopItems;
+    // 외부에는 읽기 전용 뷰만 노출
+    private final List<GrainItem> grainView;
+    private final List<HopItem> hopView;
 
     private final double batchSizeLiters;
     private final double efficiency;
 
     private YeastItem yeastItem;
+    // 동결된 레시피는 final 필드로 보관 (다른 스레드에 안전하게 공개되도록)
+    private final YeastItem frozenYeastItem;
+
+    private final boolean frozen;
+    private final int frozenHash;
+    private final long frozenFingerprint;
 
     public Recipe(double batchSizeLiters, double efficiency) {
         this.batchSizeLiters = batchSizeLiters;
         this.efficiency = efficiency;
+        this.grainItems = new ArrayList<>();
+        this.hopItems = new ArrayList<>();
+        this.grainView = Collections.unmodifiableList(grainItems);
+        this.hopView = Collections.unmodifiableList(hopItems);
+        this.frozenYeastItem = null;
+        this.frozen = false;
+        this.frozenHash = 0;
+        this.frozenFingerprint = 0L;
+    }
+
+    private Recipe(Recipe source) {
+        this.batchSizeLiters = source.batchSizeLiters;
+        this.efficiency = source.efficiency;
+        this.grainItems = List.copyOf(source.grainItems);
+        this.hopItems = List.copyOf(source.hopItems);
+        this.grainView = grainItems;
+        this.hopView = hopItems;
+        this.frozenYeastItem = source.yeastItem;
+        this.frozen = true;
+        this.frozenHash = computeHashCode();
+        this.frozenFingerprint = computeFingerprint();
     }
 
     public void addMalt(Grain grain, double weightKg) {
+        checkMutable();
         this.grainItems.add(new GrainItem(grain, weightKg));
     }
 
     public void addHop(Hop hop, double amountGrams, int boilTimeMinutes) {
+        checkMutable();
         this.hopItems.add(new HopItem(hop, amountGrams, boilTimeMinutes));
     }
 
 
-    public List<GrainItem> getGrainItems() { return grainItems; }
-    public List<HopItem> getHopItems() { return hopItems; }
-    public YeastItem getYeastItem() { return yeastItem; }
+    public List<GrainItem> getGrainItems() { return grainView; }
+    public List<HopItem> getHopItems() { return hopView; }
+    public YeastItem getYeastItem() { return frozen ? frozenYeastItem : yeastItem; }
     public double getBatchSizeLiters() { return batchSizeLiters; }
     public double getEfficiency() { return efficiency; }
 
@@ -38,6 +80,131 @@ public class Recipe {
 //    }
 
     public void setYeastItem(YeastItem yeastItem) {
+        checkMutable();
         this.yeastItem = yeastItem;
     }
+
+    /**
+     * 현재 구성으로 변경 불가능한 레시피 생성 (이미 동결된 레시피는 그대로 반환)
+     * 이후 원본을 수정해도 동결된 사본에는 반영되지 않는다.
+     */
+    public Recipe freeze() {
+        return frozen ? this : new Recipe(this);
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("동결된 레시피는 수정할 수 없습니다");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Recipe other)) return false;
+        if (frozen && other.frozen && frozenHash != other.frozenHash) return false;
+        return Double.compare(batchSizeLiters, other.batchSizeLiters) == 0
+                && Double.compare(efficiency, other.efficiency) == 0
+                && grainItems.equals(other.grainItems)
+                && hopItems.equals(other.hopItems)
+                && Objects.equals(getYeastItem(), other.getYeastItem());
+    }
+
+    @Override
+    public int hashCode() {
+        return frozen ? frozenHash : computeHashCode();
+    }
+
+    private int computeHashCode() {
+        return Objects.hash(batchSizeLiters, efficiency, grainItems, hopItems, getYeastItem());
+    }
+
+    /**
+     * 레시피 내용 기반 64비트 지문 (캐시 키용)
+     * 재료 이름/수치, 배치 용량, 효율, 효모 정보가 같으면 인스턴스가 달라도 같은 값이 나온다.
+     * 재료 추가 순서도 지문에 반영된다. 동결된 레시피는 미리 계산된 값을 반환하고, 그 외에는 매번 전체 재료를 순회한다.
+     */
+    public long fingerprint() {
+        return frozen ? frozenFingerprint : computeFingerprint();
+    }
+
+    private long computeFingerprint() {
+        long h = FNV_OFFSET;
+        h = mix(h, batchSizeLiters);
+        h = mix(h, efficiency);
+
+        h = mix(h, grainItems.size());
+        for (GrainItem item : grainItems) {
+            h = mix(h, item.grain().name());
+            h = mix(h, item.grain().potential());
+            h = mix(h, item.grain().lovibond());
+            h = mix(h, item.grain().category().code());
+            h = mix(h, GrainTrait.mask(item.grain().traits()));
+            h = mix(h, item.weightKg());
+        }
+
+        h = mix(h, hopItems.size());
+        for (HopItem item : hopItems) {
+            h = mix(h, item.hop().name());
+            h = mix(h, item.hop().alphaAcid());
+            // 태그는 집합이고 나열 순서(id 순)는 프로세스마다 다를 수 있으므로 순서와 무관하게 합산
+            h = mix(h, item.hop().flavorTags().size());
+            long tags = 0;
+            for (String tag : item.hop().flavorTags()) {
+                tags += mix(FNV_OFFSET, tag);
+            }
+            h = mix(h, tags);
+            h = mix(h, item.amountGrams());
+            h = mix(h, item.boilTimeMinutes());
+        }
+
+        YeastItem yeastItem = getYeastItem();
+        if (yeastItem == null) {
+            h = mix(h, 0L);
+        } else {
+            Yeast yeast = yeastItem.yeast();
+            h = mix(h, 1L);
+            h = mix(h, yeast.name());
+            h = mix(h, yeast.attenuation());
+            h = mix(h, yeast.type().code());
+            h = mix(h, yeast.form().code());
+            h = mix(h, yeast.minTemp());
+            h = mix(h, yeast.maxTemp());
+            h = mix(h, yeast.sensitivityFactor());
+            h = mix(h, yeastItem.amount());
+            h = mix(h, yeastItem.amountIsWeight() ? 1L : 0L);
+            h = mix(h, yeastItem.timesCultured());
+            h = mix(h, yeastItem.ageInMonths());
+            h = mix(h, yeastItem.addToSecondary() ? 1L : 0L);
+        }
+
+        // 마지막에 비트를 한 번 더 섞어 하위 비트 편향 제거 (splitmix64 finalizer)
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private static long mix(long h, long value) {
+        return (h ^ value) * FNV_PRIME;
+    }
+
+    private static long mix(long h, double value) {
+        // -0.0 과 0.0 은 같은 값으로 취급
+        return mix(h, Double.doubleToLongBits(value == 0.0 ? 0.0 : value));
+    }
+
+    private static long mix(long h, String value) {
+        h = mix(h, (long) value.length());
+        for (int i = 0; i < value.length(); i++) {
+            h = mix(h, (long) value.charAt(i));
+        }
+        return h;
+    }
 }
\ No newline at end of file
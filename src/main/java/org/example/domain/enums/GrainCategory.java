@@ -0,0 +1,49 @@
+package org.example.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * 몰트 분류 (몰트 하나에 하나)
+ * 풍미 분석은 겹칠 수 있는 GrainTrait 를 보며, 분류는 특성을 추정할 때 이름 규칙과 함께 쓰인다.
+ */
+public enum GrainCategory {
+    // 코드는 저장 형식(카탈로그, 기록 파일)에 쓰이므로 순서를 바꿔도 유지하고 새 분류는 새 코드로 추가
+    BASE(0),       // 페일, 마리스 오터 등 기본 몰트
+    PILSNER(1),    // 필스너 (SMM 이 많아 긴 끓임 필요, DMS 분석 대상)
+    WHEAT(2),      // 밀 몰트
+    KILNED(3),     // 비엔나, 뮌헨, 비스킷 등 고온 건조 몰트
+    CRYSTAL(4),    // 크리스탈/카라멜 몰트
+    ROASTED(5),    // 초콜릿, 블랙, 로스티드 발리
+    ADJUNCT(6);    // 플레이크 귀리 등 부재료
+
+    private final int code;
+
+    GrainCategory(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public static GrainCategory fromCode(int code) {
+        for (GrainCategory category : values()) {
+            if (category.code == code) return category;
+        }
+        throw new IllegalArgumentException("알 수 없는 몰트 분류 코드입니다: " + code);
+    }
+
+    /**
+     * 이름으로 분류 추정 (분류가 없는 외부 데이터용, 첫 번째로 맞는 키워드 기준)
+     * 카탈로그에 분류가 있으면 그 값을 쓰는 것이 정확하다. 여러 키워드가 겹치는 이름의 특성은 GrainTrait.infer 가 모두 붙인다.
+     */
+    public static GrainCategory infer(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.contains("roasted") || lower.contains("chocolate") || lower.contains("black")) return ROASTED;
+        if (lower.contains("crystal") || lower.contains("caramel")) return CRYSTAL;
+        if (lower.contains("pilsner")) return PILSNER;
+        if (lower.contains("wheat")) return WHEAT;
+        if (lower.contains("flaked")) return ADJUNCT;
+        return BASE;
+    }
+}
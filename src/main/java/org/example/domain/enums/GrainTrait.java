@@ -0,0 +1,68 @@
+package org.example.domain.enums;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 풍미 분석에 쓰이는 몰트 특성 (한 몰트가 여러 특성을 가질 수 있음, 예: Caramel Pilsner)
+ * 비트 값은 저장 형식에 기록되므로 바꾸지 않는다.
+ */
+public enum GrainTrait {
+    ROAST(1),           // 로스팅 몰트 (Roasty/Coffee 분석 대상)
+    CRYSTAL(1 << 1),    // 크리스탈/카라멜 몰트 (Heavy Body 분석 대상)
+    DMS_PRECURSOR(1 << 2); // SMM 이 많아 긴 끓임 필요 (DMS 분석 대상)
+
+    private final int bit;
+
+    GrainTrait(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * 이름과 분류로 특성 추정 (기존 이름 규칙과 같고, 키워드마다 따로 검사하므로 여러 특성이 함께 붙을 수 있다)
+     */
+    public static Set<GrainTrait> infer(String name, GrainCategory category) {
+        EnumSet<GrainTrait> traits = EnumSet.noneOf(GrainTrait.class);
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (category == GrainCategory.ROASTED
+                || lower.contains("roasted") || lower.contains("chocolate") || lower.contains("black")) {
+            traits.add(ROAST);
+        }
+        if (category == GrainCategory.CRYSTAL || lower.contains("crystal") || lower.contains("caramel")) {
+            traits.add(CRYSTAL);
+        }
+        if (category == GrainCategory.PILSNER || lower.contains("pilsner")) {
+            traits.add(DMS_PRECURSOR);
+        }
+        return Collections.unmodifiableSet(traits);
+    }
+
+    /** 특성 비트 합 */
+    public static int mask(Set<GrainTrait> traits) {
+        int mask = 0;
+        for (GrainTrait trait : traits) {
+            mask |= trait.bit;
+        }
+        return mask;
+    }
+
+    public static Set<GrainTrait> fromMask(int mask) {
+        EnumSet<GrainTrait> traits = EnumSet.noneOf(GrainTrait.class);
+        for (GrainTrait trait : values()) {
+            if ((mask & trait.bit) != 0) {
+                traits.add(trait);
+                mask &= ~trait.bit;
+            }
+        }
+        if (mask != 0) {
+            throw new IllegalArgumentException("알 수 없는 몰트 특성 비트입니다: " + Integer.toBinaryString(mask));
+        }
+        return Collections.unmodifiableSet(traits);
+    }
+}
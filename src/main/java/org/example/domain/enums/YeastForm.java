@@ -1,6 +1,24 @@
 package org.example.domain.enums;
 
 public enum YeastForm {
-    LIQUID, DRY, SLANT, CULTURE
+    // 코드는 저장 형식에 쓰이므로 고정
+    LIQUID(0), DRY(1), SLANT(2), CULTURE(3);
     //slant - 한천 사면 배양, 배지에 보관용, 여러개의 스타터 가능 / culture - 하우스 이스트
+
+    private final int code;
+
+    YeastForm(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public static YeastForm fromCode(int code) {
+        for (YeastForm form : values()) {
+            if (form.code == code) return form;
+        }
+        throw new IllegalArgumentException("알 수 없는 효모 형태 코드입니다: " + code);
+    }
 }
@@ -1,6 +1,23 @@
 package org.example.domain.enums;
 
 public enum YeastType {
-    ALE, LAGER, WHEAT
-}
+    // 코드는 저장 형식에 쓰이므로 고정
+    ALE(0), LAGER(1), WHEAT(2);
+
+    private final int code;
+
+    YeastType(int code) {
+        this.code = code;
+    }
 
+    public int code() {
+        return code;
+    }
+
+    public static YeastType fromCode(int code) {
+        for (YeastType type : values()) {
+            if (type.code == code) return type;
+        }
+        throw new IllegalArgumentException("알 수 없는 효모 종류 코드입니다: " + code);
+    }
+}
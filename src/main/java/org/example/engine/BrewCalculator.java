@@ -2,8 +2,13 @@ package org.example.engine;
 
 import org.example.domain.FlavorProfile;
 import org.example.domain.Recipe;
+import org.example.metrics.LatencyHistogram;
+import org.example.metrics.MetricsRegistry;
 
-
+/**
+ * 레시피 계산 진입점
+ * 하위 엔진들은 상태를 갖지 않으므로 여러 스레드에서 하나의 인스턴스를 공유해도 안전하다. (레시피는 읽기만 함)
+ */
 public class BrewCalculator {
 
 
@@ -12,14 +17,97 @@ public class BrewCalculator {
     private final FermentationEngine fermentationEngine = new FermentationEngine();
     private final FlavorAnalyzer flavorAnalyzer = new FlavorAnalyzer();
 
+    // 풍미 예측 캐시 (null 이면 매번 계산)
+    private final FlavorProfileCache flavorCache;
+
+    // 호출별 소요 시간 (측정하지 않으면 모두 null)
+    private final LatencyHistogram metricsTimer;
+    private final LatencyHistogram ogTimer;
+    private final LatencyHistogram fgTimer;
+    private final LatencyHistogram fgGridTimer;
+    private final LatencyHistogram ibuTimer;
+    private final LatencyHistogram srmTimer;
+    private final LatencyHistogram flavorTimer;
+
+    public BrewCalculator() {
+        this(null);
+    }
+
+    /**
+     * @param flavorCache 풍미 예측 결과를 공유할 캐시, 여러 계산기/시뮬레이터에서 같이 써도 된다
+     */
+    public BrewCalculator(FlavorProfileCache flavorCache) {
+        this(flavorCache, null);
+    }
+
+    /**
+     * @param metrics 호출별 소요 시간을 calculator.* 타이머로 기록할 지표 저장소 (null 이면 측정하지 않음)
+     */
+    public BrewCalculator(FlavorProfileCache flavorCache, MetricsRegistry metrics) {
+        this.flavorCache = flavorCache;
+        this.metricsTimer = MetricsRegistry.timer(metrics, "calculator.metrics");
+        this.ogTimer = MetricsRegistry.timer(metrics, "calculator.og");
+        this.fgTimer = MetricsRegistry.timer(metrics, "calculator.fg");
+        this.fgGridTimer = MetricsRegistry.timer(metrics, "calculator.fg_grid");
+        this.ibuTimer = MetricsRegistry.timer(metrics, "calculator.ibu");
+        this.srmTimer = MetricsRegistry.timer(metrics, "calculator.srm");
+        this.flavorTimer = MetricsRegistry.timer(metrics, "calculator.flavor");
+    }
+
+    /**
+     * OG, SRM, IBU 와 재료 비율을 한 번의 순회로 계산
+     * 같은 레시피로 여러 값을 구할 때는 이 결과를 받아 아래 metrics 오버로드에 넘긴다.
+     */
+    public RecipeMetrics calculateMetrics(Recipe recipe) {
+        long start = LatencyHistogram.startTime(metricsTimer);
+        RecipeMetrics metrics = RecipeMetrics.of(recipe);
+        LatencyHistogram.recordSince(metricsTimer, start);
+        return metrics;
+    }
+
     public double calculateOG(Recipe recipe) {
-        return densityEngine.calculateOG(recipe);
+        long start = LatencyHistogram.startTime(ogTimer);
+        double og = densityEngine.calculateOG(recipe);
+        LatencyHistogram.recordSince(ogTimer, start);
+        return og;
     }
 
     public double calculateFG(Recipe recipe, double fermentTemp, double mashTemp) {
         // FG 계산에는 OG가 필요하므로 비중 엔진에서 먼저 계산 후 전달
         double og = calculateOG(recipe);
-        return fermentationEngine.calculateFG(recipe, og, fermentTemp, mashTemp);
+        long start = LatencyHistogram.startTime(fgTimer);
+        double fg = fermentationEngine.calculateFG(recipe, og, fermentTemp, mashTemp);
+        LatencyHistogram.recordSince(fgTimer, start);
+        return fg;
+    }
+
+    public double calculateFG(Recipe recipe, RecipeMetrics metrics, double fermentTemp, double mashTemp) {
+        long start = LatencyHistogram.startTime(fgTimer);
+        double fg = fermentationEngine.calculateFG(recipe, metrics.og(), fermentTemp, mashTemp);
+        LatencyHistogram.recordSince(fgTimer, start);
+        return fg;
+    }
+
+    /**
+     * 발효 온도 x 당화 온도 FG/ABV 그리드 (피칭량은 레시피 값)
+     */
+    public FermentationGrid calculateFGGrid(Recipe recipe, double[] fermentTemps, double[] mashTemps) {
+        if (recipe.getYeastItem() == null) {
+            throw new IllegalArgumentException("효모가 지정되지 않은 레시피입니다");
+        }
+        return calculateFGGrid(recipe, fermentTemps, mashTemps, new double[]{recipe.getYeastItem().amount()});
+    }
+
+    /**
+     * 발효 온도 x 당화 온도 x 피칭량 FG/ABV 그리드, OG 는 한 번만 계산
+     */
+    public FermentationGrid calculateFGGrid(Recipe recipe, double[] fermentTemps, double[] mashTemps,
+                                           double[] pitchAmounts) {
+        double og = calculateOG(recipe);
+        long start = LatencyHistogram.startTime(fgGridTimer);
+        FermentationGrid grid = fermentationEngine.calculateFGGrid(recipe, og, fermentTemps, mashTemps, pitchAmounts);
+        LatencyHistogram.recordSince(fgGridTimer, start);
+        return grid;
     }
 
     public double calculateABV(double og, double fg) {
@@ -28,19 +116,44 @@ public class BrewCalculator {
 
     public double calculateIBU(Recipe recipe) {
         double og = calculateOG(recipe);
-        return sensoryEngine.calculateIBU(recipe, og);
+        long start = LatencyHistogram.startTime(ibuTimer);
+        double ibu = sensoryEngine.calculateIBU(recipe, og);
+        LatencyHistogram.recordSince(ibuTimer, start);
+        return ibu;
     }
 
     public double calculateSRM(Recipe recipe) {
-        return sensoryEngine.calculateSRM(recipe);
+        long start = LatencyHistogram.startTime(srmTimer);
+        double srm = sensoryEngine.calculateSRM(recipe);
+        LatencyHistogram.recordSince(srmTimer, start);
+        return srm;
     }
 
     public FlavorProfile predictFlavorProfile(Recipe recipe, double fermentTemp) {
+        return predictFlavorProfile(recipe, calculateMetrics(recipe), fermentTemp);
+    }
 
-        double og = densityEngine.calculateOG(recipe);
-        double ibu = sensoryEngine.calculateIBU(recipe, og);
+    public FlavorProfile predictFlavorProfile(Recipe recipe, RecipeMetrics metrics, double fermentTemp) {
+        long fingerprint = (flavorCache == null) ? 0L : recipe.fingerprint();
+        return predictFlavorProfile(recipe, metrics, fingerprint, fermentTemp);
+    }
+
+    /**
+     * 레시피 지문을 미리 구해 둔 경우 (시뮬레이션처럼 같은 레시피로 반복 호출할 때)
+     * 캐시가 있으면 캐시의 온도 양자화 단위로 반올림한 온도로 계산한다. (측정 시간은 캐시 적중 포함)
+     */
+    public FlavorProfile predictFlavorProfile(Recipe recipe, RecipeMetrics metrics, long recipeFingerprint,
+                                              double fermentTemp) {
+        long start = LatencyHistogram.startTime(flavorTimer);
+        FlavorProfile profile = (flavorCache == null)
+                ? flavorAnalyzer.analyze(recipe, metrics, fermentTemp)
+                : flavorCache.get(recipeFingerprint, fermentTemp, temp -> flavorAnalyzer.analyze(recipe, metrics, temp));
+        LatencyHistogram.recordSince(flavorTimer, start);
+        return profile;
+    }
 
-        return flavorAnalyzer.analyze(recipe, og, ibu, fermentTemp);
+    public FlavorProfileCache getFlavorCache() {
+        return flavorCache;
     }
 
 }
\ No newline at end of file
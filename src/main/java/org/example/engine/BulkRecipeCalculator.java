@@ -0,0 +1,111 @@
+package org.example.engine;
+
+/**
+ * 원시 배열 컬럼(RecipeColumns)으로 펼친 레시피 묶음의 OG, SRM, IBU 대량 계산
+ * 몰트/홉 1종 계산식은 DensityEngine, SensoryEngine 과 같은 함수를 쓰고, 합산 순서도 같으므로
+ * 레시피를 하나씩 계산한 결과와 비트 단위로 같다.
+ * 홉 끓임 시간 계수와 레시피별 OG 보정 계수는 한 번만 계산하고, 내부 루프는 객체 없이 연속 배열만 순회한다.
+ * 상태가 없으므로 여러 스레드에서 서로 다른 범위를 동시에 계산해도 안전하다.
+ */
+public class BulkRecipeCalculator {
+
+    /**
+     * 전체 레시피 계산
+     * 결과는 og, srm, ibu 배열의 같은 인덱스에 저장 (길이 recipes.size() 이상)
+     */
+    public void calculate(RecipeColumns recipes, double[] og, double[] srm, double[] ibu) {
+        calculate(recipes, 0, recipes.size, og, srm, ibu);
+    }
+
+    /**
+     * [from, to) 범위 레시피만 계산 (호출부에서 범위를 나눠 병렬 처리할 때 사용)
+     */
+    public void calculate(RecipeColumns recipes, int from, int to, double[] og, double[] srm, double[] ibu) {
+        if (from < 0 || to > recipes.size || from > to) {
+            throw new IndexOutOfBoundsException("범위를 벗어났습니다: [" + from + ", " + to + ") size=" + recipes.size);
+        }
+        if (og.length < to || srm.length < to || ibu.length < to) {
+            throw new IllegalArgumentException("결과 배열 길이가 부족합니다: " + to);
+        }
+        calculateGravityAndColor(recipes, from, to, og, srm);
+        calculateBitterness(recipes, from, to, og, ibu);
+    }
+
+    public double[] calculateOG(RecipeColumns recipes) {
+        double[] og = new double[recipes.size];
+        calculateGravityAndColor(recipes, 0, recipes.size, og, null);
+        return og;
+    }
+
+    public double[] calculateSRM(RecipeColumns recipes) {
+        double[] srm = new double[recipes.size];
+        calculateGravityAndColor(recipes, 0, recipes.size, null, srm);
+        return srm;
+    }
+
+    /**
+     * @param og calculateOG 결과 (IBU 의 OG 보정용)
+     */
+    public double[] calculateIBU(RecipeColumns recipes, double[] og) {
+        if (og.length < recipes.size) {
+            throw new IllegalArgumentException("OG 배열 길이가 부족합니다: " + og.length);
+        }
+        double[] ibu = new double[recipes.size];
+        calculateBitterness(recipes, 0, recipes.size, og, ibu);
+        return ibu;
+    }
+
+    // 몰트 순회 1번으로 OG 와 SRM 동시 계산 (결과 배열이 null 이면 해당 값은 저장하지 않음)
+    private void calculateGravityAndColor(RecipeColumns c, int from, int to, double[] og, double[] srm) {
+        final double[] potential = c.grainPotential;
+        final double[] lovibond = c.grainLovibond;
+        final double[] weight = c.grainWeightKg;
+        final int[] offsets = c.grainOffsets;
+
+        for (int r = from; r < to; r++) {
+            double efficiency = c.efficiency[r];
+            double batchSizeGallons = c.batchSizeLiters[r] * SensoryEngine.LITER_TO_GALLONS;
+            int end = offsets[r + 1];
+
+            double totalPoints = 0;
+            double mcu = 0;
+            for (int g = offsets[r]; g < end; g++) {
+                totalPoints += DensityEngine.calculatePoints(potential[g], weight[g], efficiency);
+                mcu += SensoryEngine.calculateColorUnits(weight[g], lovibond[g], batchSizeGallons);
+            }
+
+            if (og != null) og[r] = DensityEngine.toGravity(totalPoints, c.batchSizeLiters[r]);
+            if (srm != null) srm[r] = SensoryEngine.toSRM(mcu);
+        }
+    }
+
+    private void calculateBitterness(RecipeColumns c, int from, int to, double[] og, double[] ibu) {
+        final double[] alpha = c.hopAlphaAcid;
+        final double[] amount = c.hopAmountGrams;
+        final int[] boil = c.hopBoilMinutes;
+        final int[] offsets = c.hopOffsets;
+
+        // 끓임 시간 계수는 OG 와 무관하므로 범위 내 홉마다 한 번만 계산 (연속 배열 1회 순회)
+        int hopFrom = offsets[from];
+        int hopTo = offsets[to];
+        double[] boilFactor = new double[hopTo - hopFrom];
+        for (int h = hopFrom; h < hopTo; h++) {
+            boilFactor[h - hopFrom] = (boil[h] <= 0) ? 0.0 : SensoryEngine.calculateBoilTimeFactor(boil[h]);
+        }
+
+        for (int r = from; r < to; r++) {
+            double batchSize = c.batchSizeLiters[r];
+            // 레시피당 pow 1번
+            double bigness = SensoryEngine.calculateBignessFactor(og[r]);
+            int end = offsets[r + 1];
+
+            double total = 0;
+            for (int h = offsets[r]; h < end; h++) {
+                double factor = boilFactor[h - hopFrom];
+                double utilization = (factor == 0.0) ? 0.0 : bigness * factor;
+                total += SensoryEngine.calculateHopIBU(amount[h], alpha[h], utilization, batchSize);
+            }
+            ibu[r] = total;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.engine;
+
+import org.example.domain.Yeast;
+
+/**
+ * 일정 온도 구간의 1차 반응 속도식을 해석해(exact solution)로 한 번에 진행시키는 풀이기
+ * 온도가 일정하면 G(t) = FG + (G0 - FG) * exp(-k * t), D(t) = D0 * exp(-k_d * t) 이므로
+ * 구간 길이와 무관하게 exp 계산 두 번으로 끝난다. (스텝 수 = 구간 수)
+ */
+public class ClosedFormKineticsSolver implements KineticsIntegrator {
+
+    private final FermentationPhysics physics = new FermentationPhysics();
+    private final HopChemistryEngine hopChemistry = new HopChemistryEngine();
+
+    @Override
+    public int advance(double[] state, double hours, double temp, Yeast yeast, double targetFG) {
+        if (hours <= 0) return 0;
+
+        double remainingSugar = state[GRAVITY] - targetFG;
+        if (remainingSugar > 0) {
+            double rate = physics.calculateRateConstant(temp, yeast);
+            state[GRAVITY] = targetFG + remainingSugar * Math.exp(-rate * hours);
+        }
+
+        double diacetyl = state[DIACETYL];
+        if (diacetyl > 0) {
+            double rate = hopChemistry.calculateDiacetylRateConstant(temp);
+            state[DIACETYL] = diacetyl * Math.exp(-rate * hours);
+        }
+        return 1;
+    }
+
+    /**
+     * 일정 온도에서 남은 양이 tolerance 이하로 떨어지기까지 걸리는 시간
+     * @param remaining 현재 남은 양 (남은 당분 또는 디아세틸)
+     * @param rate 1차 반응 속도 상수 (시간당)
+     * @return 소요 시간, 이미 도달했으면 0, 반응이 멈춘 온도면 무한대
+     */
+    public static double hoursToReach(double remaining, double tolerance, double rate) {
+        if (remaining <= tolerance) return 0.0;
+        if (rate <= 0) return Double.POSITIVE_INFINITY;
+        return Math.log(remaining / tolerance) / rate;
+    }
+}
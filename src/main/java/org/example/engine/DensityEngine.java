@@ -10,12 +10,26 @@ public class DensityEngine {
         double totalPoints = 0;
 
         for (GrainItem item : recipe.getGrainItems()) {
-            double pointsPerKg = (item.grain().potential() - 1) * 1000;
             // 각 몰트별 (포인트 * 무게 * 전체 효율)을 합산
-            totalPoints += (pointsPerKg * item.weightKg() * recipe.getEfficiency());
+            totalPoints += calculatePoints(item, recipe.getEfficiency());
         }
 
-        return 1 + (totalPoints / (recipe.getBatchSizeLiters() * 1000));
+        return toGravity(totalPoints, recipe.getBatchSizeLiters());
+    }
+
+    /** 몰트 1종의 추출 포인트 (포인트 * 무게 * 효율) */
+    static double calculatePoints(GrainItem item, double efficiency) {
+        return calculatePoints(item.grain().potential(), item.weightKg(), efficiency);
+    }
+
+    static double calculatePoints(double potential, double weightKg, double efficiency) {
+        double pointsPerKg = (potential - 1) * 1000;
+        return pointsPerKg * weightKg * efficiency;
+    }
+
+    /** 누적 포인트를 비중으로 환산 */
+    static double toGravity(double totalPoints, double batchSizeLiters) {
+        return 1 + (totalPoints / (batchSizeLiters * 1000));
     }
 
 }
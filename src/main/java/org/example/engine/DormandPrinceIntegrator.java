@@ -0,0 +1,122 @@
+package org.example.engine;
+
+import org.example.domain.Yeast;
+
+/**
+ * 적응형 스텝 Dormand-Prince 5(4) 적분기
+ * FermentationPhysics 의 비중 감소 속도와 HopChemistryEngine 의 디아세틸 재흡수 속도를 하나의 연립 ODE 로 묶어 푼다.
+ * 내장된 4차 해와의 차이로 오차를 추정해 스텝 크기를 조절하므로, 변화가 거의 없는 후반 구간은 큰 스텝으로 건너뛴다.
+ */
+public class DormandPrinceIntegrator implements KineticsIntegrator {
+
+    // Butcher tableau (Dormand & Prince, 1980)
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561, A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247, A64 = 49.0 / 176,
+            A65 = -5103.0 / 18656;
+    private static final double B1 = 35.0 / 384, B3 = 500.0 / 1113, B4 = 125.0 / 192, B5 = -2187.0 / 6784, B6 = 11.0 / 84;
+    // 5차 해 - 4차 해 (오차 추정 계수)
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920, E5 = -17253.0 / 339200,
+            E6 = 22.0 / 525, E7 = -1.0 / 40;
+
+    private static final double SAFETY = 0.9;
+    private static final double MIN_SCALE = 0.2;
+    private static final double MAX_SCALE = 5.0;
+    private static final double MIN_STEP_HOURS = 1e-6;
+
+    private final FermentationPhysics physics = new FermentationPhysics();
+    private final HopChemistryEngine hopChemistry = new HopChemistryEngine();
+
+    private final double relativeTolerance;
+    private final double absoluteTolerance;
+
+    public DormandPrinceIntegrator() {
+        this(1e-6, 1e-9);
+    }
+
+    /**
+     * @param relativeTolerance 상대 오차 허용치 (남은 당분 / 디아세틸 기준)
+     * @param absoluteTolerance 절대 오차 허용치
+     */
+    public DormandPrinceIntegrator(double relativeTolerance, double absoluteTolerance) {
+        if (!(relativeTolerance > 0) || !(absoluteTolerance > 0)) {
+            throw new IllegalArgumentException("오차 허용치는 0보다 커야 합니다");
+        }
+        this.relativeTolerance = relativeTolerance;
+        this.absoluteTolerance = absoluteTolerance;
+    }
+
+    @Override
+    public int advance(double[] state, double hours, double temp, Yeast yeast, double targetFG) {
+        // 비중은 1.0 근처라 상대 오차가 무의미하므로, 남은 당분(G - FG)을 상태로 적분
+        double s = state[GRAVITY] - targetFG;
+        double d = state[DIACETYL];
+        if (hours <= 0 || (s <= 0 && d <= 0)) return 0;
+
+        double t = 0;
+        double h = hours;
+        int steps = 0;
+
+        while (t < hours) {
+            if (t + h > hours) h = hours - t;
+
+            double ks1 = sugarRate(s, temp, yeast, targetFG), kd1 = diacetylRate(d, temp);
+
+            double s2 = s + h * (A21 * ks1), d2 = d + h * (A21 * kd1);
+            double ks2 = sugarRate(s2, temp, yeast, targetFG), kd2 = diacetylRate(d2, temp);
+
+            double s3 = s + h * (A31 * ks1 + A32 * ks2), d3 = d + h * (A31 * kd1 + A32 * kd2);
+            double ks3 = sugarRate(s3, temp, yeast, targetFG), kd3 = diacetylRate(d3, temp);
+
+            double s4 = s + h * (A41 * ks1 + A42 * ks2 + A43 * ks3);
+            double d4 = d + h * (A41 * kd1 + A42 * kd2 + A43 * kd3);
+            double ks4 = sugarRate(s4, temp, yeast, targetFG), kd4 = diacetylRate(d4, temp);
+
+            double s5 = s + h * (A51 * ks1 + A52 * ks2 + A53 * ks3 + A54 * ks4);
+            double d5 = d + h * (A51 * kd1 + A52 * kd2 + A53 * kd3 + A54 * kd4);
+            double ks5 = sugarRate(s5, temp, yeast, targetFG), kd5 = diacetylRate(d5, temp);
+
+            double s6 = s + h * (A61 * ks1 + A62 * ks2 + A63 * ks3 + A64 * ks4 + A65 * ks5);
+            double d6 = d + h * (A61 * kd1 + A62 * kd2 + A63 * kd3 + A64 * kd4 + A65 * kd5);
+            double ks6 = sugarRate(s6, temp, yeast, targetFG), kd6 = diacetylRate(d6, temp);
+
+            double sNew = s + h * (B1 * ks1 + B3 * ks3 + B4 * ks4 + B5 * ks5 + B6 * ks6);
+            double dNew = d + h * (B1 * kd1 + B3 * kd3 + B4 * kd4 + B5 * kd5 + B6 * kd6);
+            double ks7 = sugarRate(sNew, temp, yeast, targetFG), kd7 = diacetylRate(dNew, temp);
+
+            double errS = h * (E1 * ks1 + E3 * ks3 + E4 * ks4 + E5 * ks5 + E6 * ks6 + E7 * ks7);
+            double errD = h * (E1 * kd1 + E3 * kd3 + E4 * kd4 + E5 * kd5 + E6 * kd6 + E7 * kd7);
+
+            double scaleS = absoluteTolerance + relativeTolerance * Math.max(Math.abs(s), Math.abs(sNew));
+            double scaleD = absoluteTolerance + relativeTolerance * Math.max(Math.abs(d), Math.abs(dNew));
+            double err = Math.max(Math.abs(errS) / scaleS, Math.abs(errD) / scaleD);
+
+            if (err <= 1.0 || h <= MIN_STEP_HOURS) {
+                t += h;
+                // 이미 목표 비중 아래(홉 크립 등)면 당분 항은 진행하지 않음
+                if (s > 0) s = Math.max(0.0, sNew);
+                d = Math.max(0.0, dNew);
+                steps++;
+            }
+
+            double scale = (err == 0) ? MAX_SCALE : SAFETY * Math.pow(err, -0.2);
+            h = Math.max(MIN_STEP_HOURS, h * Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale)));
+        }
+
+        state[GRAVITY] = targetFG + s;
+        state[DIACETYL] = d;
+        return steps;
+    }
+
+    // dS/dt = -k * S * TempFactor
+    private double sugarRate(double s, double temp, Yeast yeast, double targetFG) {
+        return -physics.calculateGravityDrop(targetFG + s, targetFG, temp, yeast);
+    }
+
+    // dD/dt = -k_d * D * TempFactor
+    private double diacetylRate(double d, double temp) {
+        return -hopChemistry.calculateDiacetylReduction(d, temp);
+    }
+}
@@ -6,6 +6,8 @@ import org.example.domain.YeastItem;
 import org.example.domain.enums.YeastForm;
 import org.example.domain.enums.YeastType;
 
+import java.util.stream.IntStream;
+
 public class FermentationEngine {
 
     // 리서치 기반 실제 세포 수 (보수적 수치보다 높음)
@@ -18,6 +20,9 @@ public class FermentationEngine {
     private static final double TARGET_RATE_LAGER = 1_500_000;
     private static final double TARGET_RATE_HYBRID = 1_000_000;
 
+    // 이 칸 수 이상인 FG 그리드는 병렬 계산
+    private static final int PARALLEL_GRID_CELLS = 16_384;
+
 
     public double calculateFG(Recipe recipe, double og, double fermentTemp, double mashTemp) {
         //double og = calculateOG(recipe);
@@ -34,8 +39,15 @@ public class FermentationEngine {
         double targetCells = calculateTargetCells(recipe, og); // 기존 메서드 활용
         double pitchRatio = (targetCells > 0) ? (viableCells / targetCells) : 0;
 
-        // 정밀 성장 곡선 계수 (k=4.5가 실제 데이터에 더 근접)
-        double pitchingEfficiency = 1.0 - Math.exp(-4.5 * pitchRatio);
+        return calculateFG(yeast, og, pitchRatio, fermentTemp, mashTemp);
+    }
+
+    /**
+     * 피칭 비율을 미리 구한 경우의 FG 계산 (레시피 없이 반복 호출하는 스윕/몬테카를로용)
+     * @param pitchRatio 실제 생존 세포 수 / 목표 세포 수
+     */
+    public double calculateFG(Yeast yeast, double og, double pitchRatio, double fermentTemp, double mashTemp) {
+        double pitchingEfficiency = calculatePitchingEfficiency(pitchRatio);
 
         double mashLimit = calculateMashEfficiency(mashTemp);
         double yeastPerformance = calculateYeastPerformance(yeast, fermentTemp);
@@ -63,6 +75,73 @@ public class FermentationEngine {
 //        double finalAttenuation = (potentialAttenuation * pitchingEfficiency)
 //                - tempStress
 //                - tolerancePenalty;
+        return calculateFinalGravity(yeast, og, mashLimit, pitchingEfficiency, yeastPerformance);
+    }
+
+    /**
+     * FG 그리드 계산 (발효 온도 x 당화 온도 x 피칭량)
+     * 축과 무관한 값(OG, 목표 세포 수, 효모 생존율)과 축마다 한 번만 필요한 값(당화 한계, 온도 수행률, 피칭 효율)을
+     * 미리 계산하고, 격자 안에서는 곱셈과 범위 제한만 수행한다. 결과는 calculateFG 를 하나씩 호출한 값과 같다.
+     * 격자가 크면 행 단위로 공용 ForkJoinPool 에서 병렬 계산한다.
+     * @param pitchAmounts 효모 투입량 축 (YeastItem.amount 와 같은 단위), 나머지 효모 정보는 레시피 값 사용
+     */
+    public FermentationGrid calculateFGGrid(Recipe recipe, double og, double[] fermentTemps, double[] mashTemps,
+                                            double[] pitchAmounts) {
+        YeastItem item = recipe.getYeastItem();
+        if (item == null) {
+            throw new IllegalArgumentException("효모가 지정되지 않은 레시피입니다");
+        }
+        Yeast yeast = item.yeast();
+
+        double[] yeastPerformance = new double[fermentTemps.length];
+        for (int f = 0; f < fermentTemps.length; f++) {
+            yeastPerformance[f] = calculateYeastPerformance(yeast, fermentTemps[f]);
+        }
+        double[] mashLimit = new double[mashTemps.length];
+        for (int m = 0; m < mashTemps.length; m++) {
+            mashLimit[m] = calculateMashEfficiency(mashTemps[m]);
+        }
+
+        double targetCells = calculateTargetCells(recipe, og);
+        double[] pitchingEfficiency = new double[pitchAmounts.length];
+        boolean[] pitched = new boolean[pitchAmounts.length];
+        for (int p = 0; p < pitchAmounts.length; p++) {
+            YeastItem pitch = new YeastItem(yeast, pitchAmounts[p], item.amountIsWeight(), item.timesCultured(),
+                    item.ageInMonths(), item.addToSecondary());
+            double viableCells = calculateViableCells(pitch);
+            double pitchRatio = (targetCells > 0) ? (viableCells / targetCells) : 0;
+            pitchingEfficiency[p] = calculatePitchingEfficiency(pitchRatio);
+            pitched[p] = pitchAmounts[p] > 0;
+        }
+
+        FermentationGrid grid = new FermentationGrid(og, fermentTemps, mashTemps, pitchAmounts);
+        int rows = pitchAmounts.length * fermentTemps.length;
+        IntStream rowRange = IntStream.range(0, rows);
+        if ((long) rows * mashTemps.length >= PARALLEL_GRID_CELLS) rowRange = rowRange.parallel();
+
+        // 행 = (피칭량, 발효 온도), 행 안에서 당화 온도 축을 연속으로 채움 (행마다 쓰는 구간이 겹치지 않음)
+        rowRange.forEach(row -> {
+            int p = row / fermentTemps.length;
+            int f = row % fermentTemps.length;
+            int base = row * mashTemps.length;
+            for (int m = 0; m < mashTemps.length; m++) {
+                double fg = pitched[p]
+                        ? calculateFinalGravity(yeast, og, mashLimit[m], pitchingEfficiency[p], yeastPerformance[f])
+                        : og;
+                grid.fg[base + m] = fg;
+                grid.abv[base + m] = calculateABV(og, fg);
+            }
+        });
+        return grid;
+    }
+
+    // 정밀 성장 곡선 계수 (k=4.5가 실제 데이터에 더 근접)
+    private double calculatePitchingEfficiency(double pitchRatio) {
+        return 1.0 - Math.exp(-4.5 * pitchRatio);
+    }
+
+    private double calculateFinalGravity(Yeast yeast, double og, double mashLimit, double pitchingEfficiency,
+                                         double yeastPerformance) {
         // === 종합 감쇄율 계산 ===
         // 기본 감쇄율 * 당화한계 * (피칭효율 * 온도수행률)
         double attenuation = yeast.attenuation() * mashLimit * (pitchingEfficiency * yeastPerformance);
@@ -158,7 +237,7 @@ public class FermentationEngine {
     /**
      * 2. 실제 살아있는 세포 수(Viable Cells) 계산
      */
-    private double calculateViableCells(YeastItem item) {
+    public double calculateViableCells(YeastItem item) {
         if (item == null || item.amount() <= 0) return 0;
 
         double baseCount = (item.yeast().form() == YeastForm.DRY)
@@ -186,19 +265,22 @@ public class FermentationEngine {
      * 공식: 배치용량(mL) * 초기비중(Plato) * 목표레이트
      */
     private double calculateTargetCells(Recipe recipe, double og) {
+        // Yeast 객체에 접근하기 위해 null 체크
+        if (recipe.getYeastItem() == null) return 0;
+
+        return calculateTargetCells(recipe.getYeastItem().yeast().type(), recipe.getBatchSizeLiters(), og);
+    }
+
+    public double calculateTargetCells(YeastType type, double batchSizeLiters, double og) {
         // 1. 초기 비중(OG)을 플라토(Plato) 단위로 변환
         // 근사식: (OG - 1) * 250 => 예: 1.050 -> 12.5 Plato
         // double og = calculateOG(recipe);
         double plato = (og - 1) * 250;
 
         // 2. 배치 용량을 mL로 변환
-        double batchMl = recipe.getBatchSizeLiters() * 1000;
+        double batchMl = batchSizeLiters * 1000;
 
         // 3. 효모 타입에 따른 목표 레이트 설정
-        // Yeast 객체에 접근하기 위해 null 체크
-        if (recipe.getYeastItem() == null) return 0;
-
-        YeastType type = recipe.getYeastItem().yeast().type();
         double targetRate;
 
         if (type == YeastType.LAGER) {
@@ -0,0 +1,70 @@
+package org.example.engine;
+
+/**
+ * FG/ABV 그리드 계산 결과 (밀집 원시 배열)
+ * 칸 순서는 [피칭량][발효 온도][당화 온도] 행 우선이며, 당화 온도 축이 가장 안쪽(연속)이다.
+ * index = (pitchIndex * fermentTemps + fermentIndex) * mashTemps + mashIndex
+ */
+public final class FermentationGrid {
+
+    private final double og;
+    private final double[] fermentTemps;
+    private final double[] mashTemps;
+    private final double[] pitchAmounts;
+
+    // FermentationEngine 이 직접 채움
+    final double[] fg;
+    final double[] abv;
+
+    FermentationGrid(double og, double[] fermentTemps, double[] mashTemps, double[] pitchAmounts) {
+        this.og = og;
+        this.fermentTemps = fermentTemps.clone();
+        this.mashTemps = mashTemps.clone();
+        this.pitchAmounts = pitchAmounts.clone();
+        int cells = Math.multiplyExact(Math.multiplyExact(fermentTemps.length, mashTemps.length), pitchAmounts.length);
+        this.fg = new double[cells];
+        this.abv = new double[cells];
+    }
+
+    public double og() { return og; }
+
+    public int fermentTempCount() { return fermentTemps.length; }
+    public int mashTempCount() { return mashTemps.length; }
+    public int pitchAmountCount() { return pitchAmounts.length; }
+    public int size() { return fg.length; }
+
+    public double fermentTempAt(int index) { return fermentTemps[index]; }
+    public double mashTempAt(int index) { return mashTemps[index]; }
+    public double pitchAmountAt(int index) { return pitchAmounts[index]; }
+
+    public int indexOf(int fermentIndex, int mashIndex, int pitchIndex) {
+        if (fermentIndex < 0 || fermentIndex >= fermentTemps.length
+                || mashIndex < 0 || mashIndex >= mashTemps.length
+                || pitchIndex < 0 || pitchIndex >= pitchAmounts.length) {
+            throw new IndexOutOfBoundsException("그리드 범위를 벗어났습니다: "
+                    + fermentIndex + ", " + mashIndex + ", " + pitchIndex);
+        }
+        return (pitchIndex * fermentTemps.length + fermentIndex) * mashTemps.length + mashIndex;
+    }
+
+    public double fgAt(int fermentIndex, int mashIndex, int pitchIndex) {
+        return fg[indexOf(fermentIndex, mashIndex, pitchIndex)];
+    }
+
+    public double abvAt(int fermentIndex, int mashIndex, int pitchIndex) {
+        return abv[indexOf(fermentIndex, mashIndex, pitchIndex)];
+    }
+
+    /** 피칭량 축이 1개인 2D 그리드용 */
+    public double fgAt(int fermentIndex, int mashIndex) {
+        return fgAt(fermentIndex, mashIndex, 0);
+    }
+
+    public double abvAt(int fermentIndex, int mashIndex) {
+        return abvAt(fermentIndex, mashIndex, 0);
+    }
+
+    // 전체 행렬 복사본 (분석/직렬화용)
+    public double[] fgMatrix() { return fg.clone(); }
+    public double[] abvMatrix() { return abv.clone(); }
+}
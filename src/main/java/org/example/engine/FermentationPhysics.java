@@ -36,16 +36,22 @@ public class FermentationPhysics {
         if (remainingSugar <= 0) return 0.0;
 
         // 2. [열역학] 온도에 따른 활성도 계수 (Arrhenius/Q10 Logic)
-        double tempFactor = calculateTemperatureFactor(temp, yeast);
-
         // 3. [반응 속도론] 최종 감소량 계산
         // dG/dt = k * [Sugar] * [TempFactor]
-        double drop = BASE_KINETIC_CONSTANT * remainingSugar * tempFactor;
+        double drop = calculateRateConstant(temp, yeast) * remainingSugar;
 
         // 4. [안전 장치] 한 번에 남은 당보다 많이 먹을 순 없음
         return Math.min(drop, remainingSugar);
     }
 
+    /**
+     * 1차 반응 속도 상수 k * TempFactor (시간당)
+     * 온도가 일정하면 남은 당분은 exp(-rate * t) 로 감소한다. (적분기/구간 해석 풀이용)
+     */
+    public double calculateRateConstant(double temp, Yeast yeast) {
+        return BASE_KINETIC_CONSTANT * calculateTemperatureFactor(temp, yeast);
+    }
+
     /**
      * 온도 계수 계산 (Q10 법칙 적용)
      * 온도가 낮아져도 0에 수렴할 뿐, 절대 음수가 되지 않음을 보장합니다.
@@ -14,6 +14,10 @@ public class FlavorAnalyzer {
     private static final double HIGH_ROAST_PERCENTAGE = 0.10; // 전체 곡물 중 10% 이상이 로스팅 몰트
     private static final double HIGH_CRYSTAL_PERCENTAGE = 0.20; // 20% 이상이 카라멜 몰트 (달고 끈적임 위험)
 
+    // 발효 온도 관련 이취 경고 태그 (스케줄 최적화 제약 조건에서 참조)
+    public static final String FUSEL_ALCOHOL_TAG = FlavorTags.nameOf(FlavorTags.FUSEL_ALCOHOL);
+    public static final String ACETALDEHYDE_TAG = FlavorTags.nameOf(FlavorTags.ACETALDEHYDE);
+
     /**
      * 종합 풍미 및 결함 분석
      * @param recipe 레시피 (재료 정보)
@@ -22,29 +26,41 @@ public class FlavorAnalyzer {
      * @param fermentTemp 발효 온도 (이취 분석용)
      */
     public FlavorProfile analyze(Recipe recipe, double og, double ibu, double fermentTemp) {
+        return analyze(recipe, RecipeMetrics.of(recipe), og, ibu, fermentTemp);
+    }
+
+    /**
+     * 미리 계산된 레시피 지표로 분석 (재료 목록을 다시 순회하지 않음)
+     * @param metrics 같은 레시피로 만든 RecipeMetrics
+     */
+    public FlavorProfile analyze(Recipe recipe, RecipeMetrics metrics, double fermentTemp) {
+        return analyze(recipe, metrics, metrics.og(), metrics.ibu(), fermentTemp);
+    }
+
+    private FlavorProfile analyze(Recipe recipe, RecipeMetrics metrics, double og, double ibu, double fermentTemp) {
         Yeast yeast = recipe.getYeastItem().yeast();
-        List<String> tags = new ArrayList<>();
+        FlavorTagSet.Builder tags = FlavorTagSet.builder();
 
         //태그용 스코어
         double esterScore = calculateEsterScore(yeast, fermentTemp);
         double diacetylRisk = calculateDiacetylRisk(yeast, fermentTemp);
 
         analyzeBalance(og, ibu, tags);
-        analyzeIngredientIntensity(recipe, tags);
+        analyzeIngredientIntensity(metrics, tags);
 
 
-        analyzeOffFlavors(recipe, yeast, fermentTemp, diacetylRisk, tags);
+        analyzeOffFlavors(metrics, yeast, fermentTemp, diacetylRisk, tags);
         analyzeYeastCharacter(yeast, fermentTemp, esterScore, tags);
 
 
-        return new FlavorProfile(esterScore, diacetylRisk, tags.stream().distinct().toList());
+        return new FlavorProfile(esterScore, diacetylRisk, tags.build());
     }
 
     /**
      * 비터와 비중 밸런스 비교
      * 적용 공식 : IBU / ((OG - 1) * 1000)
      */
-    private void analyzeBalance(double og, double ibu, List<String> tags) {
+    private void analyzeBalance(double og, double ibu, FlavorTagSet.Builder tags) {
         double gravityUnits = (og - 1.0) * 1000;
         if (gravityUnits <= 0) return;
 
@@ -52,52 +68,34 @@ public class FlavorAnalyzer {
 
         // 스타일별 일반적 범위: 0.3(Wheat) ~ 1.2(IPA)
         if (ratio > 1.2) {
-            tags.add("Aggressively Bitter");
+            tags.add(FlavorTags.AGGRESSIVELY_BITTER);
         } else if (ratio > 0.8) {
-            tags.add("Hoppy");
+            tags.add(FlavorTags.HOPPY);
         } else if (ratio >= 0.4 && ratio <= 0.6) {
             // 밸런스 좋음
         } else if (ratio < 0.3) {
-            tags.add("Malty Sweetness");
+            tags.add(FlavorTags.MALTY_SWEETNESS);
         }
     }
 
 
-    private void analyzeIngredientIntensity(Recipe recipe, List<String> tags) {
-        double batchSize = recipe.getBatchSizeLiters();
-        double totalGrainWeight = recipe.getGrainItems().stream().mapToDouble(GrainItem::weightKg).sum();
-
+    private void analyzeIngredientIntensity(RecipeMetrics metrics, FlavorTagSet.Builder tags) {
         // A. 몰트 구성 비율 분석
-        double roastWeight = 0;
-        double crystalWeight = 0;
-
-        for (GrainItem item : recipe.getGrainItems()) {
-            // 이름으로 유추 , 추후에 Grain 객체에 Type enum으로 정확성 높힐 예정
-            String name = item.grain().name().toLowerCase();
-            if (name.contains("roasted") || name.contains("chocolate") || name.contains("black")) {
-                roastWeight += item.weightKg();
-            }
-            if (name.contains("crystal") || name.contains("caramel")) {
-                crystalWeight += item.weightKg();
-            }
-        }
-
-        if (totalGrainWeight > 0) {
-            if ((roastWeight / totalGrainWeight) > HIGH_ROAST_PERCENTAGE) {
-                tags.addAll(List.of("Roasty","Coffee"));
+        if (metrics.totalGrainWeightKg() > 0) {
+            if (metrics.roastFraction() > HIGH_ROAST_PERCENTAGE) {
+                tags.add(FlavorTags.ROASTY).add(FlavorTags.COFFEE);
             }
-            if ((crystalWeight / totalGrainWeight) > HIGH_CRYSTAL_PERCENTAGE) {
-                tags.add("Heavy Body");
+            if (metrics.crystalFraction() > HIGH_CRYSTAL_PERCENTAGE) {
+                tags.add(FlavorTags.HEAVY_BODY);
             }
         }
 
-        double totalHopGrams = recipe.getHopItems().stream().mapToDouble(HopItem::amountGrams).sum();
-        double hopConcentration = totalHopGrams / batchSize;
+        double hopConcentration = metrics.hopConcentration();
 
         if (hopConcentration >= EXTREME_HOP_CONCENTRATION) {
-            tags.add("Juice Bomb");
+            tags.add(FlavorTags.JUICE_BOMB);
         } else if (hopConcentration >= INTENSE_HOP_CONCENTRATION) {
-            tags.add("Very Hoppy");
+            tags.add(FlavorTags.VERY_HOPPY);
         }
     }
 
@@ -105,39 +103,36 @@ public class FlavorAnalyzer {
      * [New] 이취(Off-Flavor) 위험 분석
      * 공정 실수나 재료 조합 오류로 인한 오프플레이버에 대한 예측
      */
-    private void analyzeOffFlavors(Recipe recipe, Yeast yeast, double temp, double diacetylRisk, List<String> tags) {
+    private void analyzeOffFlavors(RecipeMetrics metrics, Yeast yeast, double temp, double diacetylRisk, FlavorTagSet.Builder tags) {
         // 퓨젤 알코올 (Fusel Alcohol) - 꽃향기 같으면서도 아세톤/벤젠 냄새
         // 발효 온도가 효모 권장 온도보다 훨씬 높을 때 발생 / 혹은 질소 과다
         // 초반 발효 유의
         if (temp > yeast.maxTemp() + 4.0) {
-            tags.add("⚠\uFE0F Fusel Alcohol");
+            tags.add(FlavorTags.FUSEL_ALCOHOL);
         }
 
         // DMS (Dimethyl Sulfide) - 삶은 옥수수/야채 냄새
         // 필스너 몰트를 사용했는데 끓임 시간이 짧을 경우 발생 (SMM -> DMS 휘발 부족)
         // 아니면 양조 과정 중 생성되거나 발효시 박테리아 감염으로도 디세틸 설파이트 발생. 맥락은 위에랑 같음
         // 보리에서 생성되는 이취로 밝은 보리나 덜 가공된 맥아에서 많이 발생
-        boolean hasPilsner = recipe.getGrainItems().stream()
-                .anyMatch(g -> g.grain().name().toLowerCase().contains("pilsner"));
-
         // 레시피의 최대 홉 끓임 시간을 전체 보일링 타임으로 추정
-        int maxBoilTime = recipe.getHopItems().stream()
-                .mapToInt(HopItem::boilTimeMinutes).max().orElse(0);
+        boolean hasPilsner = metrics.hasPilsner();
+        int maxBoilTime = metrics.maxBoilTimeMinutes();
 
         if (hasPilsner && maxBoilTime < 90) { // 필스너는 90분 권장
-            tags.add("⚠\uFE0F DMS");
+            tags.add(FlavorTags.DMS);
             //tags.addAll(List.of("Off-Flavor: Cooked Corn (DMS Risk)","리스트 태그 테스트1"));
         }
 
         // 아세트알데히드 (Acetaldehyde) - 풋사과, 아세톤 등
         // 발효 온도가 너무 낮아 효모 활동이 조기 종료되거나, 피칭량이 부족할 때 (여기선 온도만 체크)
         if (temp < yeast.minTemp() - 2.0) {
-            tags.add("⚠\uFE0F Green Apple (Acetaldehyde)");
+            tags.add(FlavorTags.ACETALDEHYDE);
         }
 
         // 디아세틸 과다 경고
         if (diacetylRisk > 75) {
-            tags.add("⚠\uFE0F Buttery (Diacetyl)");
+            tags.add(FlavorTags.BUTTERY_DIACETYL);
         }
 
         /**
@@ -162,13 +157,13 @@ public class FlavorAnalyzer {
          */
     }
 
-    private void analyzeYeastCharacter(Yeast yeast, double temp, double ester, List<String> tags) {
+    private void analyzeYeastCharacter(Yeast yeast, double temp, double ester, FlavorTagSet.Builder tags) {
         //double ester = calculateEsterScore(yeast, temp);
 
         if (yeast.type() == YeastType.LAGER) {
-            if (temp > 18.0) tags.add("Steam Beer Character"); // 캘리포니아 커먼 등
+            if (temp > 18.0) tags.add(FlavorTags.STEAM_BEER_CHARACTER); // 캘리포니아 커먼 등
         } else if (yeast.type() == YeastType.WHEAT) {
-            if (ester > 50) tags.addAll(List.of("Banana", "Clove"));
+            if (ester > 50) tags.add(FlavorTags.BANANA).add(FlavorTags.CLOVE);
         }
     }
 
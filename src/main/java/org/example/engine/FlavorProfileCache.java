@@ -0,0 +1,118 @@
+package org.example.engine;
+
+import org.example.domain.FlavorProfile;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleFunction;
+
+/**
+ * 풍미 예측 결과 캐시 (LRU, 최대 개수 제한)
+ * 키는 레시피 지문(Recipe.fingerprint) + 양자화된 발효 온도이다.
+ * tempStep 이 0보다 크면 온도를 tempStep 단위로 반올림한 뒤 그 온도로 계산하므로,
+ * 같은 구간의 온도는 모두 같은 결과를 공유한다. (0이면 온도가 정확히 같을 때만 공유)
+ * 여러 스레드에서 공유해도 안전하다. 계산은 잠금 밖에서 수행하므로 동시에 같은 키를 놓치면 중복 계산될 수 있다.
+ */
+public final class FlavorProfileCache {
+
+    private final int maxEntries;
+    private final double tempStep;
+    private final Map<Key, FlavorProfile> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxEntries 최대 보관 개수, 넘으면 가장 오래 사용하지 않은 항목부터 제거
+     * @param tempStep 온도 양자화 단위 (°C), 0이면 양자화하지 않음
+     */
+    public FlavorProfileCache(int maxEntries, double tempStep) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다: " + maxEntries);
+        }
+        if (!(tempStep >= 0) || Double.isInfinite(tempStep)) {
+            throw new IllegalArgumentException("온도 양자화 단위가 올바르지 않습니다: " + tempStep);
+        }
+        this.maxEntries = maxEntries;
+        this.tempStep = tempStep;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, FlavorProfile> eldest) {
+                if (size() <= FlavorProfileCache.this.maxEntries) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 풍미 예측을 반환하고, 없으면 loader 로 계산해서 저장
+     * @param recipeFingerprint Recipe.fingerprint() 값
+     * @param loader 양자화된 온도를 받아 풍미를 계산하는 함수
+     */
+    public FlavorProfile get(long recipeFingerprint, double fermentTemp, DoubleFunction<FlavorProfile> loader) {
+        double temp = quantize(fermentTemp);
+        Key key = new Key(recipeFingerprint, Double.doubleToLongBits(temp));
+
+        FlavorProfile profile;
+        synchronized (entries) {
+            profile = entries.get(key);
+        }
+        if (profile != null) {
+            hits.increment();
+            return profile;
+        }
+
+        misses.increment();
+        profile = loader.apply(temp);
+        synchronized (entries) {
+            entries.putIfAbsent(key, profile);
+        }
+        return profile;
+    }
+
+    /** 캐시 키와 계산에 쓰이는 온도 */
+    public double quantize(double fermentTemp) {
+        if (tempStep == 0) return fermentTemp == 0.0 ? 0.0 : fermentTemp;
+        double quantized = Math.round(fermentTemp / tempStep) * tempStep;
+        return quantized == 0.0 ? 0.0 : quantized;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public double tempStep() {
+        return tempStep;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size(), maxEntries);
+    }
+
+    /** 적중/실패 통계 (캐시 크기 조정용) */
+    public record Stats(long hits, long misses, long evictions, int size, int maxEntries) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private record Key(long recipeFingerprint, long tempBits) {
+    }
+}
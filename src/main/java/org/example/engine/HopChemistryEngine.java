@@ -51,14 +51,20 @@ public class HopChemistryEngine {
     public double calculateDiacetylReduction(double currentDiacetyl, double temp) {
         if (currentDiacetyl <= 0) return 0.0;
 
-        if (temp < 10.0) return 0.0;
-
-        double tempFactor = Math.pow(DIACETYL_Q10, (temp - 20.0) / 10.0);
-
         // 1차 반응: 농도가 높을수록 빨리 줄어들고, 낮아지면 천천히 줄어듦
-        double reduction = currentDiacetyl * DIACETYL_REDUCTION_RATE * tempFactor;
+        double reduction = currentDiacetyl * calculateDiacetylRateConstant(temp);
 
         return Math.min(reduction, currentDiacetyl);
 
     }
+
+    /**
+     * 디아세틸 1차 반응 속도 상수 (시간당), 10도 미만에서는 효모가 재흡수하지 못해 0
+     */
+    public double calculateDiacetylRateConstant(double temp) {
+        if (temp < 10.0) return 0.0;
+
+        double tempFactor = Math.pow(DIACETYL_Q10, (temp - 20.0) / 10.0);
+        return DIACETYL_REDUCTION_RATE * tempFactor;
+    }
 }
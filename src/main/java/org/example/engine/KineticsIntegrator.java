@@ -0,0 +1,24 @@
+package org.example.engine;
+
+import org.example.domain.Yeast;
+
+/**
+ * 발효 반응 속도식(비중 감소 + 디아세틸 재흡수)을 일정 온도 구간만큼 진행시키는 적분기
+ * state[GRAVITY] = 현재 비중, state[DIACETYL] = 현재 디아세틸 수치
+ * 구현체는 상태를 갖지 않아 여러 스레드에서 공유해도 안전해야 한다.
+ */
+public interface KineticsIntegrator {
+
+    int GRAVITY = 0;
+    int DIACETYL = 1;
+
+    /**
+     * @param state 진행시킬 상태 (호출 후 hours 뒤의 값으로 갱신됨)
+     * @param hours 진행 시간 (시간 단위, 0 이상)
+     * @param temp 구간 온도 (구간 내 일정)
+     * @param yeast 효모 정보
+     * @param targetFG 목표 최종 비중
+     * @return 내부적으로 수행한 스텝 수
+     */
+    int advance(double[] state, double hours, double temp, Yeast yeast, double targetFG);
+}
@@ -0,0 +1,124 @@
+package org.example.engine;
+
+import org.example.domain.GrainItem;
+import org.example.domain.HopItem;
+import org.example.domain.Recipe;
+
+import java.util.List;
+
+/**
+ * 대량 계산용 레시피 묶음 (원시 배열 컬럼)
+ * 레시피 i 의 몰트는 grain 컬럼의 [grainOffsets[i], grainOffsets[i + 1]) 구간, 홉은 hop 컬럼의 같은 방식 구간이다.
+ * 배열은 복사하지 않고 그대로 보관하므로, 계산 중에는 호출부에서 수정하지 않아야 한다.
+ */
+public final class RecipeColumns {
+
+    final int size;
+    final double[] batchSizeLiters;
+    final double[] efficiency;
+
+    final int[] grainOffsets;
+    final double[] grainPotential;
+    final double[] grainLovibond;
+    final double[] grainWeightKg;
+
+    final int[] hopOffsets;
+    final double[] hopAlphaAcid;
+    final double[] hopAmountGrams;
+    final int[] hopBoilMinutes;
+
+    /**
+     * @param grainOffsets 길이 size + 1, 0 에서 시작하는 비감소 오프셋
+     * @param hopOffsets 길이 size + 1, 0 에서 시작하는 비감소 오프셋
+     */
+    public RecipeColumns(double[] batchSizeLiters, double[] efficiency,
+                         int[] grainOffsets, double[] grainPotential, double[] grainLovibond, double[] grainWeightKg,
+                         int[] hopOffsets, double[] hopAlphaAcid, double[] hopAmountGrams, int[] hopBoilMinutes) {
+        this.size = batchSizeLiters.length;
+        if (efficiency.length != size) {
+            throw new IllegalArgumentException("레시피 컬럼 길이가 다릅니다: " + size + ", " + efficiency.length);
+        }
+        checkOffsets("몰트", grainOffsets, size, grainPotential.length);
+        if (grainLovibond.length != grainPotential.length || grainWeightKg.length != grainPotential.length) {
+            throw new IllegalArgumentException("몰트 컬럼 길이가 다릅니다");
+        }
+        checkOffsets("홉", hopOffsets, size, hopAlphaAcid.length);
+        if (hopAmountGrams.length != hopAlphaAcid.length || hopBoilMinutes.length != hopAlphaAcid.length) {
+            throw new IllegalArgumentException("홉 컬럼 길이가 다릅니다");
+        }
+
+        this.batchSizeLiters = batchSizeLiters;
+        this.efficiency = efficiency;
+        this.grainOffsets = grainOffsets;
+        this.grainPotential = grainPotential;
+        this.grainLovibond = grainLovibond;
+        this.grainWeightKg = grainWeightKg;
+        this.hopOffsets = hopOffsets;
+        this.hopAlphaAcid = hopAlphaAcid;
+        this.hopAmountGrams = hopAmountGrams;
+        this.hopBoilMinutes = hopBoilMinutes;
+    }
+
+    /** 레시피 객체 목록을 컬럼으로 펼침 */
+    public static RecipeColumns from(List<Recipe> recipes) {
+        int n = recipes.size();
+        int grainCount = 0;
+        int hopCount = 0;
+        for (Recipe recipe : recipes) {
+            grainCount += recipe.getGrainItems().size();
+            hopCount += recipe.getHopItems().size();
+        }
+
+        double[] batchSize = new double[n];
+        double[] efficiency = new double[n];
+        int[] grainOffsets = new int[n + 1];
+        double[] potential = new double[grainCount];
+        double[] lovibond = new double[grainCount];
+        double[] weight = new double[grainCount];
+        int[] hopOffsets = new int[n + 1];
+        double[] alpha = new double[hopCount];
+        double[] amount = new double[hopCount];
+        int[] boil = new int[hopCount];
+
+        int g = 0;
+        int h = 0;
+        for (int i = 0; i < n; i++) {
+            Recipe recipe = recipes.get(i);
+            batchSize[i] = recipe.getBatchSizeLiters();
+            efficiency[i] = recipe.getEfficiency();
+
+            for (GrainItem item : recipe.getGrainItems()) {
+                potential[g] = item.grain().potential();
+                lovibond[g] = item.grain().lovibond();
+                weight[g] = item.weightKg();
+                g++;
+            }
+            grainOffsets[i + 1] = g;
+
+            for (HopItem item : recipe.getHopItems()) {
+                alpha[h] = item.hop().alphaAcid();
+                amount[h] = item.amountGrams();
+                boil[h] = item.boilTimeMinutes();
+                h++;
+            }
+            hopOffsets[i + 1] = h;
+        }
+        return new RecipeColumns(batchSize, efficiency, grainOffsets, potential, lovibond, weight,
+                hopOffsets, alpha, amount, boil);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static void checkOffsets(String label, int[] offsets, int size, int itemCount) {
+        if (offsets.length != size + 1 || offsets[0] != 0 || offsets[size] != itemCount) {
+            throw new IllegalArgumentException(label + " 오프셋이 올바르지 않습니다");
+        }
+        for (int i = 0; i < size; i++) {
+            if (offsets[i] > offsets[i + 1]) {
+                throw new IllegalArgumentException(label + " 오프셋이 감소합니다: " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.engine;
+
+import org.example.domain.Grain;
+import org.example.domain.GrainItem;
+import org.example.domain.HopItem;
+import org.example.domain.Recipe;
+import org.example.domain.enums.GrainTrait;
+
+/**
+ * 레시피 1건의 계산 결과 스냅샷
+ * 몰트/홉 목록을 한 번씩만 순회해서 OG, SRM, IBU 와 풍미 분석용 재료 비율을 함께 구한다.
+ * 레시피가 바뀌면 다시 만들어야 한다. (레시피를 참조하지 않는 값 객체)
+ *
+ * @param og 초기 비중
+ * @param srm 색상 (Morey)
+ * @param ibu 보일링 홉 쓴맛 (Tinseth)
+ * @param totalGrainWeightKg 전체 몰트 무게
+ * @param totalHopGrams 전체 홉 투입량 (g)
+ * @param hopConcentration 전체 홉 투입량 / 배치 용량 (g/L)
+ * @param roastFraction 로스팅 몰트 무게 비율
+ * @param crystalFraction 카라멜 몰트 무게 비율
+ * @param hasPilsner 필스너 몰트 사용 여부 (DMS 분석용)
+ * @param maxBoilTimeMinutes 최대 홉 끓임 시간, 전체 보일링 타임 추정용
+ */
+public record RecipeMetrics(
+        double og,
+        double srm,
+        double ibu,
+        double totalGrainWeightKg,
+        double totalHopGrams,
+        double hopConcentration,
+        double roastFraction,
+        double crystalFraction,
+        boolean hasPilsner,
+        int maxBoilTimeMinutes
+) {
+
+    public static RecipeMetrics of(Recipe recipe) {
+        double batchSizeLiters = recipe.getBatchSizeLiters();
+        double batchSizeGallons = batchSizeLiters * SensoryEngine.LITER_TO_GALLONS;
+        double efficiency = recipe.getEfficiency();
+
+        double totalPoints = 0;
+        double mcu = 0;
+        double totalGrainWeight = 0;
+        double roastWeight = 0;
+        double crystalWeight = 0;
+        boolean hasPilsner = false;
+
+        for (GrainItem item : recipe.getGrainItems()) {
+            totalPoints += DensityEngine.calculatePoints(item, efficiency);
+            mcu += SensoryEngine.calculateColorUnits(item, batchSizeGallons);
+            totalGrainWeight += item.weightKg();
+
+            if (isRoastMalt(item.grain())) {
+                roastWeight += item.weightKg();
+            }
+            if (isCrystalMalt(item.grain())) {
+                crystalWeight += item.weightKg();
+            }
+            if (isPilsnerMalt(item.grain())) {
+                hasPilsner = true;
+            }
+        }
+
+        // IBU 는 OG 가 필요하므로 몰트 순회가 끝난 뒤 홉 순회에서 계산
+        double og = DensityEngine.toGravity(totalPoints, batchSizeLiters);
+
+        double ibu = 0;
+        double totalHopGrams = 0;
+        int maxBoilTime = 0;
+        for (HopItem item : recipe.getHopItems()) {
+            ibu += SensoryEngine.calculateHopIBU(item, og, batchSizeLiters);
+            totalHopGrams += item.amountGrams();
+            maxBoilTime = Math.max(maxBoilTime, item.boilTimeMinutes());
+        }
+
+        double roastFraction = totalGrainWeight > 0 ? roastWeight / totalGrainWeight : 0;
+        double crystalFraction = totalGrainWeight > 0 ? crystalWeight / totalGrainWeight : 0;
+
+        return new RecipeMetrics(og, SensoryEngine.toSRM(mcu), ibu, totalGrainWeight, totalHopGrams,
+                totalHopGrams / batchSizeLiters, roastFraction, crystalFraction, hasPilsner, maxBoilTime);
+    }
+
+    // 특성은 Grain 생성 시 정해지므로 문자열 비교 없이 EnumSet 검사만 한다 (특성끼리는 겹칠 수 있음)
+    public static boolean isRoastMalt(Grain grain) {
+        return grain.hasTrait(GrainTrait.ROAST);
+    }
+
+    public static boolean isCrystalMalt(Grain grain) {
+        return grain.hasTrait(GrainTrait.CRYSTAL);
+    }
+
+    public static boolean isPilsnerMalt(Grain grain) {
+        return grain.hasTrait(GrainTrait.DMS_PRECURSOR);
+    }
+}
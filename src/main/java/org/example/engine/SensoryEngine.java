@@ -1,49 +1,80 @@
 package org.example.engine;
 
 import org.example.domain.GrainItem;
+import org.example.domain.HopItem;
 import org.example.domain.Recipe;
 
 public class SensoryEngine {
 
+    static final double KG_TO_LBS = 2.20462;
+    static final double LITER_TO_GALLONS = 0.264172;
+
     public double calculateIBU(Recipe recipe, double og) {
         double totalIbu = 0;
         //double og = calculateOG(recipe);
 
         for (var item : recipe.getHopItems()) {
 
-            double utilization = calculateUtilization(item.boilTimeMinutes(), og);
-            double ibu = (item.amountGrams() * item.hop().alphaAcid() * 10 * utilization) / recipe.getBatchSizeLiters();
+            double ibu = calculateHopIBU(item, og, recipe.getBatchSizeLiters());
 
             totalIbu += ibu;
         }
         return totalIbu;
     }
 
-    private double calculateUtilization(int minutes, double currentOG) {
+    /** 홉 1종의 IBU 기여량 */
+    public static double calculateHopIBU(HopItem item, double og, double batchSizeLiters) {
+        double utilization = calculateUtilization(item.boilTimeMinutes(), og);
+        return calculateHopIBU(item.amountGrams(), item.hop().alphaAcid(), utilization, batchSizeLiters);
+    }
+
+    static double calculateHopIBU(double amountGrams, double alphaAcid, double utilization, double batchSizeLiters) {
+        return (amountGrams * alphaAcid * 10 * utilization) / batchSizeLiters;
+    }
+
+    private static double calculateUtilization(int minutes, double currentOG) {
 
         if (minutes <= 0) return 0.0;
-        // og 높으면 이용률 감소
-        double bignessFactor = 1.65 * Math.pow(0.000125, currentOG - 1);
-        // 보일링 타임에 따라 증가
-        double boilTimeFactor = (1 - Math.exp(-0.04 * minutes)) / 4.15;
-        return bignessFactor * boilTimeFactor;
+        return calculateBignessFactor(currentOG) * calculateBoilTimeFactor(minutes);
+    }
+
+    // og 높으면 이용률 감소
+    static double calculateBignessFactor(double og) {
+        return 1.65 * Math.pow(0.000125, og - 1);
+    }
+
+    // 보일링 타임에 따라 증가 (OG 와 무관하므로 대량 계산 시 홉마다 한 번만 계산)
+    static double calculateBoilTimeFactor(int minutes) {
+        return (1 - Math.exp(-0.04 * minutes)) / 4.15;
     }
 
     public double calculateSRM(Recipe recipe) {
         double mcu = 0;
-        final double KG_TO_LBS = 2.20462;
-        final double LITER_TO_GALLONS = 0.264172;
 
         double batchSizeGallons = recipe.getBatchSizeLiters() * LITER_TO_GALLONS;
 
         for (GrainItem item : recipe.getGrainItems()) {
-            double weightLbs = item.weightKg() * KG_TO_LBS;
-            mcu += (weightLbs * item.grain().lovibond()) / batchSizeGallons;
+            mcu += calculateColorUnits(item, batchSizeGallons);
         }
 
+        return toSRM(mcu);
+
+    }
+
+    /** 몰트 1종의 MCU 기여량 */
+    static double calculateColorUnits(GrainItem item, double batchSizeGallons) {
+        return calculateColorUnits(item.weightKg(), item.grain().lovibond(), batchSizeGallons);
+    }
+
+    static double calculateColorUnits(double weightKg, double lovibond, double batchSizeGallons) {
+        double weightLbs = weightKg * KG_TO_LBS;
+        return (weightLbs * lovibond) / batchSizeGallons;
+    }
+
+    /** Morey 공식: MCU -> SRM */
+    static double toSRM(double mcu) {
         if (mcu <= 0) return 0;
         return 1.4922 * Math.pow(mcu, 0.6859);
-
     }
 
 
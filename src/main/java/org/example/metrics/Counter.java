@@ -0,0 +1,38 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 누적 카운터 (스트라이프 LongAdder 기반, 여러 스레드에서 동시에 올려도 경합이 적음)
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("카운터는 줄일 수 없습니다: " + amount);
+        }
+        value.add(amount);
+    }
+
+    public long count() {
+        return value.sum();
+    }
+
+    /** counter 가 null 이면 (측정 꺼짐) 아무것도 하지 않음 */
+    public static void increment(Counter counter) {
+        if (counter != null) counter.increment();
+    }
+
+    public static void add(Counter counter, long amount) {
+        if (counter != null) counter.add(amount);
+    }
+}
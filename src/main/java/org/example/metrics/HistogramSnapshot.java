@@ -0,0 +1,12 @@
+package org.example.metrics;
+
+/** 지연 시간 분포 요약 (나노초)
+ * 백분위는 버킷 상한 기준이므로 실제 값보다 최대 약 3% 클 수 있다.
+ */
+public record HistogramSnapshot(long count, long sumNanos, long maxNanos,
+                                long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos) {
+
+    public double meanNanos() {
+        return count == 0 ? 0.0 : (double) sumNanos / count;
+    }
+}
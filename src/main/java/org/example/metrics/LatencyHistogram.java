@@ -0,0 +1,103 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (나노초, HdrHistogram 방식의 로그-선형 버킷)
+ * 64 미만은 1ns 단위, 그 위로는 2의 거듭제곱 구간마다 32칸으로 나누므로 기록값의 상대 오차는 약 3% 이내이다.
+ * 버킷 수가 고정(1888개)이라 기록 중 할당이 없고, 여러 스레드에서 동시에 기록해도 안전하다.
+ * 버킷 카운트는 스레드 id 해시로 고른 스트라이프에 나눠 세고 snapshot 에서 합치므로, 같은 버킷에 몰리는 동시 기록이 한 칸을 두고 경합하지 않는다.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >> 1;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+    // 코어 수 이상인 2의 거듭제곱 (스트라이프당 약 15KB 라 최대 16개)
+    private static final int STRIPES = Math.min(16, Integer.highestOneBit(
+            Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+    }
+
+    /** 걸린 시간 기록 (음수는 0 으로) */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        stripes[stripeOf(Thread.currentThread())].incrementAndGet(bucketOf(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /** timer 가 null 이면 (측정 꺼짐) 시계를 읽지 않음 */
+    public static long startTime(LatencyHistogram timer) {
+        return (timer == null) ? 0L : System.nanoTime();
+    }
+
+    public static void recordSince(LatencyHistogram timer, long startNanos) {
+        if (timer != null) timer.recordSince(startNanos);
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                long value = stripe.get(i);
+                copy[i] += value;
+                count += value;
+            }
+        }
+        long maxValue = max.get();
+        return new HistogramSnapshot(count, sum.sum(), maxValue,
+                valueAt(copy, count, maxValue, 0.50), valueAt(copy, count, maxValue, 0.90),
+                valueAt(copy, count, maxValue, 0.99), valueAt(copy, count, maxValue, 0.999));
+    }
+
+    // 연속된 스레드 id 가 서로 다른 스트라이프로 흩어지도록 섞음
+    private static int stripeOf(Thread thread) {
+        long id = thread.getId() * 0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32) & (STRIPES - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int sub = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (sub - HALF_SUB_BUCKETS);
+    }
+
+    /** 버킷에 들어가는 가장 큰 값 */
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int offset = bucket - SUB_BUCKETS;
+        int shift = offset / HALF_SUB_BUCKETS + 1;
+        long sub = offset % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    // 최근접 순위 백분위 (버킷 상한, 최댓값을 넘지 않음)
+    private static long valueAt(long[] counts, long total, long maxValue, double percentile) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestValueIn(i), maxValue);
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 지표 조회용 로컬 HTTP 엔드포인트 (루프백 주소에만 바인딩)
+ * GET /metrics 는 Prometheus 텍스트 형식을 돌려주며, 요청마다 스냅샷을 새로 만든다.
+ * 요청 처리는 데몬 스레드 하나에서 하므로 닫지 않아도 JVM 종료를 막지 않는다.
+ */
+public final class MetricsEndpoint implements AutoCloseable {
+
+    public static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsEndpoint(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * @param port 포트 (0 이면 빈 포트를 고름, 실제 포트는 port() 로 확인)
+     */
+    public static MetricsEndpoint start(MetricsRegistry registry, int port) {
+        if (registry == null) {
+            throw new IllegalArgumentException("지표 저장소를 지정해야 합니다");
+        }
+        if (port < 0 || port > 0xFFFF) {
+            throw new IllegalArgumentException("포트가 올바르지 않습니다: " + port);
+        }
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("지표 엔드포인트를 열 수 없습니다: " + port, e);
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "brew-metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext(PATH, exchange -> handle(exchange, registry));
+        server.setExecutor(executor);
+        server.start();
+        return new MetricsEndpoint(server, executor);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void handle(HttpExchange exchange, MetricsRegistry registry) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.snapshot().toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
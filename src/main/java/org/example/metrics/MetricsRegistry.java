@@ -0,0 +1,56 @@
+package org.example.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 카운터/지연 시간 히스토그램 저장소
+ * 계측하는 쪽은 생성 시점에 이름으로 한 번만 꺼내 두고 기록만 하므로, 기록 경로에는 조회 비용이 없다.
+ * 측정을 끄려면 레지스트리 대신 null 을 넘긴다 (계측 지점은 null 확인만 하고 시계도 읽지 않음).
+ * 여러 계산기/시뮬레이터가 하나를 공유해도 된다.
+ */
+public final class MetricsRegistry {
+
+    // 점으로 구분한 소문자 이름 (예: simulation.run), 내보낼 때 점은 밑줄로 바뀜
+    private static final Pattern NAME = Pattern.compile("[a-z][a-z0-9_]*(\\.[a-z0-9_]+)*");
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+
+    /** 이름에 해당하는 카운터 (없으면 생성) */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(checkName(name), key -> new Counter());
+    }
+
+    /** 이름에 해당하는 지연 시간 히스토그램 (없으면 생성) */
+    public LatencyHistogram timer(String name) {
+        return timers.computeIfAbsent(checkName(name), key -> new LatencyHistogram());
+    }
+
+    /** registry 가 null 이면 null (측정 꺼짐) */
+    public static Counter counter(MetricsRegistry registry, String name) {
+        return (registry == null) ? null : registry.counter(name);
+    }
+
+    public static LatencyHistogram timer(MetricsRegistry registry, String name) {
+        return (registry == null) ? null : registry.timer(name);
+    }
+
+    /** 현재 값 (이름순) */
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.count()));
+        Map<String, HistogramSnapshot> timerValues = new TreeMap<>();
+        timers.forEach((name, timer) -> timerValues.put(name, timer.snapshot()));
+        return new MetricsSnapshot(counterValues, timerValues);
+    }
+
+    private static String checkName(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("지표 이름이 올바르지 않습니다: " + name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/** 특정 시점의 지표 값 (카운터, 지연 시간 분포) */
+public record MetricsSnapshot(Map<String, Long> counters, Map<String, HistogramSnapshot> timers) {
+
+    private static final String PREFIX = "brewing_";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    public MetricsSnapshot {
+        counters = Collections.unmodifiableMap(new TreeMap<>(counters));
+        timers = Collections.unmodifiableMap(new TreeMap<>(timers));
+    }
+
+    /**
+     * Prometheus 텍스트 형식 (0.0.4)
+     * 카운터는 brewing_이름_total, 타이머는 초 단위 summary(brewing_이름_seconds) 와 최댓값 gauge 로 내보낸다.
+     */
+    public String toPrometheusText() {
+        StringBuilder out = new StringBuilder();
+        counters.forEach((name, value) -> {
+            String metric = PREFIX + name.replace('.', '_') + "_total";
+            out.append("# TYPE ").append(metric).append(" counter\n");
+            out.append(metric).append(' ').append(value).append('\n');
+        });
+        timers.forEach((name, timer) -> {
+            String metric = PREFIX + name.replace('.', '_') + "_seconds";
+            out.append("# TYPE ").append(metric).append(" summary\n");
+            appendQuantile(out, metric, "0.5", timer.p50Nanos());
+            appendQuantile(out, metric, "0.9", timer.p90Nanos());
+            appendQuantile(out, metric, "0.99", timer.p99Nanos());
+            appendQuantile(out, metric, "0.999", timer.p999Nanos());
+            out.append(metric).append("_sum ").append(seconds(timer.sumNanos())).append('\n');
+            out.append(metric).append("_count ").append(timer.count()).append('\n');
+            out.append("# TYPE ").append(metric).append("_max gauge\n");
+            out.append(metric).append("_max ").append(seconds(timer.maxNanos())).append('\n');
+        });
+        return out.toString();
+    }
+
+    private static void appendQuantile(StringBuilder out, String metric, String quantile, long nanos) {
+        out.append(metric).append("{quantile=\"").append(quantile).append("\"} ").append(seconds(nanos)).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / NANOS_PER_SECOND);
+    }
+}
@@ -1,62 +1,93 @@
 package org.example.repository;
 
 import org.example.domain.Grain;
+import org.example.domain.enums.GrainCategory;
+import org.example.repository.catalog.CatalogCsvReader;
+import org.example.repository.catalog.MappedCatalog;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 public class GrainRepository {
     private final Map<String, Grain> maltDb = new HashMap<>();
+    // 컴파일된 카탈로그 파일 (없으면 maltDb 사용)
+    private final MappedCatalog<Grain> catalog;
+    private final KeyLookup<Grain> keys;
 
     public GrainRepository() {
         //임시 데이터 로드 (나중에 실제 DB 데이터로 대체될 부분)
         initData();
+        this.catalog = null;
+        this.keys = new KeyLookup<>(catalog, maltDb);
+    }
+
+    /**
+     * 파일 카탈로그에서 로드
+     * 컴파일된 바이너리(CatalogCompiler)면 메모리 매핑해서 조회 시점에 한 건씩 읽고, 그 외에는 CSV 로 읽는다.
+     */
+    public GrainRepository(Path catalogFile) {
+        if (MappedCatalog.isCompiled(catalogFile)) {
+            this.catalog = MappedCatalog.openGrains(catalogFile);
+        } else {
+            this.catalog = null;
+            maltDb.putAll(CatalogCsvReader.readGrains(catalogFile));
+        }
+        this.keys = new KeyLookup<>(catalog, maltDb);
     }
 
     private void initData() {
 
 // --- 베이스 몰트 (Base Malts) ---
         // 필스너: 가장 밝은 색상, 높은 효소 활동
-        maltDb.put("Pilsner", new Grain("Pilsner", 1.308, 3.0));
+        maltDb.put("Pilsner", new Grain("Pilsner", 1.308, 3.0, GrainCategory.PILSNER));
         // 페일 에일: 영국/미국 에일의 기본
-        maltDb.put("Pale Ale", new Grain("Pale Ale", 1.310, 5.0));
+        maltDb.put("Pale Ale", new Grain("Pale Ale", 1.310, 5.0, GrainCategory.BASE));
         // 마리스 오터: 고소한 풍미가 강한 고급 에일 몰트
-        maltDb.put("Maris Otter", new Grain("Maris Otter", 1.310, 6.0));
+        maltDb.put("Maris Otter", new Grain("Maris Otter", 1.310, 6.0, GrainCategory.BASE));
         // 비엔나: 붉은 빛과 빵 구운 향
-        maltDb.put("Vienna", new Grain("Vienna", 1.300, 8.0));
+        maltDb.put("Vienna", new Grain("Vienna", 1.300, 8.0, GrainCategory.KILNED));
         // 뮌헨: 묵직한 바디감과 단맛
-        maltDb.put("Munich", new Grain("Munich", 1.300, 18.0));
+        maltDb.put("Munich", new Grain("Munich", 1.300, 18.0, GrainCategory.KILNED));
 
         // --- 밀 및 특수 몰트 (Wheat & Specialty) ---
         // 밀 몰트: 부드러운 거품과 바디감
-        maltDb.put("Wheat Malt", new Grain("Wheat Malt", 1.310, 4.0));
+        maltDb.put("Wheat Malt", new Grain("Wheat Malt", 1.310, 4.0, GrainCategory.WHEAT));
         // 비스킷 몰트: 비스킷/크래커 같은 고소함 (당화력 없음)
-        maltDb.put("Biscuit", new Grain("Biscuit", 1.295, 50.0));
+        maltDb.put("Biscuit", new Grain("Biscuit", 1.295, 50.0, GrainCategory.KILNED));
 
         // --- 결정화 몰트 (Crystal/Caramel) ---
         // 크리스탈 40: 꿀 캐러멜 향
-        maltDb.put("Crystal 40", new Grain("Crystal 40", 1.285, 80.0));
+        maltDb.put("Crystal 40", new Grain("Crystal 40", 1.285, 80.0, GrainCategory.CRYSTAL));
         // 크리스탈 120: 어두운 과일, 진한 토피 향
-        maltDb.put("Crystal 120", new Grain("Crystal 120", 1.275, 240.0));
+        maltDb.put("Crystal 120", new Grain("Crystal 120", 1.275, 240.0, GrainCategory.CRYSTAL));
 
 
         // --- 로스팅 몰트 (Roasted Malts) ---
         // 초콜릿 몰트: 초콜릿, 커피 향 (스타우트/포터용)
-        maltDb.put("Chocolate", new Grain("Chocolate", 1.240, 900.0));
+        maltDb.put("Chocolate", new Grain("Chocolate", 1.240, 900.0, GrainCategory.ROASTED));
         // 로스티드 발리: 탄 맛과 짙은 검은색, 스타우트의 핵심
-        maltDb.put("Roasted Barley", new Grain("Roasted Barley", 1.210, 1100.0));
+        maltDb.put("Roasted Barley", new Grain("Roasted Barley", 1.210, 1100.0, GrainCategory.ROASTED));
 
-        maltDb.put("Oats", new Grain("Flaked Oats", 1.280, 2.0));
-        maltDb.put("Wheat", new Grain("Wheat", 1.310, 3.0));
+        maltDb.put("Oats", new Grain("Flaked Oats", 1.280, 2.0, GrainCategory.ADJUNCT));
+        maltDb.put("Wheat", new Grain("Wheat", 1.310, 3.0, GrainCategory.WHEAT));
 
     }
 
     public Grain findByName(String name) {
 
-        Grain grain = maltDb.get(name);
+        Grain grain = (catalog != null) ? catalog.find(name) : maltDb.get(name);
         if (grain == null) {
             throw new IllegalArgumentException("해당 이름의 몰트를 찾을 수 없습니다: " + name);
         }
         return grain;
     }
-}
\ No newline at end of file
+
+    /**
+     * 카탈로그에 같은 값으로 등록된 키 (없으면 null)
+     * 기록을 보관할 때 재료를 카탈로그 키로 참조하는 용도이며, 같은 값이 여러 키에 있으면 그 중 하나를 반환한다.
+     */
+    public String keyOf(Grain grain) {
+        return keys.keyOf(grain);
+    }
+}
@@ -0,0 +1,318 @@
+package org.example.repository;
+
+import org.example.domain.Hop;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 홉 검색 색인 (첫 검색 때 한 번 만들고 변경하지 않음, 잠금 없이 동시 조회 가능)
+ * 홉을 알파산 오름차순으로 번호를 매기므로 알파산 범위는 연속 구간 [lo, hi) 가 되고,
+ * 정규화된 태그 -> 홉 번호 오름차순 배열(posting) 에서도 같은 구간을 이진 탐색으로 잘라낸다.
+ * AND 는 가장 짧은 목록을 기준으로 교집합, OR 는 목록들을 번호 순으로 병합하며 점수를 매기고 상위 N 개만 힙에 남긴다.
+ *
+ * 점수 = 일치한 태그 가중치 합 / sqrt(홉의 태그 수), 가중치 = ln(1 + 전체 홉 수 / 태그를 가진 홉 수)
+ * 같은 점수면 알파산이 낮은 쪽, 같은 알파산이면 키가 앞인 쪽이 먼저 온다.
+ */
+final class HopIndex {
+
+    private static final HopIndex EMPTY = new HopIndex(new String[0], new Hop[0], Map.of());
+
+    private final String[] keys;
+    private final Hop[] hops;
+    private final double[] alphas;
+    private final double[] norms;
+    private final Map<String, TagPosting> postings;
+
+    private HopIndex(String[] keys, Hop[] hops, Map<String, TagPosting> postings) {
+        this.keys = keys;
+        this.hops = hops;
+        this.postings = postings;
+        this.alphas = new double[hops.length];
+        this.norms = new double[hops.length];
+        for (int i = 0; i < hops.length; i++) {
+            alphas[i] = hops[i].alphaAcid();
+            norms[i] = 1.0 / Math.sqrt(Math.max(1, hops[i].flavorTags().size()));
+        }
+    }
+
+    /**
+     * @param keys 조회 키 (hops 와 같은 순서)
+     */
+    static HopIndex build(List<String> keys, List<Hop> hops) {
+        if (hops.isEmpty()) return EMPTY;
+
+        Integer[] order = new Integer[hops.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        // 같은 알파산은 키 순 (CSV/바이너리 어느 쪽에서 읽어도 같은 순위)
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> hops.get(i).alphaAcid())
+                .thenComparing(keys::get));
+
+        String[] sortedKeys = new String[order.length];
+        Hop[] sortedHops = new Hop[order.length];
+        Map<String, List<Integer>> lists = new HashMap<>();
+        for (int ordinal = 0; ordinal < order.length; ordinal++) {
+            sortedKeys[ordinal] = keys.get(order[ordinal]);
+            sortedHops[ordinal] = hops.get(order[ordinal]);
+            for (String tag : sortedHops[ordinal].flavorTags()) {
+                List<Integer> list = lists.computeIfAbsent(normalize(tag), t -> new ArrayList<>());
+                // 정규화 후 같은 태그가 두 번 나오는 경우 (예: "Earthy", "earthy")
+                if (list.isEmpty() || list.get(list.size() - 1) != ordinal) list.add(ordinal);
+            }
+        }
+
+        Map<String, TagPosting> postings = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+            int[] ids = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            postings.put(entry.getKey(), TagPosting.of(ids, order.length));
+        }
+        return new HopIndex(sortedKeys, sortedHops, Map.copyOf(postings));
+    }
+
+    /** 태그 비교용 정규화 (소문자, 글자/숫자만) */
+    static String normalize(String tag) {
+        StringBuilder normalized = new StringBuilder(tag.length());
+        for (int i = 0; i < tag.length(); ) {
+            int c = tag.codePointAt(i);
+            if (Character.isLetterOrDigit(c)) normalized.appendCodePoint(Character.toLowerCase(c));
+            i += Character.charCount(c);
+        }
+        return normalized.toString();
+    }
+
+    int size() {
+        return hops.length;
+    }
+
+    List<HopMatch> search(HopQuery query) {
+        int lo = lowerBound(alphas, query.minAlpha());
+        int hi = lowerBound(alphas, query.maxAlpha());
+        if (lo >= hi) return List.of();
+
+        Set<String> tags = new LinkedHashSet<>();
+        for (String tag : query.tags()) {
+            String normalized = normalize(tag);
+            if (!normalized.isEmpty()) tags.add(normalized);
+        }
+        if (tags.isEmpty()) {
+            return rangeOnly(lo, hi, query.limit());
+        }
+
+        List<Posting> lists = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            TagPosting posting = postings.get(tag);
+            int start = (posting == null) ? 0 : lowerBound(posting.ids, lo);
+            int end = (posting == null) ? 0 : lowerBound(posting.ids, hi);
+            if (start == end) {
+                // 범위 안에 이 태그를 가진 홉이 없음
+                if (query.mode() == HopQuery.Mode.ALL) return List.of();
+                continue;
+            }
+            lists.add(new Posting(posting, start, end, Math.log(1 + (double) hops.length / posting.ids.length)));
+        }
+        if (lists.isEmpty()) return List.of();
+
+        TopMatches top = new TopMatches(query.limit());
+        if (query.mode() == HopQuery.Mode.ALL) {
+            intersect(lists, top);
+        } else {
+            union(lists, top);
+        }
+        return top.toMatches();
+    }
+
+    private List<HopMatch> rangeOnly(int lo, int hi, int limit) {
+        List<HopMatch> matches = new ArrayList<>(Math.min(limit, hi - lo));
+        for (int ordinal = lo; ordinal < hi && matches.size() < limit; ordinal++) {
+            matches.add(new HopMatch(keys[ordinal], hops[ordinal], 0, 0.0));
+        }
+        return matches;
+    }
+
+    private void intersect(List<Posting> lists, TopMatches top) {
+        lists.sort(Comparator.comparingInt(Posting::length));
+        double weight = 0;
+        for (Posting list : lists) weight += list.weight;
+
+        // 모든 태그를 가진 홉은 태그가 lists.size() 개 이상이므로 점수 상한이 정해진다
+        double bound = weight / Math.sqrt(lists.size());
+
+        Posting shortest = lists.get(0);
+        candidates:
+        for (int i = shortest.start; i < shortest.end; i++) {
+            int ordinal = shortest.ids[i];
+            for (int k = 1; k < lists.size(); k++) {
+                if (!lists.get(k).contains(ordinal)) continue candidates;
+            }
+            top.offer(ordinal, lists.size(), weight * norms[ordinal]);
+            // 뒤 후보는 번호가 커서 동점으로는 밀어낼 수 없음
+            if (top.isFull() && top.worstScore() >= bound) return;
+        }
+    }
+
+    private void union(List<Posting> lists, TopMatches top) {
+        while (true) {
+            int ordinal = Integer.MAX_VALUE;
+            for (Posting list : lists) {
+                if (list.cursor < list.end) ordinal = Math.min(ordinal, list.ids[list.cursor]);
+            }
+            if (ordinal == Integer.MAX_VALUE) return;
+
+            int matched = 0;
+            double weight = 0;
+            for (Posting list : lists) {
+                if (list.cursor < list.end && list.ids[list.cursor] == ordinal) {
+                    matched++;
+                    weight += list.weight;
+                    list.cursor++;
+                }
+            }
+            top.offer(ordinal, matched, weight * norms[ordinal]);
+        }
+    }
+
+    private static int lowerBound(double[] values, double key) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int lowerBound(int[] values, int key) {
+        return lowerBound(values, 0, values.length, key);
+    }
+
+    private static int lowerBound(int[] values, int from, int to, int key) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * 태그 하나의 홉 번호 목록, 흔한 태그는 교집합 검사용 비트셋도 함께 둔다
+     */
+    private record TagPosting(int[] ids, long[] bits) {
+
+        // 홉 32개 중 1개 이상이 가진 태그면 비트셋이 번호 배열보다 작음
+        private static final int DENSE_RATIO = 32;
+
+        static TagPosting of(int[] ids, int hopCount) {
+            if ((long) ids.length * DENSE_RATIO < hopCount) return new TagPosting(ids, null);
+            long[] bits = new long[(hopCount + 63) >>> 6];
+            for (int id : ids) {
+                bits[id >>> 6] |= 1L << id;
+            }
+            return new TagPosting(ids, bits);
+        }
+    }
+
+    /**
+     * 검색 1회용 posting 구간과 커서
+     */
+    private static final class Posting {
+        final int[] ids;
+        final long[] bits;
+        final int start;
+        final int end;
+        final double weight;
+        int cursor;
+
+        Posting(TagPosting posting, int start, int end, double weight) {
+            this.ids = posting.ids;
+            this.bits = posting.bits;
+            this.start = start;
+            this.end = end;
+            this.weight = weight;
+            this.cursor = start;
+        }
+
+        int length() {
+            return end - start;
+        }
+
+        /** ordinal 을 포함하는지 (오름차순으로만 호출) */
+        boolean contains(int ordinal) {
+            if (bits != null) return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+            return advanceTo(ordinal);
+        }
+
+        /** 커서를 ordinal 이상으로 옮기고 ordinal 이 있는지 반환 (지수 탐색 후 이진 탐색) */
+        private boolean advanceTo(int ordinal) {
+            int step = 1;
+            int bound = cursor;
+            while (bound < end && ids[bound] < ordinal) {
+                cursor = bound + 1;
+                bound += step;
+                step <<= 1;
+            }
+            cursor = lowerBound(ids, cursor, Math.min(bound + 1, end), ordinal);
+            return cursor < end && ids[cursor] == ordinal;
+        }
+    }
+
+    /**
+     * 상위 N 개 후보 (최소 힙, 가장 나쁜 후보가 머리)
+     */
+    private final class TopMatches {
+        private final int limit;
+        // {ordinal, matched, score bits}
+        private final PriorityQueue<long[]> heap;
+
+        TopMatches(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 64) + 1, WORST_FIRST);
+        }
+
+        void offer(int ordinal, int matched, double score) {
+            long[] candidate = {ordinal, matched, Double.doubleToLongBits(score)};
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (WORST_FIRST.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        boolean isFull() {
+            return heap.size() == limit;
+        }
+
+        double worstScore() {
+            return Double.longBitsToDouble(heap.peek()[2]);
+        }
+
+        List<HopMatch> toMatches() {
+            List<long[]> sorted = new ArrayList<>(heap);
+            sorted.sort(WORST_FIRST.reversed());
+            List<HopMatch> matches = new ArrayList<>(sorted.size());
+            for (long[] candidate : sorted) {
+                int ordinal = (int) candidate[0];
+                matches.add(new HopMatch(keys[ordinal], hops[ordinal], (int) candidate[1],
+                        Double.longBitsToDouble(candidate[2])));
+            }
+            return matches;
+        }
+    }
+
+    // 점수가 낮을수록, 같은 점수면 번호(알파산)가 클수록 나쁜 후보
+    private static final Comparator<long[]> WORST_FIRST = (a, b) -> {
+        int byScore = Double.compare(Double.longBitsToDouble(a[2]), Double.longBitsToDouble(b[2]));
+        return (byScore != 0) ? byScore : Long.compare(b[0], a[0]);
+    };
+}
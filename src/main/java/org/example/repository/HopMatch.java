@@ -0,0 +1,11 @@
+package org.example.repository;
+
+import org.example.domain.Hop;
+
+/** 홉 검색 결과
+ * @param key 카탈로그 조회 키 (findByName 에 쓰는 값)
+ * @param matchedTags 일치한 검색 태그 수
+ * @param score 순위 점수 (희귀한 태그일수록, 홉의 태그 수가 적을수록 높음)
+ */
+public record HopMatch(String key, Hop hop, int matchedTags, double score) {
+}
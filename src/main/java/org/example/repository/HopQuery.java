@@ -0,0 +1,56 @@
+package org.example.repository;
+
+import java.util.List;
+
+/** 홉 검색 조건
+ * @param tags 찾을 풍미 태그 (대소문자, 공백, 기호는 무시하고 비교)
+ * @param mode ALL 이면 모든 태그를 가진 홉만, ANY 면 하나라도 가진 홉
+ * @param minAlpha 알파산 하한 (포함)
+ * @param maxAlpha 알파산 상한 (미포함, "alpha < 14" 는 maxAlpha = 14)
+ * @param limit 최대 결과 수
+ */
+public record HopQuery(List<String> tags, Mode mode, double minAlpha, double maxAlpha, int limit) {
+
+    public enum Mode { ALL, ANY }
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    public HopQuery {
+        tags = (tags == null) ? List.of() : List.copyOf(tags);
+        if (mode == null) {
+            throw new IllegalArgumentException("검색 방식을 지정해야 합니다");
+        }
+        if (!(minAlpha <= maxAlpha)) {
+            throw new IllegalArgumentException("알파산 범위가 올바르지 않습니다: " + minAlpha + " ~ " + maxAlpha);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("최대 결과 수는 1 이상이어야 합니다: " + limit);
+        }
+    }
+
+    /** 모든 태그를 가진 홉 (AND) */
+    public static HopQuery allOf(String... tags) {
+        return new HopQuery(List.of(tags), Mode.ALL, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, DEFAULT_LIMIT);
+    }
+
+    /** 태그를 하나 이상 가진 홉 (OR), 많이 겹칠수록 앞에 온다 */
+    public static HopQuery anyOf(String... tags) {
+        return new HopQuery(List.of(tags), Mode.ANY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, DEFAULT_LIMIT);
+    }
+
+    public HopQuery withAlphaRange(double minAlpha, double maxAlpha) {
+        return new HopQuery(tags, mode, minAlpha, maxAlpha, limit);
+    }
+
+    public HopQuery withMaxAlpha(double maxAlpha) {
+        return new HopQuery(tags, mode, minAlpha, maxAlpha, limit);
+    }
+
+    public HopQuery withMinAlpha(double minAlpha) {
+        return new HopQuery(tags, mode, minAlpha, maxAlpha, limit);
+    }
+
+    public HopQuery withLimit(int limit) {
+        return new HopQuery(tags, mode, minAlpha, maxAlpha, limit);
+    }
+}
@@ -1,16 +1,72 @@
 package org.example.repository;
 
 import org.example.domain.Hop;
+import org.example.repository.catalog.CatalogCsvReader;
+import org.example.repository.catalog.MappedCatalog;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class HopRepository {
     private final Map<String, Hop> hopDb = new HashMap<>();
+    // 컴파일된 카탈로그 파일 (없으면 hopDb 사용)
+    private final MappedCatalog<Hop> catalog;
+    private final KeyLookup<Hop> keys;
+    // 풍미 태그/알파산 검색 색인 (첫 search 호출 시 생성, 매핑 카탈로그를 로드할 때 전부 읽지 않도록)
+    private volatile HopIndex index;
 
     public HopRepository() {
         initData();
+        this.catalog = null;
+        this.keys = new KeyLookup<>(catalog, hopDb);
+    }
+
+    /**
+     * 파일 카탈로그에서 로드
+     * 컴파일된 바이너리(CatalogCompiler)면 메모리 매핑해서 조회 시점에 한 건씩 읽고, 그 외에는 CSV 로 읽는다.
+     */
+    public HopRepository(Path catalogFile) {
+        if (MappedCatalog.isCompiled(catalogFile)) {
+            this.catalog = MappedCatalog.openHops(catalogFile);
+        } else {
+            this.catalog = null;
+            hopDb.putAll(CatalogCsvReader.readHops(catalogFile));
+        }
+        this.keys = new KeyLookup<>(catalog, hopDb);
+    }
+
+    private HopIndex index() {
+        HopIndex built = index;
+        if (built == null) {
+            synchronized (this) {
+                built = index;
+                if (built == null) {
+                    built = buildIndex();
+                    index = built;
+                }
+            }
+        }
+        return built;
+    }
+
+    private HopIndex buildIndex() {
+        List<String> keys = new ArrayList<>();
+        List<Hop> hops = new ArrayList<>();
+        if (catalog != null) {
+            for (int i = 0; i < catalog.size(); i++) {
+                keys.add(catalog.keyAt(i));
+                hops.add(catalog.get(i));
+            }
+        } else {
+            hopDb.forEach((key, hop) -> {
+                keys.add(key);
+                hops.add(hop);
+            });
+        }
+        return HopIndex.build(keys, hops);
     }
 
     private void initData() {
@@ -64,13 +120,28 @@ public class HopRepository {
         hopDb.put(name, new Hop(name, alpha, tags));
     }
 
-
+    /**
+     * 풍미 태그 + 알파산 범위로 홉 검색
+     * 태그는 대소문자/공백/기호를 무시하고 비교하며, 결과는 점수 내림차순 (희귀한 태그가 많이 맞을수록 높음)
+     * 첫 호출 때 카탈로그 전체를 읽어 색인을 만든다.
+     */
+    public List<HopMatch> search(HopQuery query) {
+        return index().search(query);
+    }
 
     public Hop findByName(String name) {
-        Hop hop = hopDb.get(name);
+        Hop hop = (catalog != null) ? catalog.find(name) : hopDb.get(name);
         if (hop == null) {
             throw new IllegalArgumentException("해당 이름의 홉을 찾을 수 없습니다: " + name);
         }
         return hop;
     }
+
+    /**
+     * 카탈로그에 같은 값으로 등록된 키 (없으면 null)
+     * 기록을 보관할 때 재료를 카탈로그 키로 참조하는 용도이며, 같은 값이 여러 키에 있으면 그 중 하나를 반환한다.
+     */
+    public String keyOf(Hop hop) {
+        return keys.keyOf(hop);
+    }
 }
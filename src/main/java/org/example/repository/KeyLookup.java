@@ -0,0 +1,41 @@
+package org.example.repository;
+
+import org.example.repository.catalog.MappedCatalog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재료 값 -> 카탈로그 키 역조회 (저장소 공용)
+ * 매핑된 카탈로그는 파일의 값 해시 슬롯으로 바로 찾고, 메모리 카탈로그는 첫 호출 때 역색인을 만든다.
+ */
+final class KeyLookup<T> {
+
+    private final MappedCatalog<T> catalog;
+    private final Map<String, T> entries;
+    private volatile Map<T, String> keysByValue;
+
+    /**
+     * @param catalog 매핑된 카탈로그 (없으면 null)
+     * @param entries 메모리 카탈로그 (catalog 가 null 일 때만 사용, 생성 후 변경하지 않아야 함)
+     */
+    KeyLookup(MappedCatalog<T> catalog, Map<String, T> entries) {
+        this.catalog = catalog;
+        this.entries = entries;
+    }
+
+    /** 같은 값으로 등록된 키 (없으면 null) */
+    String keyOf(T value) {
+        if (catalog != null) return catalog.keyOf(value);
+
+        Map<T, String> index = keysByValue;
+        if (index == null) {
+            // 변경되지 않는 맵이라 동시에 여러 번 만들어져도 결과는 같음
+            Map<T, String> built = new HashMap<>();
+            entries.forEach((key, entry) -> built.putIfAbsent(entry, key));
+            index = Map.copyOf(built);
+            keysByValue = index;
+        }
+        return index.get(value);
+    }
+}
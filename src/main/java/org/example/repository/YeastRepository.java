@@ -3,12 +3,18 @@ package org.example.repository;
 import org.example.domain.Yeast;
 import org.example.domain.enums.YeastForm;
 import org.example.domain.enums.YeastType;
+import org.example.repository.catalog.CatalogCsvReader;
+import org.example.repository.catalog.MappedCatalog;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 public class YeastRepository {
     private final Map<String, Yeast> yeastDb = new HashMap<>();
+    // 컴파일된 카탈로그 파일 (없으면 yeastDb 사용)
+    private final MappedCatalog<Yeast> catalog;
+    private final KeyLookup<Yeast> keys;
 
     public YeastRepository() {
         //name, attenuation, type, form, minTemp, maxTemp, sensitivityFactor
@@ -19,11 +25,35 @@ public class YeastRepository {
         ));
         yeastDb.put("W-34/70", new Yeast("Saflager W-34/70", 0.83, YeastType.LAGER, YeastForm.DRY, 9.0, 15.0, 0.3
         ));
+        this.catalog = null;
+        this.keys = new KeyLookup<>(catalog, yeastDb);
+    }
+
+    /**
+     * 파일 카탈로그에서 로드
+     * 컴파일된 바이너리(CatalogCompiler)면 메모리 매핑해서 조회 시점에 한 건씩 읽고, 그 외에는 CSV 로 읽는다.
+     */
+    public YeastRepository(Path catalogFile) {
+        if (MappedCatalog.isCompiled(catalogFile)) {
+            this.catalog = MappedCatalog.openYeasts(catalogFile);
+        } else {
+            this.catalog = null;
+            yeastDb.putAll(CatalogCsvReader.readYeasts(catalogFile));
+        }
+        this.keys = new KeyLookup<>(catalog, yeastDb);
     }
 
     public Yeast findByName(String name) {
-        Yeast yeast = yeastDb.get(name);
+        Yeast yeast = (catalog != null) ? catalog.find(name) : yeastDb.get(name);
         if (yeast == null) throw new IllegalArgumentException("효모를 찾을 수 없습니다: " + name);
         return yeast;
     }
-}
\ No newline at end of file
+
+    /**
+     * 카탈로그에 같은 값으로 등록된 키 (없으면 null)
+     * 기록을 보관할 때 재료를 카탈로그 키로 참조하는 용도이며, 같은 값이 여러 키에 있으면 그 중 하나를 반환한다.
+     */
+    public String keyOf(Yeast yeast) {
+        return keys.keyOf(yeast);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.repository.catalog;
+
+import org.example.domain.Grain;
+import org.example.domain.Hop;
+import org.example.domain.Yeast;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 재료 카탈로그를 메모리 매핑용 바이너리 파일로 컴파일 (형식은 CatalogFormat 참고)
+ * 임시 파일에 쓴 뒤 이동하므로, 같은 경로를 매핑 중인 다른 프로세스는 이전 파일을 계속 본다.
+ */
+public final class CatalogCompiler {
+
+    private CatalogCompiler() {
+    }
+
+    /** CSV 카탈로그를 읽어 바이너리로 컴파일 */
+    public static void compile(CatalogKind kind, Path csv, Path output) {
+        switch (kind) {
+            case GRAIN -> compileGrains(CatalogCsvReader.readGrains(csv), output);
+            case HOP -> compileHops(CatalogCsvReader.readHops(csv), output);
+            case YEAST -> compileYeasts(CatalogCsvReader.readYeasts(csv), output);
+        }
+    }
+
+    public static void compileGrains(Map<String, Grain> grains, Path output) {
+        write(CatalogKind.GRAIN, grains, CatalogFormat.GRAIN, output);
+    }
+
+    public static void compileHops(Map<String, Hop> hops, Path output) {
+        write(CatalogKind.HOP, hops, CatalogFormat.HOP, output);
+    }
+
+    public static void compileYeasts(Map<String, Yeast> yeasts, Path output) {
+        write(CatalogKind.YEAST, yeasts, CatalogFormat.YEAST, output);
+    }
+
+    private static <T> void write(CatalogKind kind, Map<String, T> entries, CatalogFormat.RecordCodec<T> codec,
+                                  Path output) {
+        int count = entries.size();
+        int slotCount = CatalogFormat.slotCount(count);
+        int recordTable = CatalogFormat.HEADER_SIZE;
+        int slotTable = recordTable + count * 4;
+        int valueSlotTable = slotTable + slotCount * CatalogFormat.SLOT_SIZE;
+        int data = valueSlotTable + slotCount * CatalogFormat.SLOT_SIZE;
+
+        CatalogFormat.RecordWriter out = new CatalogFormat.RecordWriter(data + count * 64);
+        int[] slotHashes = new int[slotCount];
+        int[] slotRecords = new int[slotCount];
+        int[] valueSlotHashes = new int[slotCount];
+        int[] valueSlotRecords = new int[slotCount];
+
+        out.position(data);
+        int index = 0;
+        for (Map.Entry<String, T> entry : entries.entrySet()) {
+            byte[] key = CatalogFormat.utf8(entry.getKey());
+            out.putIntAt(recordTable + index * 4, out.position());
+            out.putBytes(key);
+            int value = out.position();
+            codec.write(out, entry.getValue());
+
+            int hash = CatalogFormat.hash(key);
+            int slot = hash & (slotCount - 1);
+            while (slotRecords[slot] != 0) slot = (slot + 1) & (slotCount - 1);
+            slotHashes[slot] = hash;
+            slotRecords[slot] = index + 1;
+
+            int valueHash = out.hash(value, out.position());
+            slot = valueHash & (slotCount - 1);
+            while (valueSlotRecords[slot] != 0) slot = (slot + 1) & (slotCount - 1);
+            valueSlotHashes[slot] = valueHash;
+            valueSlotRecords[slot] = index + 1;
+            index++;
+        }
+        int fileLength = out.position();
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            out.putIntAt(slotTable + slot * CatalogFormat.SLOT_SIZE, slotHashes[slot]);
+            out.putIntAt(slotTable + slot * CatalogFormat.SLOT_SIZE + 4, slotRecords[slot]);
+            out.putIntAt(valueSlotTable + slot * CatalogFormat.SLOT_SIZE, valueSlotHashes[slot]);
+            out.putIntAt(valueSlotTable + slot * CatalogFormat.SLOT_SIZE + 4, valueSlotRecords[slot]);
+        }
+
+        out.position(0);
+        out.putInt(CatalogFormat.MAGIC);
+        out.putShort(CatalogFormat.VERSION);
+        out.putByte(kind.code());
+        out.putByte(0);
+        out.putInt(count);
+        out.putInt(slotCount);
+        out.putInt(recordTable);
+        out.putInt(slotTable);
+        out.putInt(data);
+        out.putInt(fileLength);
+        out.position(fileLength);
+
+        writeAtomically(output, out.toByteArray());
+    }
+
+    private static void writeAtomically(Path output, byte[] bytes) {
+        Path absolute = output.toAbsolutePath();
+        try {
+            Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, bytes);
+                try {
+                    Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그를 쓸 수 없습니다: " + output, e);
+        }
+    }
+
+    /**
+     * 빌드/배포 스크립트용: grain|hop|yeast 입력.csv 출력.bin
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println("사용법: CatalogCompiler <grain|hop|yeast> <입력.csv> <출력.bin>");
+            System.exit(2);
+        }
+        CatalogKind kind = CatalogKind.valueOf(args[0].toUpperCase(Locale.ROOT));
+        compile(kind, Path.of(args[1]), Path.of(args[2]));
+    }
+}
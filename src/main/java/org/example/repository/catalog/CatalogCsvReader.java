@@ -0,0 +1,204 @@
+package org.example.repository.catalog;
+
+import org.example.domain.Grain;
+import org.example.domain.Hop;
+import org.example.domain.Yeast;
+import org.example.domain.enums.GrainCategory;
+import org.example.domain.enums.YeastForm;
+import org.example.domain.enums.YeastType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 재료 카탈로그 읽기 (UTF-8, 첫 줄은 헤더, 열 순서는 자유)
+ * key 는 조회 키(공급사 로트 번호 등), name 은 재료 이름이다. key 가 비어 있으면 name 을 키로 쓴다.
+ * 쉼표/따옴표가 들어간 값은 큰따옴표로 감싼다. (RFC 4180, 값 안의 따옴표는 두 번)
+ *
+ * 몰트: key, name, potential, lovibond, category (category 는 GrainCategory 이름, 비우면 이름으로 추정)
+ * 홉: key, name, alphaAcid, flavorTags ('|' 로 구분)
+ * 효모: key, name, attenuation, type, form, minTemp, maxTemp, sensitivityFactor
+ */
+public final class CatalogCsvReader {
+
+    private static final char TAG_SEPARATOR = '|';
+
+    private CatalogCsvReader() {
+    }
+
+    public static Map<String, Grain> readGrains(Path csv) {
+        return read(csv, row -> new Grain(
+                row.text("name"),
+                row.number("potential"),
+                row.number("lovibond"),
+                row.isBlank("category") ? null : row.enumValue("category", GrainCategory.class)));
+    }
+
+    public static Map<String, Hop> readHops(Path csv) {
+        return read(csv, row -> new Hop(
+                row.text("name"),
+                row.number("alphaAcid"),
+                row.list("flavorTags")));
+    }
+
+    public static Map<String, Yeast> readYeasts(Path csv) {
+        return read(csv, row -> new Yeast(
+                row.text("name"),
+                row.number("attenuation"),
+                row.enumValue("type", YeastType.class),
+                row.enumValue("form", YeastForm.class),
+                row.number("minTemp"),
+                row.number("maxTemp"),
+                row.number("sensitivityFactor")));
+    }
+
+    private interface RowMapper<T> {
+        T map(Row row);
+    }
+
+    private static <T> Map<String, T> read(Path csv, RowMapper<T> mapper) {
+        Map<String, T> entries = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("빈 카탈로그 파일입니다: " + csv);
+            }
+            // BOM 제거
+            if (headerLine.startsWith("\uFEFF")) headerLine = headerLine.substring(1);
+
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> header = split(headerLine, csv, 1);
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                Row row = new Row(columns, split(line, csv, lineNumber), csv, lineNumber);
+                T entry;
+                try {
+                    entry = mapper.map(row);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(csv + ":" + lineNumber + " " + e.getMessage(), e);
+                }
+                String key = row.isBlank("key") ? row.text("name") : row.text("key");
+                if (entries.putIfAbsent(key, entry) != null) {
+                    throw new IllegalArgumentException(csv + ":" + lineNumber + " 중복된 키입니다: " + key);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그를 읽을 수 없습니다: " + csv, e);
+        }
+        return entries;
+    }
+
+    private static List<String> split(String line, Path csv, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException(csv + ":" + lineNumber + " 따옴표가 닫히지 않았습니다");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 헤더 이름으로 값을 읽는 CSV 한 줄
+     */
+    private static final class Row {
+        private final Map<String, Integer> columns;
+        private final List<String> fields;
+        private final Path csv;
+        private final int lineNumber;
+
+        Row(Map<String, Integer> columns, List<String> fields, Path csv, int lineNumber) {
+            this.columns = columns;
+            this.fields = fields;
+            this.csv = csv;
+            this.lineNumber = lineNumber;
+        }
+
+        boolean isBlank(String column) {
+            Integer index = columns.get(column);
+            return index == null || index >= fields.size() || fields.get(index).isBlank();
+        }
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null) {
+                throw new IllegalArgumentException(csv + " 필수 열이 없습니다: " + column);
+            }
+            if (index >= fields.size() || fields.get(index).isBlank()) {
+                throw new IllegalArgumentException(csv + ":" + lineNumber + " 값이 비어 있습니다: " + column);
+            }
+            return fields.get(index).trim();
+        }
+
+        double number(String column) {
+            String value = text(column);
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("숫자가 아닙니다: " + column + "=" + value);
+            }
+        }
+
+        <E extends Enum<E>> E enumValue(String column, Class<E> type) {
+            String value = text(column);
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("알 수 없는 값입니다: " + column + "=" + value
+                        + " (" + Arrays.toString(type.getEnumConstants()) + ")");
+            }
+        }
+
+        List<String> list(String column) {
+            if (isBlank(column)) return List.of();
+            List<String> values = new ArrayList<>();
+            for (String value : text(column).split("\\" + TAG_SEPARATOR)) {
+                if (!value.isBlank()) values.add(value.trim());
+            }
+            return values;
+        }
+    }
+}
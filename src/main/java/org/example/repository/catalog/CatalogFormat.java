@@ -0,0 +1,263 @@
+package org.example.repository.catalog;
+
+import org.example.domain.Grain;
+import org.example.domain.Hop;
+import org.example.domain.Yeast;
+import org.example.domain.enums.GrainCategory;
+import org.example.domain.enums.GrainTrait;
+import org.example.domain.enums.YeastForm;
+import org.example.domain.enums.YeastType;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 컴파일된 카탈로그 파일 형식 (리틀 엔디언)
+ * <pre>
+ * 헤더 32바이트: magic(int) version(short) kind(byte) reserved(byte) count(int) slotCount(int)
+ *               recordTableOffset(int) slotTableOffset(int) dataOffset(int) fileLength(int)
+ * 레코드 표: count * int (레코드 시작 위치, 원본 순서)
+ * 해시 슬롯: slotCount * (int 키 해시, int 레코드 번호 + 1, 0이면 빈 슬롯), 선형 탐사
+ * 값 해시 슬롯: 키 슬롯 바로 뒤, 같은 구조로 레코드 값 바이트의 해시 (같은 값이면 앞 레코드가 먼저 탐사됨)
+ * 레코드: 키(u16 길이 + UTF-8) 다음에 종류별 값 (문자열은 모두 u16 길이 + UTF-8)
+ * </pre>
+ */
+final class CatalogFormat {
+
+    static final int MAGIC = 0x54435242; // "BRCT"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int SLOT_SIZE = 8;
+
+    static final int OFFSET_VERSION = 4;
+    static final int OFFSET_KIND = 6;
+    static final int OFFSET_COUNT = 8;
+    static final int OFFSET_SLOT_COUNT = 12;
+    static final int OFFSET_RECORD_TABLE = 16;
+    static final int OFFSET_SLOT_TABLE = 20;
+    static final int OFFSET_DATA = 24;
+    static final int OFFSET_FILE_LENGTH = 28;
+
+    private CatalogFormat() {
+    }
+
+    /** 키 해시 (UTF-8 바이트 FNV-1a 32비트) */
+    static int hash(byte[] key) {
+        return hash(ByteBuffer.wrap(key), 0, key.length);
+    }
+
+    /** buffer 의 [from, to) 구간 해시 (키와 같은 FNV-1a, 값 해시 슬롯용) */
+    static int hash(ByteBuffer buffer, int from, int to) {
+        int h = 0x811C9DC5;
+        for (int i = from; i < to; i++) {
+            h = (h ^ (buffer.get(i) & 0xFF)) * 0x01000193;
+        }
+        return h;
+    }
+
+    /** 적재율 50% 이하가 되는 2의 거듭제곱 */
+    static int slotCount(int count) {
+        int slots = 2;
+        while (slots < count * 2) slots <<= 1;
+        return slots;
+    }
+
+    static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("문자열이 너무 깁니다: " + value.substring(0, 32) + "...");
+        }
+        return bytes;
+    }
+
+    /** 레코드 값 직렬화 (키는 공통 처리) */
+    interface RecordCodec<T> {
+        void write(RecordWriter out, T value);
+
+        T read(RecordCursor in);
+    }
+
+    static final RecordCodec<Grain> GRAIN = new RecordCodec<>() {
+        @Override
+        public void write(RecordWriter out, Grain grain) {
+            out.putString(grain.name());
+            out.putDouble(grain.potential());
+            out.putDouble(grain.lovibond());
+            out.putByte(grain.category().code());
+            out.putByte(GrainTrait.mask(grain.traits()));
+        }
+
+        @Override
+        public Grain read(RecordCursor in) {
+            return new Grain(in.getString(), in.getDouble(), in.getDouble(), GrainCategory.fromCode(in.getByte()),
+                    GrainTrait.fromMask(in.getByte()));
+        }
+    };
+
+    static final RecordCodec<Hop> HOP = new RecordCodec<>() {
+        @Override
+        public void write(RecordWriter out, Hop hop) {
+            out.putString(hop.name());
+            out.putDouble(hop.alphaAcid());
+            out.putShort(hop.flavorTags().size());
+            for (String tag : hop.flavorTags()) {
+                out.putString(tag);
+            }
+        }
+
+        @Override
+        public Hop read(RecordCursor in) {
+            String name = in.getString();
+            double alphaAcid = in.getDouble();
+            int tagCount = in.getShort();
+            List<String> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(in.getString());
+            }
+            return new Hop(name, alphaAcid, tags);
+        }
+    };
+
+    static final RecordCodec<Yeast> YEAST = new RecordCodec<>() {
+        @Override
+        public void write(RecordWriter out, Yeast yeast) {
+            out.putString(yeast.name());
+            out.putDouble(yeast.attenuation());
+            out.putByte(yeast.type().code());
+            out.putByte(yeast.form().code());
+            out.putDouble(yeast.minTemp());
+            out.putDouble(yeast.maxTemp());
+            out.putDouble(yeast.sensitivityFactor());
+        }
+
+        @Override
+        public Yeast read(RecordCursor in) {
+            return new Yeast(in.getString(), in.getDouble(), YeastType.fromCode(in.getByte()),
+                    YeastForm.fromCode(in.getByte()), in.getDouble(), in.getDouble(), in.getDouble());
+        }
+    };
+
+    /**
+     * 늘어나는 리틀 엔디언 버퍼
+     */
+    static final class RecordWriter {
+        private ByteBuffer buffer;
+
+        RecordWriter(int capacity) {
+            buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        int position() {
+            return buffer.position();
+        }
+
+        void position(int position) {
+            ensure(position - buffer.position());
+            buffer.position(position);
+        }
+
+        void putByte(int value) {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void putShort(int value) {
+            if (value < 0 || value > 0xFFFF) {
+                throw new IllegalArgumentException("값이 u16 범위를 벗어났습니다: " + value);
+            }
+            ensure(2);
+            buffer.putShort((short) value);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putIntAt(int index, int value) {
+            buffer.putInt(index, value);
+        }
+
+        void putDouble(double value) {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        void putString(String value) {
+            putBytes(utf8(value));
+        }
+
+        void putBytes(byte[] bytes) {
+            putShort(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        }
+
+        int hash(int from, int to) {
+            return CatalogFormat.hash(buffer, from, to);
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() >= bytes) return;
+            long needed = (long) buffer.position() + bytes;
+            if (needed > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("카탈로그가 너무 큽니다 (2GB 초과)");
+            }
+            int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(needed, (long) buffer.capacity() * 2));
+            ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+
+    /**
+     * 매핑된 버퍼에서 레코드 하나를 읽는 커서 (절대 위치 읽기만 사용하므로 버퍼를 여러 스레드가 공유해도 된다)
+     */
+    static final class RecordCursor {
+        private final ByteBuffer buffer;
+        private int position;
+
+        RecordCursor(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int getByte() {
+            return buffer.get(position++) & 0xFF;
+        }
+
+        int getShort() {
+            int value = buffer.getShort(position) & 0xFFFF;
+            position += 2;
+            return value;
+        }
+
+        double getDouble() {
+            double value = buffer.getDouble(position);
+            position += 8;
+            return value;
+        }
+
+        String getString() {
+            int length = getShort();
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        void skipString() {
+            int length = getShort();
+            position += length;
+        }
+    }
+}
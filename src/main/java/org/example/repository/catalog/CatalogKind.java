@@ -0,0 +1,23 @@
+package org.example.repository.catalog;
+
+/** 카탈로그 종류 (바이너리 헤더에 기록되는 코드) */
+public enum CatalogKind {
+    GRAIN(1), HOP(2), YEAST(3);
+
+    private final int code;
+
+    CatalogKind(int code) {
+        this.code = code;
+    }
+
+    int code() {
+        return code;
+    }
+
+    static CatalogKind fromCode(int code) {
+        for (CatalogKind kind : values()) {
+            if (kind.code == code) return kind;
+        }
+        throw new IllegalArgumentException("알 수 없는 카탈로그 종류입니다: " + code);
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.repository.catalog;
+
+import org.example.domain.Grain;
+import org.example.domain.Hop;
+import org.example.domain.Yeast;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑된 컴파일 카탈로그 (CatalogCompiler 출력)
+ * 파일 전체를 읽어 들이지 않고, 조회 시 해시 슬롯 -> 레코드 하나만 디코딩한다. (값 -> 키 역조회도 값 해시 슬롯으로 같은 방식)
+ * 시작 비용은 헤더 검증뿐이라 카탈로그 크기와 무관하고, 페이지 캐시는 같은 파일을 매핑한 프로세스끼리 공유된다.
+ * 절대 위치 읽기만 하므로 여러 스레드에서 잠금 없이 사용해도 안전하다. (매핑은 GC 가 회수할 때 해제)
+ */
+public final class MappedCatalog<T> {
+
+    private final Path path;
+    private final CatalogKind kind;
+    private final ByteBuffer buffer;
+    private final CatalogFormat.RecordCodec<T> codec;
+
+    private final int count;
+    private final int slotMask;
+    private final int recordTable;
+    private final int slotTable;
+    private final int valueSlotTable;
+
+    private MappedCatalog(Path path, CatalogKind kind, ByteBuffer buffer, CatalogFormat.RecordCodec<T> codec) {
+        this.path = path;
+        this.kind = kind;
+        this.buffer = buffer;
+        this.codec = codec;
+
+        int fileLength = buffer.capacity();
+        if (fileLength < CatalogFormat.HEADER_SIZE || buffer.getInt(0) != CatalogFormat.MAGIC) {
+            throw invalid("카탈로그 파일이 아닙니다");
+        }
+        if (buffer.getShort(CatalogFormat.OFFSET_VERSION) != CatalogFormat.VERSION) {
+            throw invalid("지원하지 않는 버전입니다 (CSV 에서 다시 컴파일해야 함): " + buffer.getShort(CatalogFormat.OFFSET_VERSION));
+        }
+        CatalogKind stored = CatalogKind.fromCode(buffer.get(CatalogFormat.OFFSET_KIND));
+        if (stored != kind) {
+            throw invalid(kind + " 카탈로그가 아닙니다: " + stored);
+        }
+
+        this.count = buffer.getInt(CatalogFormat.OFFSET_COUNT);
+        int slotCount = buffer.getInt(CatalogFormat.OFFSET_SLOT_COUNT);
+        this.recordTable = buffer.getInt(CatalogFormat.OFFSET_RECORD_TABLE);
+        this.slotTable = buffer.getInt(CatalogFormat.OFFSET_SLOT_TABLE);
+        int data = buffer.getInt(CatalogFormat.OFFSET_DATA);
+        if (count < 0 || slotCount <= count || Integer.bitCount(slotCount) != 1
+                || buffer.getInt(CatalogFormat.OFFSET_FILE_LENGTH) != fileLength
+                || recordTable != CatalogFormat.HEADER_SIZE
+                || slotTable != recordTable + count * 4
+                || data != slotTable + 2 * slotCount * CatalogFormat.SLOT_SIZE
+                || data > fileLength) {
+            throw invalid("헤더가 손상되었습니다");
+        }
+        this.slotMask = slotCount - 1;
+        this.valueSlotTable = slotTable + slotCount * CatalogFormat.SLOT_SIZE;
+    }
+
+    public static MappedCatalog<Grain> openGrains(Path path) {
+        return open(path, CatalogKind.GRAIN, CatalogFormat.GRAIN);
+    }
+
+    public static MappedCatalog<Hop> openHops(Path path) {
+        return open(path, CatalogKind.HOP, CatalogFormat.HOP);
+    }
+
+    public static MappedCatalog<Yeast> openYeasts(Path path) {
+        return open(path, CatalogKind.YEAST, CatalogFormat.YEAST);
+    }
+
+    /** 컴파일된 카탈로그 파일인지 (앞 4바이트만 확인) */
+    public static boolean isCompiled(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // 4바이트를 다 읽거나 파일 끝까지
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == CatalogFormat.MAGIC;
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    private static <T> MappedCatalog<T> open(Path path, CatalogKind kind, CatalogFormat.RecordCodec<T> codec) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("카탈로그가 너무 큽니다 (2GB 초과): " + path);
+            }
+            // 매핑은 채널을 닫아도 유지된다
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            return new MappedCatalog<>(path, kind, buffer, codec);
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /** 키로 조회, 없으면 null */
+    public T find(String key) {
+        int record = indexOf(key);
+        return (record < 0) ? null : get(record);
+    }
+
+    public boolean contains(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    /** 파일 순서 기준 레코드 번호, 없으면 -1 */
+    public int indexOf(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = CatalogFormat.hash(bytes);
+
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            int base = slotTable + slot * CatalogFormat.SLOT_SIZE;
+            int record = buffer.getInt(base + 4) - 1;
+            if (record < 0) return -1;
+            if (buffer.getInt(base) == hash && keyEquals(recordOffset(record), bytes)) return record;
+        }
+    }
+
+    /**
+     * 같은 값으로 등록된 키, 없으면 null (같은 값이 여러 키에 있으면 파일 순서상 앞의 키)
+     * 값을 레코드 형식으로 인코딩해 값 해시 슬롯을 찾고, 후보 레코드는 디코딩 없이 바이트로 비교한다.
+     */
+    public String keyOf(T value) {
+        CatalogFormat.RecordWriter out = new CatalogFormat.RecordWriter(64);
+        codec.write(out, value);
+        byte[] bytes = out.toByteArray();
+        int hash = CatalogFormat.hash(bytes);
+
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            int base = valueSlotTable + slot * CatalogFormat.SLOT_SIZE;
+            int record = buffer.getInt(base + 4) - 1;
+            if (record < 0) return null;
+            if (buffer.getInt(base) == hash && valueEquals(recordOffset(record), bytes)) return keyAt(record);
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** index 번째 레코드 (0 ~ size-1, 원본 카탈로그 순서) */
+    public T get(int index) {
+        CatalogFormat.RecordCursor cursor = new CatalogFormat.RecordCursor(buffer, recordOffset(index));
+        cursor.skipString();
+        return codec.read(cursor);
+    }
+
+    public String keyAt(int index) {
+        return new CatalogFormat.RecordCursor(buffer, recordOffset(index)).getString();
+    }
+
+    public CatalogKind kind() {
+        return kind;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("레코드 번호가 범위를 벗어났습니다: " + index + " / " + count);
+        }
+        return buffer.getInt(recordTable + index * 4);
+    }
+
+    private boolean keyEquals(int offset, byte[] key) {
+        int length = buffer.getShort(offset) & 0xFFFF;
+        if (length != key.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + 2 + i) != key[i]) return false;
+        }
+        return true;
+    }
+
+    /** 레코드 값 바이트가 bytes 와 같은지 (값 인코딩은 길이를 스스로 담으므로 앞부분만 비교하면 됨) */
+    private boolean valueEquals(int offset, byte[] value) {
+        int start = offset + 2 + (buffer.getShort(offset) & 0xFFFF);
+        if (start + value.length > buffer.capacity()) return false;
+        for (int i = 0; i < value.length; i++) {
+            if (buffer.get(start + i) != value[i]) return false;
+        }
+        return true;
+    }
+
+    private IllegalArgumentException invalid(String message) {
+        return new IllegalArgumentException(message + ": " + path);
+    }
+}
@@ -1,168 +1,500 @@
 package org.example.service;
 
 import org.example.domain.FlavorProfile;
+import org.example.domain.FlavorTagSet;
 import org.example.domain.Recipe;
 import org.example.domain.Yeast;
 import org.example.engine.*;
+import org.example.metrics.Counter;
+import org.example.metrics.LatencyHistogram;
+import org.example.metrics.MetricsRegistry;
+import org.example.simulation.CompiledTemperatureSchedule;
+import org.example.simulation.ConvergenceCriteria;
 import org.example.simulation.DryHopAddition;
+import org.example.simulation.SimulationEvent;
+import org.example.simulation.SimulationEventQueue;
+import org.example.simulation.SimulationJob;
+import org.example.simulation.SimulationJobResult;
 import org.example.simulation.SimulationLog;
+import org.example.simulation.SimulationOptions;
+import org.example.simulation.SimulationSink;
+import org.example.simulation.SimulationTimeline;
+import org.example.simulation.SteadyStateOutput;
+import org.example.simulation.TemperatureChange;
 import org.example.simulation.TemperatureSchedule;
 
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 발효 시뮬레이터
+ * 엔진들은 상태를 갖지 않고 simulate 는 지역 변수만 사용하므로, 하나의 인스턴스를 여러 스레드에서 동시에 호출해도 안전하다.
+ * 단, 실행 중에는 입력 Recipe / TemperatureSchedule 을 수정하지 않아야 한다. (읽기 전용으로 공유, Recipe.freeze() 사본은 수정 불가)
+ */
 public class BrewingSimulator {
 
     // 엔진 로드
-    private final BrewCalculator calculator = new BrewCalculator();
+    private final BrewCalculator calculator;
     private final FermentationEngine fermentationEngine = new FermentationEngine();
-    private final DensityEngine densityEngine = new DensityEngine();
     private final HopChemistryEngine hopChemistryEngine = new HopChemistryEngine();
+    private final KineticsIntegrator adaptiveIntegrator = new DormandPrinceIntegrator();
+    private final KineticsIntegrator segmentSolver = new ClosedFormKineticsSolver();
+
+    private final SimulationOptions options;
+
+    // 실행/단계별 소요 시간과 횟수 (options.metrics() 가 null 이면 모두 null, 계측 지점은 null 확인만 함)
+    private final LatencyHistogram runTimer;
+    private final LatencyHistogram brewhouseTimer;
+    private final LatencyHistogram setupTimer;
+    private final LatencyHistogram fermentationTimer;
+    private final LatencyHistogram fastForwardTimer;
+    private final LatencyHistogram dryHopTimer;
+    private final Counter simulatedHours;
+    private final Counter dryHopAdditions;
+    private final Counter cancelledRuns;
+
+    public BrewingSimulator() {
+        this(SimulationOptions.defaults());
+    }
+
+    public BrewingSimulator(SimulationOptions options) {
+        this.options = options;
+        MetricsRegistry metrics = options.metrics();
+        this.calculator = new BrewCalculator(options.flavorCache(), metrics);
+        this.runTimer = MetricsRegistry.timer(metrics, "simulation.run");
+        this.brewhouseTimer = MetricsRegistry.timer(metrics, "simulation.phase.brewhouse");
+        this.setupTimer = MetricsRegistry.timer(metrics, "simulation.phase.setup");
+        this.fermentationTimer = MetricsRegistry.timer(metrics, "simulation.phase.fermentation");
+        this.fastForwardTimer = MetricsRegistry.timer(metrics, "simulation.phase.fast_forward");
+        this.dryHopTimer = MetricsRegistry.timer(metrics, "simulation.dry_hop");
+        this.simulatedHours = MetricsRegistry.counter(metrics, "simulation.hours");
+        this.dryHopAdditions = MetricsRegistry.counter(metrics, "simulation.dry_hop.additions");
+        this.cancelledRuns = MetricsRegistry.counter(metrics, "simulation.cancelled");
+    }
+
+    public SimulationOptions getOptions() {
+        return options;
+    }
 
     /**
      * 시뮬레이션 메인 메서드
      */
     public List<SimulationLog> simulate(Recipe recipe, TemperatureSchedule tempSchedule,
-                                        List<DryHopAddition> dryHopAdditions, int durationDays) {
+                                        List<? extends SimulationEvent> events, int durationDays) {
         List<SimulationLog> logs = new ArrayList<>();
-        int totalHours = durationDays * 24;
-
-        simulateBrewhouse(recipe, logs);
-
-        // 발효 초기값 설정
-        double currentGravity = densityEngine.calculateOG(recipe);
-        final double startOG = currentGravity;
-
-        // 목표 지점(TargetFG) 계산
-        double optimalTemp = recipe.getYeastItem().yeast().maxTemp();
-        double targetFG = fermentationEngine.calculateFG(recipe, startOG, optimalTemp, 65.0);
-
+        simulate(recipe, tempSchedule, events, durationDays,
+                (hour, temp, gravity, abv, phase, tags, ester, diacetyl) ->
+                        logs.add(new SimulationLog(hour, temp, gravity, abv, phase, tags, ester, diacetyl)));
+        return logs;
+    }
 
-        FlavorProfile lastProfile = null;
-        String phase = "Lag Phase";
+    /**
+     * 컬럼 기반 결과로 시뮬레이션 (대량 스윕용, 시간당 레코드/태그 리스트를 만들지 않음)
+     */
+    public SimulationTimeline simulateTimeline(Recipe recipe, TemperatureSchedule tempSchedule,
+                                               List<? extends SimulationEvent> events, int durationDays) {
+        SimulationTimeline.Builder builder = SimulationTimeline.builder(durationDays * 24 + 16);
+        simulate(recipe, tempSchedule, events, durationDays, builder);
+        return builder.build();
+    }
 
-        List<String> dryHopTags = new ArrayList<>();
+    /**
+     * 시뮬레이션 결과를 sink 로 바로 흘려보내는 기본 루프
+     * 측정 중이면 실행 전체와 단계(brewhouse, setup, fermentation) 시간을 기록한다. (sink 처리 시간 포함)
+     * @param events 드라이 호핑(DryHopAddition), 온도 변경(TemperatureChange) 등 시간 지정 이벤트
+     */
+    public void simulate(Recipe recipe, TemperatureSchedule tempSchedule,
+                         List<? extends SimulationEvent> events, int durationDays, SimulationSink sink) {
+        int totalHours = durationDays * 24;
+        long runStart = LatencyHistogram.startTime(runTimer);
+
+        // OG/IBU/재료 비율은 레시피당 한 번만 계산해서 이후 풍미 재예측까지 공유
+        RecipeMetrics metrics = calculator.calculateMetrics(recipe);
+
+        long phaseStart = LatencyHistogram.startTime(brewhouseTimer);
+        simulateBrewhouse(recipe, metrics, sink);
+        LatencyHistogram.recordSince(brewhouseTimer, phaseStart);
+
+        phaseStart = LatencyHistogram.startTime(setupTimer);
+        FermentationRun run = startRun(recipe, metrics);
+        // 온도는 컴파일된 시간별 표에서 조회 (램프 포함, 할당 없음)
+        CompiledTemperatureSchedule temps = tempSchedule.compile(totalHours);
+        // 외부 이벤트는 시간순 큐에 적재, 루프는 예정된 시간에만 이벤트를 건드림
+        SimulationEventQueue eventQueue = buildEventQueue(events);
+        LatencyHistogram.recordSince(setupTimer, phaseStart);
+
+        phaseStart = LatencyHistogram.startTime(fermentationTimer);
+        switch (options.integrationMode()) {
+            case FIXED_STEP -> simulateFixedStep(recipe, run, temps, eventQueue, totalHours, sink);
+            case ADAPTIVE -> simulateByStops(recipe, run, temps, eventQueue, totalHours, sink, adaptiveIntegrator);
+            case SEGMENT -> simulateByStops(recipe, run, temps, eventQueue, totalHours, sink, segmentSolver);
+        }
+        LatencyHistogram.recordSince(fermentationTimer, phaseStart);
 
-        double dynamicFG = targetFG;
-        double dynamicIBU = calculator.calculateIBU(recipe);
-        double currentDiacetyl = 0;
+        Counter.add(simulatedHours, totalHours);
+        LatencyHistogram.recordSince(runTimer, runStart);
+    }
 
+    /**
+     * 1시간 고정 스텝 루프 (기존 경험식 기반)
+     */
+    private void simulateFixedStep(Recipe recipe, FermentationRun run, CompiledTemperatureSchedule temps,
+                                   SimulationEventQueue eventQueue, int totalHours, SimulationSink sink) {
+        Yeast yeast = recipe.getYeastItem().yeast();
+        List<SimulationEvent> dueEvents = new ArrayList<>();
 
         for (int hour = 0; hour <= totalHours; hour++) {
-            double currentTemp = tempSchedule.getTempAt(hour);
+            // 배치 실행 취소 요청 확인 (하루 단위)
+            if (hour % 24 == 0) checkCancelled(hour);
+
+            // 이번 시간 이벤트 수거, 온도 변경은 비중 계산 전에 바로 반영
+            drainEvents(run, eventQueue, temps, hour, dueEvents);
+            double currentTemp = currentTemp(run, temps, hour);
 
             // 비중
-            double drop = calculateHourlyDrop(hour, currentGravity, targetFG, currentTemp, recipe.getYeastItem().yeast());
+            double drop = calculateHourlyDrop(hour, run.gravity, run.targetFG, currentTemp, yeast);
             if (drop < 0) drop = 0;
-            currentGravity -= drop;
+            run.gravity -= drop;
 
-            double currentABV = fermentationEngine.calculateABV(startOG, currentGravity);
+            double currentABV = fermentationEngine.calculateABV(run.startOG, run.gravity);
 
             // 드라이호핑
-            for(DryHopAddition dryHopAddition : dryHopAdditions){
-                if(dryHopAddition.hour() == hour)
-                {
-                    double gramsPerLiter = dryHopAddition.amountGrams() / recipe.getBatchSizeLiters();
-                    double addedIbu = hopChemistryEngine.calculateHumulinoneIBU(gramsPerLiter, currentABV);
-                    double fgDrop = hopChemistryEngine.calculateHopCreepDrop(gramsPerLiter, currentGravity);
-
-                    dynamicIBU += addedIbu;
-                    dynamicFG -= fgDrop;
-                    currentDiacetyl += 25.0;
-
-                    /*
-                    logs.add(new SimulationLog(
-                            hour, currentTemp, currentGravity,
-                            fermentationEngine.calculateABV(startOG, currentGravity),
-                            //"Event: Dry Hop Added",
-                            "Hop Addition: " + dryHopAddition.hop().name(),
-                            List.of("+" + dryHopAddition.amountGrams() + "g added"),
-                            0, 0
-                    ));
-
-                     */
-
-                    logs.add(new SimulationLog(
-                            hour, currentTemp, currentGravity, currentABV,
-                            //"Event: Dry Hop Added",
-                            "Hop Addition: " + dryHopAddition.hop().name(),
-                            List.of(String.format("+%.1fg %s (IBU +%.2f, TargetFG -%.4f)",
-                                    dryHopAddition.amountGrams(), dryHopAddition.hop().name(), addedIbu, fgDrop)),
-                            0, 0
-                    ));
-
-
-                    dryHopTags.addAll(dryHopAddition.hop().flavorTags());
-                }
-            }
+            applyDryHops(recipe, run, dueEvents, hour, currentTemp, currentABV, sink);
+            dueEvents.clear();
 
-            if (currentDiacetyl > 0) {
-                double reduction = hopChemistryEngine.calculateDiacetylReduction(currentDiacetyl, currentTemp);
-                currentDiacetyl -= reduction;
+            if (run.diacetyl > 0) {
+                double reduction = hopChemistryEngine.calculateDiacetylReduction(run.diacetyl, currentTemp);
+                run.diacetyl -= reduction;
 
             }
 
-            if (drop < 0) drop = 0;
-
-            currentGravity -= drop;
+            run.gravity -= drop;
 
             //if (currentGravity < targetFG) currentGravity = targetFG;
 
             // 혹시라도 비중이 시작점보다 높아질까봐 엔트로피 보정
-            if (currentGravity > startOG) currentGravity = startOG;
-
-            //double currentABV = fermentationEngine.calculateABV(startOG, currentGravity);
+            if (run.gravity > run.startOG) run.gravity = run.startOG;
 
             //phase = determinePhase(hour, currentGravity, startOG, targetFG, currentTemp);
 
-            phase = determinePhase(hour, currentGravity, startOG, targetFG, tempSchedule.getTempAt(hour));
+            run.phase = determinePhase(hour, run.gravity, run.startOG, run.targetFG, currentTemp);
 
             // flavor 분석
 
             if (hour == 0 || hour % 24 == 0 || hour == totalHours) {
-                lastProfile = calculator.predictFlavorProfile(recipe, currentTemp);
+                updateProfile(recipe, run, currentTemp);
+            }
+
+            if (isLogHour(hour, totalHours)) {
+                emitState(run, hour, currentTemp, currentABV, sink);
             }
 
-            if (lastProfile != null) {
-                List<String> combinedTags = new ArrayList<>(lastProfile.flavorTags());
-                combinedTags.addAll(dryHopTags);
+            //비중 낮아져서 컨디셔닝 페이즈로 가면 발효 종료로 간주하는 코드
+            //if (phase.contains("Finished") && hour > 240) break;
+
+            // 정상 상태면 다음 이벤트/온도 변경 직전까지 계산 없이 건너뜀
+            if (hour < totalHours && isConverged(run, hour)) {
+                int resumeHour = Math.min(totalHours + 1,
+                        Math.min(eventQueue.nextHour(), nextTemperatureChange(run, temps, hour)));
+                long start = LatencyHistogram.startTime(fastForwardTimer);
+                fastForward(recipe, run, temps, hour, resumeHour, currentABV, totalHours, sink);
+                LatencyHistogram.recordSince(fastForwardTimer, start);
+                hour = resumeHour - 1;
+            }
+        }
+    }
+
+    private boolean isConverged(FermentationRun run, int hour) {
+        ConvergenceCriteria convergence = options.convergence();
+        if (convergence == null || hour < convergence.minHour()) return false;
+
+        return Math.abs(run.gravity - run.targetFG) < convergence.gravityTolerance()
+                && run.diacetyl <= convergence.diacetylTolerance();
+    }
+
+    /**
+     * (fromHour, resumeHour) 구간을 상태 유지로 채움
+     * 구간 내 온도는 일정하므로 풍미는 온도가 바뀐 경우에만 다시 예측하고, 태그 리스트도 그대로 재사용한다.
+     */
+    private void fastForward(Recipe recipe, FermentationRun run, CompiledTemperatureSchedule temps,
+                             int fromHour, int resumeHour, double currentABV, int totalHours, SimulationSink sink) {
+        boolean sparse = options.convergence().output() == SteadyStateOutput.SPARSE;
+
+        for (int hour = fromHour + 1; hour < resumeHour; hour++) {
+            if (hour % 24 == 0) checkCancelled(hour);
+
+            boolean dayBoundary = hour % 24 == 0 || hour == totalHours;
+            if (sparse && !dayBoundary) continue;
+
+            double currentTemp = currentTemp(run, temps, hour);
+            if (dayBoundary && currentTemp != run.profileTemp) {
+                updateProfile(recipe, run, currentTemp);
+            }
+            run.phase = determinePhase(hour, run.gravity, run.startOG, run.targetFG, currentTemp);
+
+            if (isLogHour(hour, totalHours)) {
+                emitState(run, hour, currentTemp, currentABV, sink);
+            }
+        }
+    }
+
+    /**
+     * 정지 시점(이벤트, 기록 시간, 온도 변경) 사이를 적분기로 한 번에 진행하는 루프
+     * FermentationPhysics 반응 속도론을 따르며, 구간 내부 처리는 적분기(적응형 스텝 / 해석해)가 결정한다.
+     */
+    private void simulateByStops(Recipe recipe, FermentationRun run, CompiledTemperatureSchedule temps,
+                                  SimulationEventQueue eventQueue, int totalHours, SimulationSink sink,
+                                  KineticsIntegrator integrator) {
+        Yeast yeast = recipe.getYeastItem().yeast();
+        List<SimulationEvent> dueEvents = new ArrayList<>();
+        double[] state = {run.gravity, run.diacetyl};
+        int profileDay = -1;
+
+        int hour = 0;
+        while (true) {
+            checkCancelled(hour);
+
+            drainEvents(run, eventQueue, temps, hour, dueEvents);
+            double currentTemp = currentTemp(run, temps, hour);
+
+            run.gravity = state[KineticsIntegrator.GRAVITY];
+            run.diacetyl = state[KineticsIntegrator.DIACETYL];
+            double currentABV = fermentationEngine.calculateABV(run.startOG, run.gravity);
+
+            applyDryHops(recipe, run, dueEvents, hour, currentTemp, currentABV, sink);
+            dueEvents.clear();
+            state[KineticsIntegrator.DIACETYL] = run.diacetyl;
+
+            // 홉 크립으로 내려간 목표 비중 기준으로 종료 판정
+            run.phase = determinePhase(hour, run.gravity, run.startOG, run.dynamicFG, currentTemp);
+
+            if (isLogHour(hour, totalHours)) {
+                // 기존 루프와 같이 하루 단위로 풍미 재예측
+                if (run.lastProfile == null || hour / 24 != profileDay || hour == totalHours) {
+                    updateProfile(recipe, run, currentTemp);
+                    profileDay = hour / 24;
+                }
+                emitState(run, hour, currentTemp, currentABV, sink);
+            }
+
+            if (hour >= totalHours) break;
+
+            int next = nextStop(run, temps, eventQueue, hour, totalHours);
+            integrator.advance(state, next - hour, currentTemp, yeast, run.dynamicFG);
+            hour = next;
+        }
+    }
 
+    /**
+     * 다음 정지 시점: 기록 시간, 이벤트, 온도 변경(구간 경계, 램프는 매시간) 중 가장 이른 시간
+     */
+    private int nextStop(FermentationRun run, CompiledTemperatureSchedule temps, SimulationEventQueue eventQueue,
+                         int hour, int totalHours) {
+        int interval = options.logIntervalHours();
+        int next = Math.min(totalHours, (hour / interval + 1) * interval);
+        next = Math.min(next, eventQueue.nextHour());
+        return Math.min(next, nextTemperatureChange(run, temps, hour));
+    }
 
+    /**
+     * 온도가 다음으로 바뀌는 시간 (온도 변경 이벤트 종료, 구간 경계, 램프 구간이면 다음 시간)
+     */
+    private int nextTemperatureChange(FermentationRun run, CompiledTemperatureSchedule temps, int hour) {
+        if (hour < run.overrideUntil) return run.overrideUntil;
+
+        int segment = temps.segmentIndexAt(hour);
+        return temps.isConstant(segment) ? temps.segmentEnd(segment) : hour + 1;
+    }
+
+    private FermentationRun startRun(Recipe recipe, RecipeMetrics metrics) {
+        // 발효 초기값 설정
+        double startOG = metrics.og();
+
+        // 목표 지점(TargetFG) 계산
+        double optimalTemp = recipe.getYeastItem().yeast().maxTemp();
+        double targetFG = fermentationEngine.calculateFG(recipe, startOG, optimalTemp, 65.0);
+
+        // 풍미 캐시 키는 실행마다 한 번만 계산
+        long fingerprint = options.flavorCache() != null ? recipe.fingerprint() : 0L;
+        return new FermentationRun(metrics, fingerprint, targetFG);
+    }
+
+    private void drainEvents(FermentationRun run, SimulationEventQueue eventQueue, CompiledTemperatureSchedule temps,
+                             int hour, List<SimulationEvent> dueEvents) {
+        if (eventQueue.nextHour() > hour) return;
+
+        eventQueue.drainUntil(hour, dueEvents);
+        for (SimulationEvent event : dueEvents) {
+            if (event instanceof TemperatureChange change) {
+                run.overrideTemp = change.temperature();
+                run.overrideUntil = temps.nextBreakpointAfter(hour);
+            }
+        }
+    }
+
+    private double currentTemp(FermentationRun run, CompiledTemperatureSchedule temps, int hour) {
+        return (hour < run.overrideUntil) ? run.overrideTemp : temps.tempAt(hour);
+    }
+
+    private void applyDryHops(Recipe recipe, FermentationRun run, List<SimulationEvent> dueEvents, int hour,
+                              double currentTemp, double currentABV, SimulationSink sink) {
+        if (dueEvents.isEmpty()) return;
+
+        long start = LatencyHistogram.startTime(dryHopTimer);
+        int added = 0;
+        for (SimulationEvent event : dueEvents) {
+            if (event instanceof DryHopAddition dryHopAddition)
+            {
+                added++;
+                double gramsPerLiter = dryHopAddition.amountGrams() / recipe.getBatchSizeLiters();
+                double addedIbu = hopChemistryEngine.calculateHumulinoneIBU(gramsPerLiter, currentABV);
+                double fgDrop = hopChemistryEngine.calculateHopCreepDrop(gramsPerLiter, run.gravity);
+
+                run.dynamicIBU += addedIbu;
+                run.dynamicFG -= fgDrop;
+                run.diacetyl += 25.0;
+
+                /*
                 logs.add(new SimulationLog(
-                        hour, currentTemp, currentGravity, currentABV, phase,
-                        combinedTags.stream().distinct().toList(),
-                        lastProfile.esterScore(), lastProfile.diacetylRisk()
+                        hour, currentTemp, currentGravity,
+                        fermentationEngine.calculateABV(startOG, currentGravity),
+                        //"Event: Dry Hop Added",
+                        "Hop Addition: " + dryHopAddition.hop().name(),
+                        List.of("+" + dryHopAddition.amountGrams() + "g added"),
+                        0, 0
                 ));
+
+                 */
+
+                sink.accept(
+                        hour, currentTemp, run.gravity, currentABV,
+                        //"Event: Dry Hop Added",
+                        "Hop Addition: " + dryHopAddition.hop().name(),
+                        List.of(String.format("+%.1fg %s (IBU +%.2f, TargetFG -%.4f)",
+                                dryHopAddition.amountGrams(), dryHopAddition.hop().name(), addedIbu, fgDrop)),
+                        0, 0
+                );
+
+
+                run.dryHopTags = run.dryHopTags.union(dryHopAddition.hop().flavorTags());
+                run.combinedTags = null;
             }
-            
-            //비중 낮아져서 컨디셔닝 페이즈로 가면 발효 종료로 간주하는 코드
-            //if (phase.contains("Finished") && hour > 240) break;
         }
+        // 온도 변경만 있던 시간은 기록하지 않음
+        if (added > 0) {
+            Counter.add(dryHopAdditions, added);
+            LatencyHistogram.recordSince(dryHopTimer, start);
+        }
+    }
 
-        return logs;
+    private void updateProfile(Recipe recipe, FermentationRun run, double currentTemp) {
+        run.lastProfile = calculator.predictFlavorProfile(recipe, run.metrics, run.fingerprint, currentTemp);
+        run.profileTemp = currentTemp;
+        run.combinedTags = null;
+    }
+
+    private void emitState(FermentationRun run, int hour, double currentTemp, double currentABV, SimulationSink sink) {
+        if (run.lastProfile == null) return;
+
+        if (run.combinedTags == null) {
+            run.combinedTags = run.lastProfile.flavorTags().union(run.dryHopTags);
+        }
+
+        sink.accept(
+                hour, currentTemp, run.gravity, currentABV, run.phase,
+                run.combinedTags,
+                run.lastProfile.esterScore(), run.lastProfile.diacetylRisk(), run.diacetyl
+        );
     }
 
-    private void simulateBrewhouse(Recipe recipe, List<SimulationLog> logs) {
-        double og = densityEngine.calculateOG(recipe);
+    private boolean isLogHour(int hour, int totalHours) {
+        return hour % options.logIntervalHours() == 0 || hour == totalHours;
+    }
+
+    private void checkCancelled(int hour) {
+        if (Thread.currentThread().isInterrupted()) {
+            Counter.increment(cancelledRuns);
+            throw new CancellationException("시뮬레이션이 취소되었습니다: " + hour + "h");
+        }
+    }
+
+    /**
+     * 시뮬레이션 1회의 가변 상태 (스레드 간 공유하지 않음)
+     */
+    private static final class FermentationRun {
+        final RecipeMetrics metrics;
+        final long fingerprint;
+        final double startOG;
+        final double targetFG;
+
+        double gravity;
+        double dynamicFG;
+        double dynamicIBU;
+        double diacetyl;
+        String phase = "Lag Phase";
+
+        FlavorTagSet dryHopTags = FlavorTagSet.empty();
+        // 프로파일 태그 + 드라이홉 태그 합집합, 둘 중 하나가 바뀔 때만 다시 계산
+        FlavorTagSet combinedTags;
+        FlavorProfile lastProfile;
+        double profileTemp = Double.NaN;
+
+        // 온도 변경 이벤트(콜드 크래시 등)는 다음 스케줄 단계 전까지 스케줄 온도 대신 적용
+        double overrideTemp;
+        int overrideUntil = Integer.MIN_VALUE;
+
+        FermentationRun(RecipeMetrics metrics, long fingerprint, double targetFG) {
+            this.metrics = metrics;
+            this.fingerprint = fingerprint;
+            this.startOG = metrics.og();
+            this.targetFG = targetFG;
+            this.gravity = startOG;
+            this.dynamicFG = targetFG;
+            this.dynamicIBU = metrics.ibu();
+        }
+    }
+
+    /**
+     * 이벤트를 시간순 큐로 적재
+     * 0시 이전 이벤트는 발효 구간 밖이므로 제외한다.
+     */
+    private SimulationEventQueue buildEventQueue(List<? extends SimulationEvent> events) {
+        SimulationEventQueue queue = new SimulationEventQueue();
+
+        for (SimulationEvent event : events) {
+            if (event.hour() >= 0) queue.add(event);
+        }
+        return queue;
+    }
+
+    private void simulateBrewhouse(Recipe recipe, RecipeMetrics metrics, SimulationSink sink) {
+        double og = metrics.og();
 
         double mashGravity = 1.0 + (og - 1.0) * 0.82;
-        logs.add(new SimulationLog(-120, 65.0, mashGravity, 0.0, "Mashing Start", List.of("Starch Conversion"), 0, 0));
-        logs.add(new SimulationLog(-90, 75.0, mashGravity + 0.002, 0.0, "Mash Out", List.of("Enzyme Denature"), 0, 0));
+        sink.accept(-120, 65.0, mashGravity, 0.0, "Mashing Start", List.of("Starch Conversion"), 0, 0);
+        sink.accept(-90, 75.0, mashGravity + 0.002, 0.0, "Mash Out", List.of("Enzyme Denature"), 0, 0);
 
 
-        logs.add(new SimulationLog(-60, 100.0, mashGravity + 0.005, 0.0, "Boil Start", List.of("Sterilization"), 0, 0));
+        sink.accept(-60, 100.0, mashGravity + 0.005, 0.0, "Boil Start", List.of("Sterilization"), 0, 0);
 
         recipe.getHopItems().stream()
                 .sorted((h1, h2) -> Integer.compare(h2.boilTimeMinutes(), h1.boilTimeMinutes()))
                 .forEach(hop -> {
                     int logTime = -hop.boilTimeMinutes();
-                    logs.add(new SimulationLog(logTime, 100.0, 0, 0,
+                    sink.accept(logTime, 100.0, 0, 0,
                             "Hop Addition: " + hop.hop().name(),
-                            List.of(hop.amountGrams() + "g added"), 0, 0));
+                            List.of(hop.amountGrams() + "g added"), 0, 0);
                 });
 
         //월풀
-        logs.add(new SimulationLog(0, 20.0, og, 0.0, "Fermenter In", List.of("Oxygenation"), 0, 0));
+        sink.accept(0, 20.0, og, 0.0, "Fermenter In", List.of("Oxygenation"), 0, 0);
     }
 
 
@@ -220,5 +552,59 @@ public class BrewingSimulator {
         // 드라이 호핑 리스트 자리에 빈 리스트(new ArrayList<>())를 넣어서 진짜 simulate 메서드를 호출합니다.
         return simulate(recipe, tempSchedule, new ArrayList<>(), durationDays);
     }
-}
 
+    /**
+     * 여러 시뮬레이션 작업을 병렬로 실행
+     * @param jobs 작업 목록
+     * @param parallelism 최대 동시 실행 작업 수 (코어 수 이하 권장)
+     * @return 결과 수집 / 취소용 핸들
+     */
+    public SimulationBatch simulateBatch(List<SimulationJob> jobs, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("병렬 실행 수는 1 이상이어야 합니다: " + parallelism);
+        }
+        List<SimulationJob> snapshot = List.copyOf(jobs);
+
+        int threads = Math.max(1, Math.min(parallelism, snapshot.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new SimulationThreadFactory());
+
+        List<Future<List<SimulationLog>>> futures = new ArrayList<>(snapshot.size());
+        for (SimulationJob job : snapshot) {
+            futures.add(executor.submit(() ->
+                    simulate(job.recipe(), job.schedule(), job.dryHopAdditions(), job.durationDays())));
+        }
+        // 새 작업은 받지 않고, 제출된 작업이 끝나면 스레드 정리
+        executor.shutdown();
+
+        return new SimulationBatch(executor, snapshot, futures);
+    }
+
+    /**
+     * 가용 코어 전부를 사용해 배치 실행 후 결과까지 대기
+     */
+    public List<SimulationJobResult> simulateAll(List<SimulationJob> jobs) throws InterruptedException {
+        return simulateBatch(jobs, Runtime.getRuntime().availableProcessors()).awaitResults();
+    }
+
+    /**
+     * 시간 단위 결과를 계산 즉시 내보내는 스트리밍 모드
+     * 구독자의 request 만큼만 진행하고(backpressure), cancel 시 남은 계산을 중단한다.
+     * @param executor 생산 루프를 실행할 Executor (구독자가 요청하지 않는 동안 해당 스레드는 대기함)
+     */
+    public Flow.Publisher<SimulationLog> stream(Recipe recipe, TemperatureSchedule tempSchedule,
+                                                List<? extends SimulationEvent> events, int durationDays,
+                                                Executor executor) {
+        return new SimulationPublisher(this, recipe, tempSchedule, events, durationDays, executor);
+    }
+
+    /**
+     * 구독마다 전용 데몬 스레드에서 생산하는 스트리밍 모드
+     */
+    public Flow.Publisher<SimulationLog> stream(Recipe recipe, TemperatureSchedule tempSchedule,
+                                                List<? extends SimulationEvent> events, int durationDays) {
+        return stream(recipe, tempSchedule, events, durationDays,
+                task -> STREAM_THREADS.newThread(task).start());
+    }
+
+    private static final ThreadFactory STREAM_THREADS = new SimulationThreadFactory();
+}
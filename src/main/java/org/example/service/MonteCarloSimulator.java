@@ -0,0 +1,253 @@
+package org.example.service;
+
+import org.example.domain.HopItem;
+import org.example.domain.Recipe;
+import org.example.domain.Yeast;
+import org.example.domain.YeastItem;
+import org.example.engine.BrewCalculator;
+import org.example.engine.ClosedFormKineticsSolver;
+import org.example.engine.FermentationEngine;
+import org.example.engine.FermentationPhysics;
+import org.example.engine.RecipeMetrics;
+import org.example.engine.SensoryEngine;
+import org.example.simulation.CompiledTemperatureSchedule;
+import org.example.simulation.MonteCarloResult;
+import org.example.simulation.PercentileBand;
+import org.example.simulation.TemperatureSchedule;
+import org.example.simulation.UncertaintyModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 몬테카를로 양조 시뮬레이션
+ * 당화 효율, 홉 알파산, 효모 보관 기간/재사용 횟수, 발효 온도를 UncertaintyModel 분포에서 뽑아
+ * 시행마다 OG, FG, ABV, IBU 와 목표 비중 도달 시간을 계산하고 백분위로 요약한다.
+ * 레시피 순회와 스케줄 컴파일은 실행당 한 번만 하고, 시행 루프는 미리 계산한 값과 원시 배열만 다룬다.
+ * 도달 시간은 SEGMENT 모드와 같은 1차 반응 속도식을 구간 해석해로 풀어 구한다. (드라이호핑, 온도 변경 이벤트 미반영)
+ *
+ * 재현성: 시행을 고정 크기 묶음으로 나누고, 묶음마다 시드에서 순서대로 split 한 SplittableRandom 을 쓰므로
+ * 같은 시드와 입력이면 병렬 수와 스레드 스케줄에 관계없이 같은 결과가 나온다.
+ */
+public class MonteCarloSimulator {
+
+    private static final int CHUNK_SIZE = 4096;
+    // BrewingSimulator 목표 비중 계산과 같은 기준 당화 온도
+    private static final double MASH_TEMP = 65.0;
+    // determinePhase 의 발효 종료 판정 기준
+    private static final double TERMINAL_TOLERANCE = 0.001;
+
+    private final BrewCalculator calculator = new BrewCalculator();
+    private final FermentationEngine fermentationEngine = new FermentationEngine();
+    private final FermentationPhysics physics = new FermentationPhysics();
+
+    private final UncertaintyModel model;
+    private final int parallelism;
+
+    public MonteCarloSimulator(UncertaintyModel model) {
+        this(model, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MonteCarloSimulator(UncertaintyModel model, int parallelism) {
+        if (model == null) {
+            throw new IllegalArgumentException("변동 모델을 지정해야 합니다");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("병렬 실행 수는 1 이상이어야 합니다: " + parallelism);
+        }
+        this.model = model;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param schedule 발효 온도 스케줄, 시작 온도는 FG 계산의 발효 온도로도 쓰인다
+     * @param durationDays 도달 시간 계산 기간 (이 안에 도달하지 못하면 무한대)
+     * @param trials 시행 횟수
+     * @param seed 난수 시드
+     */
+    public MonteCarloResult run(Recipe recipe, TemperatureSchedule schedule, int durationDays,
+                                int trials, long seed) throws InterruptedException {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("시행 횟수는 1 이상이어야 합니다: " + trials);
+        }
+        if (recipe.getYeastItem() == null) {
+            throw new IllegalArgumentException("효모가 지정되지 않은 레시피입니다");
+        }
+        int totalHours = durationDays * 24;
+        TrialModel trialModel = new TrialModel(recipe, schedule.compile(totalHours), totalHours);
+
+        double[] og = new double[trials];
+        double[] fg = new double[trials];
+        double[] abv = new double[trials];
+        double[] ibu = new double[trials];
+        double[] hours = new double[trials];
+
+        // 묶음별 난수 생성기는 실행 순서와 무관하게 여기서 순서대로 분기
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Callable<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < trials; start += CHUNK_SIZE) {
+            int from = start;
+            int to = Math.min(trials, start + CHUNK_SIZE);
+            SplittableRandom random = root.split();
+            chunks.add(() -> {
+                for (int i = from; i < to; i++) {
+                    trialModel.run(random, i, og, fg, abv, ibu, hours);
+                }
+                return null;
+            });
+        }
+        execute(chunks);
+
+        int reached = 0;
+        for (double h : hours) {
+            if (Double.isFinite(h)) reached++;
+        }
+
+        return new MonteCarloResult(trials, seed,
+                PercentileBand.of(og), PercentileBand.of(fg), PercentileBand.of(abv), PercentileBand.of(ibu),
+                PercentileBand.of(hours), (double) reached / trials);
+    }
+
+    private void execute(List<Callable<Void>> chunks) throws InterruptedException {
+        int threads = Math.min(parallelism, chunks.size());
+        if (threads == 1) {
+            for (Callable<Void> chunk : chunks) {
+                runChunk(chunk);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new SimulationThreadFactory());
+        try {
+            for (Future<Void> future : executor.invokeAll(chunks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw rethrow(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runChunk(Callable<Void> chunk) {
+        try {
+            chunk.call();
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) throw runtime;
+        if (cause instanceof Error error) throw error;
+        throw new IllegalStateException("몬테카를로 시행 중 오류가 발생했습니다", cause);
+    }
+
+    /**
+     * 레시피/스케줄에서 시행과 무관한 값을 미리 뽑아 둔 상태 (읽기 전용, 스레드 간 공유)
+     */
+    private final class TrialModel {
+        final double nominalEfficiency;
+        final double nominalExtract;
+        final double batchSizeLiters;
+        final HopItem[] hops;
+        final YeastItem yeastItem;
+        final Yeast yeast;
+        final double nominalFermentTemp;
+
+        final CompiledTemperatureSchedule temps;
+        final int totalHours;
+
+        TrialModel(Recipe recipe, CompiledTemperatureSchedule temps, int totalHours) {
+            RecipeMetrics metrics = calculator.calculateMetrics(recipe);
+            this.nominalEfficiency = recipe.getEfficiency();
+            this.nominalExtract = metrics.og() - 1;
+            this.batchSizeLiters = recipe.getBatchSizeLiters();
+            this.hops = recipe.getHopItems().toArray(new HopItem[0]);
+            this.yeastItem = recipe.getYeastItem();
+            this.yeast = yeastItem.yeast();
+            this.nominalFermentTemp = temps.tempAt(0);
+            this.temps = temps;
+            this.totalHours = totalHours;
+        }
+
+        void run(SplittableRandom random, int i,
+                 double[] og, double[] fg, double[] abv, double[] ibu, double[] hours) {
+            // 샘플 순서 고정: 효율 -> 홉별 알파산 -> 효모 보관 기간 -> 재사용 횟수 -> 발효 온도
+            double efficiency = clamp(nominalEfficiency + model.efficiencyDelta().sample(random), 0, 1);
+            // OG 는 효율에 비례 (포인트 * 무게 * 효율 합산)
+            double trialOG = (nominalEfficiency > 0) ? 1 + nominalExtract * (efficiency / nominalEfficiency) : 1;
+
+            double trialIBU = 0;
+            for (HopItem hop : hops) {
+                double alphaFactor = Math.max(0, model.alphaAcidFactor().sample(random));
+                // IBU 는 알파산에 비례
+                trialIBU += alphaFactor * SensoryEngine.calculateHopIBU(hop, trialOG, batchSizeLiters);
+            }
+
+            int age = (int) Math.max(0, Math.round(yeastItem.ageInMonths() + model.yeastAgeDeltaMonths().sample(random)));
+            int cultured = (int) Math.max(0, Math.round(yeastItem.timesCultured() + model.timesCulturedDelta().sample(random)));
+            double tempDelta = model.fermentTempDelta().sample(random);
+
+            double trialFG = trialOG;
+            if (yeastItem.amount() > 0) {
+                YeastItem sampled = new YeastItem(yeast, yeastItem.amount(), yeastItem.amountIsWeight(),
+                        cultured, age, yeastItem.addToSecondary());
+                double viableCells = fermentationEngine.calculateViableCells(sampled);
+                double targetCells = fermentationEngine.calculateTargetCells(yeast.type(), batchSizeLiters, trialOG);
+                double pitchRatio = (targetCells > 0) ? (viableCells / targetCells) : 0;
+                trialFG = fermentationEngine.calculateFG(yeast, trialOG, pitchRatio,
+                        nominalFermentTemp + tempDelta, MASH_TEMP);
+            }
+
+            og[i] = trialOG;
+            fg[i] = trialFG;
+            abv[i] = calculator.calculateABV(trialOG, trialFG);
+            ibu[i] = trialIBU;
+            hours[i] = hoursToTerminal(trialOG - trialFG, tempDelta);
+        }
+
+        /**
+         * 남은 당분이 허용치 이하가 되는 시간
+         * 1차 반응이므로 속도 상수의 시간 적분이 ln(남은 당분 / 허용치) 에 도달하는 시점을 찾는다.
+         * 일정 온도 구간은 한 번에, 램프 구간은 1시간씩 적분한다.
+         */
+        double hoursToTerminal(double remainingSugar, double tempDelta) {
+            if (remainingSugar <= TERMINAL_TOLERANCE) return 0.0;
+            double required = Math.log(remainingSugar / TERMINAL_TOLERANCE);
+            double integrated = 0;
+
+            for (int segment = 0; segment < temps.segmentCount(); segment++) {
+                int start = Math.max(0, temps.segmentStart(segment));
+                int end = Math.min(totalHours, temps.segmentEnd(segment));
+                if (start >= end) continue;
+
+                int step = temps.isConstant(segment) ? end - start : 1;
+                for (int hour = start; hour < end; hour += step) {
+                    int length = Math.min(step, end - hour);
+                    double rate = physics.calculateRateConstant(temps.tempAt(hour) + tempDelta, yeast);
+
+                    double exposure = rate * length;
+                    if (integrated + exposure >= required) {
+                        return hour + ClosedFormKineticsSolver.hoursToReach(
+                                Math.exp(required - integrated), 1.0, rate);
+                    }
+                    integrated += exposure;
+                }
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.service;
+
+import org.example.domain.Recipe;
+import org.example.engine.RecipeMetrics;
+
+/** 레시피 최적화 결과
+ * @param recipe 찾은 레시피 (동결됨)
+ * @param metrics BrewCalculator 로 다시 계산한 지표
+ * @param error 목표와의 오차 제곱합 (OG/FG 는 비중 포인트, IBU/SRM 은 원래 단위)
+ * @param feasible 제약 조건을 모두 만족하는지
+ * @param evaluations 후보 평가 횟수
+ */
+public record OptimizationResult(Recipe recipe, RecipeMetrics metrics, double error, boolean feasible,
+                                 long evaluations) {
+}
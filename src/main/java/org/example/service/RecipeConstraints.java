@@ -0,0 +1,44 @@
+package org.example.service;
+
+/** 레시피 최적화 제약 조건
+ * @param maxCrystalFraction 카라멜 몰트 최대 무게 비율 (0 ~ 1)
+ * @param maxRoastFraction 로스팅 몰트 최대 무게 비율 (0 ~ 1)
+ * @param maxTotalGrainKg 전체 몰트 최대 무게
+ * @param maxHopGrams 홉 투입 1건당 최대 무게
+ */
+public record RecipeConstraints(double maxCrystalFraction, double maxRoastFraction,
+                                double maxTotalGrainKg, double maxHopGrams) {
+
+    public RecipeConstraints {
+        if (!(maxCrystalFraction >= 0 && maxCrystalFraction <= 1) || !(maxRoastFraction >= 0 && maxRoastFraction <= 1)) {
+            throw new IllegalArgumentException("몰트 비율 제한은 0 ~ 1 사이여야 합니다: "
+                    + maxCrystalFraction + ", " + maxRoastFraction);
+        }
+        if (!(maxTotalGrainKg > 0) || !(maxHopGrams > 0)) {
+            throw new IllegalArgumentException("최대 투입량은 0보다 커야 합니다: " + maxTotalGrainKg + ", " + maxHopGrams);
+        }
+    }
+
+    /**
+     * FlavorAnalyzer 의 Heavy Body / Roasty 기준(카라멜 20%, 로스팅 10%) 이하, 20L 배치 기준 투입량
+     */
+    public static RecipeConstraints defaults() {
+        return new RecipeConstraints(0.20, 0.10, 15.0, 300.0);
+    }
+
+    public RecipeConstraints withMaxCrystalFraction(double maxCrystalFraction) {
+        return new RecipeConstraints(maxCrystalFraction, maxRoastFraction, maxTotalGrainKg, maxHopGrams);
+    }
+
+    public RecipeConstraints withMaxRoastFraction(double maxRoastFraction) {
+        return new RecipeConstraints(maxCrystalFraction, maxRoastFraction, maxTotalGrainKg, maxHopGrams);
+    }
+
+    public RecipeConstraints withMaxTotalGrainKg(double maxTotalGrainKg) {
+        return new RecipeConstraints(maxCrystalFraction, maxRoastFraction, maxTotalGrainKg, maxHopGrams);
+    }
+
+    public RecipeConstraints withMaxHopGrams(double maxHopGrams) {
+        return new RecipeConstraints(maxCrystalFraction, maxRoastFraction, maxTotalGrainKg, maxHopGrams);
+    }
+}
@@ -0,0 +1,385 @@
+package org.example.service;
+
+import org.example.domain.Grain;
+import org.example.domain.GrainItem;
+import org.example.domain.HopItem;
+import org.example.domain.Recipe;
+import org.example.domain.YeastItem;
+import org.example.engine.BrewCalculator;
+import org.example.engine.BulkRecipeCalculator;
+import org.example.engine.FermentationEngine;
+import org.example.engine.RecipeColumns;
+import org.example.engine.RecipeMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 목표 수치(OG, IBU, SRM, FG)에 맞춰 몰트 무게와 홉 투입량을 찾는 레시피 최적화기
+ * 사용할 재료는 템플릿 레시피로 지정한다. (몰트/홉 종류, 홉 끓임 시간, 효모, 배치 용량, 효율은 그대로 유지)
+ * 목표를 만족하는 조합이 여러 개면 템플릿 투입량에 가까운 쪽을 고른다. (예: 0분 홉은 IBU 에 영향이 없으므로 템플릿 값 유지)
+ * 시뮬레이티드 어닐링을 여러 시작점에서 병렬로 돌리고 가장 좋은 해를 고른다.
+ * 후보 평가는 BulkRecipeCalculator 로 하므로 BrewCalculator 와 같은 값을 객체 생성 없이 계산한다.
+ * FG 는 FermentationEngine.calculateFG 로 구하며, 피칭 비율이 OG 에 따라 달라지므로 후보마다 다시 계산한다.
+ * 시작점마다 시드에서 순서대로 split 한 난수를 쓰므로 같은 시드면 병렬 수와 관계없이 같은 결과가 나온다.
+ */
+public class RecipeOptimizer {
+
+    private static final int DEFAULT_RESTARTS = 16;
+    private static final int DEFAULT_ITERATIONS = 20_000;
+
+    // 어닐링 온도 (오차 제곱합 단위), 지수적으로 감소
+    private static final double START_TEMPERATURE = 10.0;
+    private static final double END_TEMPERATURE = 1e-4;
+    // 이동 폭 = 상한 * (초기 20% -> 마지막 0.2%)
+    private static final double START_STEP = 0.2;
+    private static final double END_STEP = 0.002;
+    // 제약 위반 1%p(무게는 0.1kg)당 오차 가중치
+    private static final double PENALTY_WEIGHT = 10.0;
+    // 템플릿 투입량에서 멀어지는 정도 (상한 대비 비율 제곱) 가중치, 목표 오차보다 충분히 작게
+    private static final double TEMPLATE_WEIGHT = 1.0;
+    // FG 목표 계산 조건 (BrewingSimulator 의 목표 FG 와 같음)
+    private static final double FG_MASH_TEMP = 65.0;
+
+    private final BrewCalculator calculator = new BrewCalculator();
+    private final BulkRecipeCalculator bulkCalculator = new BulkRecipeCalculator();
+    private final FermentationEngine fermentationEngine = new FermentationEngine();
+
+    private final int restarts;
+    private final int iterations;
+    private final int parallelism;
+
+    public RecipeOptimizer() {
+        this(DEFAULT_RESTARTS, DEFAULT_ITERATIONS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param restarts 독립 시작점 수 (첫 시작점은 템플릿 투입량)
+     * @param iterationsPerRestart 시작점당 후보 평가 횟수
+     */
+    public RecipeOptimizer(int restarts, int iterationsPerRestart, int parallelism) {
+        if (restarts <= 0 || iterationsPerRestart <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("최적화 설정은 1 이상이어야 합니다: "
+                    + restarts + ", " + iterationsPerRestart + ", " + parallelism);
+        }
+        this.restarts = restarts;
+        this.iterations = iterationsPerRestart;
+        this.parallelism = parallelism;
+    }
+
+    public OptimizationResult optimize(Recipe template, RecipeTarget target, RecipeConstraints constraints)
+            throws InterruptedException {
+        return optimize(template, target, constraints, 0L);
+    }
+
+    /**
+     * @param template 사용할 재료 목록, 투입량은 첫 시작점으로 쓰인다
+     */
+    public OptimizationResult optimize(Recipe template, RecipeTarget target, RecipeConstraints constraints,
+                                       long seed) throws InterruptedException {
+        if (template.getGrainItems().isEmpty() && template.getHopItems().isEmpty()) {
+            throw new IllegalArgumentException("최적화할 재료가 없습니다");
+        }
+        Problem problem = new Problem(template, target, constraints);
+
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Callable<Candidate>> tasks = new ArrayList<>(restarts);
+        for (int r = 0; r < restarts; r++) {
+            SplittableRandom random = root.split();
+            boolean fromTemplate = (r == 0);
+            tasks.add(() -> anneal(problem, random, fromTemplate));
+        }
+
+        Candidate best = null;
+        long evaluations = 0;
+        for (Candidate candidate : execute(tasks)) {
+            evaluations += candidate.evaluations;
+            // 같은 점수면 앞쪽 시작점 우선 (결과 재현성)
+            if (best == null || candidate.score < best.score) best = candidate;
+        }
+
+        Recipe recipe = problem.toRecipe(best.x);
+        RecipeMetrics metrics = calculator.calculateMetrics(recipe);
+        double fg = target.hasFg()
+                ? calculator.calculateFG(recipe, metrics, problem.fermentTemp, FG_MASH_TEMP)
+                : Double.NaN;
+        double error = problem.targetError(metrics.og(), metrics.ibu(), metrics.srm(), fg);
+        boolean feasible = problem.penalty(metrics.totalGrainWeightKg(),
+                metrics.crystalFraction(), metrics.roastFraction()) == 0;
+        return new OptimizationResult(recipe, metrics, error, feasible, evaluations);
+    }
+
+    private Candidate anneal(Problem problem, SplittableRandom random, boolean fromTemplate) {
+        Evaluator evaluator = new Evaluator(problem);
+        double[] upper = problem.upper;
+        int dim = upper.length;
+
+        double[] x = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            x[i] = fromTemplate ? clamp(problem.initial[i], 0, upper[i]) : random.nextDouble() * problem.randomStart[i];
+        }
+        double fx = evaluator.score(x);
+        double[] best = x.clone();
+        double bestScore = fx;
+
+        for (int k = 0; k < iterations; k++) {
+            double progress = (double) k / iterations;
+            double temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+            double step = START_STEP + (END_STEP - START_STEP) * progress;
+
+            int i = random.nextInt(dim);
+            double old = x[i];
+            x[i] = clamp(old + upper[i] * step * random.nextGaussian(), 0, upper[i]);
+
+            double candidate = evaluator.score(x);
+            if (candidate <= fx || random.nextDouble() < Math.exp((fx - candidate) / temperature)) {
+                fx = candidate;
+                if (fx < bestScore) {
+                    bestScore = fx;
+                    System.arraycopy(x, 0, best, 0, dim);
+                }
+            } else {
+                x[i] = old;
+            }
+        }
+        return new Candidate(best, bestScore, iterations + 1L);
+    }
+
+    private List<Candidate> execute(List<Callable<Candidate>> tasks) throws InterruptedException {
+        List<Candidate> results = new ArrayList<>(tasks.size());
+        int threads = Math.min(parallelism, tasks.size());
+        if (threads == 1) {
+            for (Callable<Candidate> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (Exception e) {
+                    throw rethrow(e);
+                }
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new SimulationThreadFactory());
+        try {
+            for (Future<Candidate> future : executor.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw rethrow(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) throw runtime;
+        if (cause instanceof Error error) throw error;
+        throw new IllegalStateException("레시피 최적화 중 오류가 발생했습니다", cause);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private record Candidate(double[] x, double score, long evaluations) {
+    }
+
+    /**
+     * 최적화 변수 정의 (읽기 전용, 스레드 간 공유)
+     * 변수 배열은 [몰트 무게(kg)..., 홉 투입량(g)...] 순서다.
+     */
+    private final class Problem {
+        final Recipe template;
+        final RecipeTarget target;
+        final RecipeConstraints constraints;
+
+        final Grain[] grains;
+        final HopItem[] hops;
+        final boolean[] crystal;
+        final boolean[] roast;
+
+        final double[] initial;
+        final double[] upper;
+        final double[] randomStart;
+
+        // FG 목표용 (목표가 없으면 쓰지 않음)
+        final double fermentTemp;
+        final double viableCells;
+
+        Problem(Recipe template, RecipeTarget target, RecipeConstraints constraints) {
+            this.template = template;
+            this.target = target;
+            this.constraints = constraints;
+
+            List<GrainItem> grainItems = template.getGrainItems();
+            List<HopItem> hopItems = template.getHopItems();
+            int g = grainItems.size();
+            int dim = g + hopItems.size();
+
+            this.grains = new Grain[g];
+            this.crystal = new boolean[g];
+            this.roast = new boolean[g];
+            this.hops = hopItems.toArray(new HopItem[0]);
+            this.initial = new double[dim];
+            this.upper = new double[dim];
+            this.randomStart = new double[dim];
+
+            for (int i = 0; i < g; i++) {
+                Grain grain = grainItems.get(i).grain();
+                grains[i] = grain;
+                crystal[i] = RecipeMetrics.isCrystalMalt(grain);
+                roast[i] = RecipeMetrics.isRoastMalt(grain);
+                initial[i] = grainItems.get(i).weightKg();
+                upper[i] = constraints.maxTotalGrainKg();
+                // 무작위 시작점의 몰트 합계가 상한을 넘지 않도록
+                randomStart[i] = constraints.maxTotalGrainKg() / g;
+            }
+            for (int h = 0; h < hops.length; h++) {
+                initial[g + h] = hops[h].amountGrams();
+                upper[g + h] = constraints.maxHopGrams();
+                randomStart[g + h] = constraints.maxHopGrams();
+            }
+
+            YeastItem yeastItem = template.getYeastItem();
+            if (target.hasFg() && yeastItem == null) {
+                throw new IllegalArgumentException("FG 목표에는 효모가 지정된 템플릿이 필요합니다");
+            }
+            this.fermentTemp = (yeastItem != null) ? yeastItem.yeast().maxTemp() : Double.NaN;
+            // 효모 투입량은 고정이므로 생존 세포 수는 한 번만 계산
+            this.viableCells = (yeastItem != null) ? fermentationEngine.calculateViableCells(yeastItem) : 0;
+        }
+
+        /** 레시피 FG 계산과 같음 (피칭 비율 = 생존 세포 수 / OG 로 정해지는 목표 세포 수) */
+        double finalGravity(double og) {
+            YeastItem yeastItem = template.getYeastItem();
+            if (yeastItem.amount() <= 0) return og;
+            double targetCells = fermentationEngine.calculateTargetCells(yeastItem.yeast().type(),
+                    template.getBatchSizeLiters(), og);
+            double pitchRatio = (targetCells > 0) ? (viableCells / targetCells) : 0;
+            return fermentationEngine.calculateFG(yeastItem.yeast(), og, pitchRatio, fermentTemp, FG_MASH_TEMP);
+        }
+
+        /** @param fg 목표에 FG 가 없으면 무시 */
+        double targetError(double og, double ibu, double srm, double fg) {
+            double error = 0;
+            if (!Double.isNaN(target.og())) {
+                double points = (og - target.og()) * 1000;
+                error += points * points;
+            }
+            if (!Double.isNaN(target.ibu())) {
+                double diff = ibu - target.ibu();
+                error += diff * diff;
+            }
+            if (!Double.isNaN(target.srm())) {
+                double diff = srm - target.srm();
+                error += diff * diff;
+            }
+            if (target.hasFg()) {
+                double points = (fg - target.fg()) * 1000;
+                error += points * points;
+            }
+            return error;
+        }
+
+        double templateDistance(double[] x) {
+            double distance = 0;
+            for (int i = 0; i < x.length; i++) {
+                double diff = (x[i] - initial[i]) / upper[i];
+                distance += diff * diff;
+            }
+            return TEMPLATE_WEIGHT * distance;
+        }
+
+        double penalty(double totalGrainKg, double crystalFraction, double roastFraction) {
+            double crystalExcess = Math.max(0, crystalFraction - constraints.maxCrystalFraction()) * 100;
+            double roastExcess = Math.max(0, roastFraction - constraints.maxRoastFraction()) * 100;
+            double weightExcess = Math.max(0, totalGrainKg - constraints.maxTotalGrainKg()) * 10;
+            return PENALTY_WEIGHT * (crystalExcess * crystalExcess + roastExcess * roastExcess
+                    + weightExcess * weightExcess);
+        }
+
+        Recipe toRecipe(double[] x) {
+            Recipe recipe = new Recipe(template.getBatchSizeLiters(), template.getEfficiency());
+            for (int i = 0; i < grains.length; i++) {
+                if (x[i] > 0) recipe.addMalt(grains[i], x[i]);
+            }
+            for (int h = 0; h < hops.length; h++) {
+                double amount = x[grains.length + h];
+                if (amount > 0) recipe.addHop(hops[h].hop(), amount, hops[h].boilTimeMinutes());
+            }
+            recipe.setYeastItem(template.getYeastItem());
+            return recipe.freeze();
+        }
+    }
+
+    /**
+     * 시작점 1개 전용 평가기 (스레드 간 공유하지 않음)
+     * 레시피 1건짜리 컬럼의 무게/투입량 배열을 변수 배열로 덮어쓰며 재사용한다.
+     */
+    private final class Evaluator {
+        final Problem problem;
+        final RecipeColumns columns;
+        final double[] weights;
+        final double[] amounts;
+        final double[] og = new double[1];
+        final double[] srm = new double[1];
+        final double[] ibu = new double[1];
+
+        Evaluator(Problem problem) {
+            this.problem = problem;
+            int g = problem.grains.length;
+            int h = problem.hops.length;
+
+            double[] potential = new double[g];
+            double[] lovibond = new double[g];
+            for (int i = 0; i < g; i++) {
+                potential[i] = problem.grains[i].potential();
+                lovibond[i] = problem.grains[i].lovibond();
+            }
+            double[] alpha = new double[h];
+            int[] boil = new int[h];
+            for (int i = 0; i < h; i++) {
+                alpha[i] = problem.hops[i].hop().alphaAcid();
+                boil[i] = problem.hops[i].boilTimeMinutes();
+            }
+            this.weights = new double[g];
+            this.amounts = new double[h];
+
+            this.columns = new RecipeColumns(
+                    new double[]{problem.template.getBatchSizeLiters()}, new double[]{problem.template.getEfficiency()},
+                    new int[]{0, g}, potential, lovibond, weights,
+                    new int[]{0, h}, alpha, amounts, boil);
+        }
+
+        double score(double[] x) {
+            int g = weights.length;
+            System.arraycopy(x, 0, weights, 0, g);
+            System.arraycopy(x, g, amounts, 0, amounts.length);
+            bulkCalculator.calculate(columns, og, srm, ibu);
+
+            double total = 0;
+            double crystalWeight = 0;
+            double roastWeight = 0;
+            for (int i = 0; i < g; i++) {
+                total += weights[i];
+                if (problem.crystal[i]) crystalWeight += weights[i];
+                if (problem.roast[i]) roastWeight += weights[i];
+            }
+            double crystalFraction = total > 0 ? crystalWeight / total : 0;
+            double roastFraction = total > 0 ? roastWeight / total : 0;
+
+            double fg = problem.target.hasFg() ? problem.finalGravity(og[0]) : Double.NaN;
+            return problem.targetError(og[0], ibu[0], srm[0], fg) + problem.penalty(total, crystalFraction, roastFraction)
+                    + problem.templateDistance(x);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.service;
+
+/** 레시피 최적화 목표 수치
+ * 지정하지 않을 값은 Double.NaN 으로 둔다.
+ * @param og 목표 초기 비중
+ * @param ibu 목표 쓴맛
+ * @param srm 목표 색상
+ * @param fg 목표 최종 비중 (시뮬레이터 목표 FG 와 같은 조건: 효모 최고 온도, 당화 65°C)
+ */
+public record RecipeTarget(double og, double ibu, double srm, double fg) {
+
+    public RecipeTarget {
+        if (Double.isNaN(og) && Double.isNaN(ibu) && Double.isNaN(srm) && Double.isNaN(fg)) {
+            throw new IllegalArgumentException("목표 수치를 하나 이상 지정해야 합니다");
+        }
+        if (!Double.isNaN(og) && !(og >= 1.0)) {
+            throw new IllegalArgumentException("목표 비중이 올바르지 않습니다: " + og);
+        }
+        if (!Double.isNaN(fg) && !(fg >= 1.0)) {
+            throw new IllegalArgumentException("목표 최종 비중이 올바르지 않습니다: " + fg);
+        }
+        if (!Double.isNaN(og) && !Double.isNaN(fg) && fg > og) {
+            throw new IllegalArgumentException("목표 최종 비중이 초기 비중보다 큽니다: " + fg + " > " + og);
+        }
+    }
+
+    /** FG 목표 없이 */
+    public RecipeTarget(double og, double ibu, double srm) {
+        this(og, ibu, srm, Double.NaN);
+    }
+
+    public boolean hasFg() {
+        return !Double.isNaN(fg);
+    }
+}
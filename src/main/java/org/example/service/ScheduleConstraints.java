@@ -0,0 +1,68 @@
+package org.example.service;
+
+import org.example.engine.FlavorAnalyzer;
+
+import java.util.Set;
+
+/** 스케줄 최적화 제약 조건 (발효 완료 시점까지의 기록에 적용)
+ * @param maxEsterScore FlavorProfile.esterScore 상한
+ * @param esterWindowAttenuation 에스테르 상한을 적용하는 겉보기 발효도 구간 (0 ~ 1, 에스테르는 주로 효모 증식기에 생성되므로
+ *                               이 발효도를 넘긴 뒤의 승온은 제한하지 않음, 1이면 완료까지 적용)
+ * @param maxDiacetylRisk 완료로 인정하는 FlavorProfile.diacetylRisk 상한 (온도 기준 예측)
+ * @param maxDiacetyl 완료로 인정하는 시뮬레이션 디아세틸 상한 (드라이호핑 1회에 25 증가, 효모 재흡수로 감소)
+ * @param yeastTempMargin 효모 권장 온도 범위 밖으로 허용하는 폭 (°C)
+ * @param forbiddenTags 한 번이라도 나오면 안 되는 풍미 태그
+ */
+public record ScheduleConstraints(double maxEsterScore, double esterWindowAttenuation, double maxDiacetylRisk,
+                                  double maxDiacetyl, double yeastTempMargin, Set<String> forbiddenTags) {
+
+    public ScheduleConstraints {
+        if (!(maxEsterScore >= 0) || !(maxDiacetylRisk >= 0) || !(maxDiacetyl >= 0) || !(yeastTempMargin >= 0)) {
+            throw new IllegalArgumentException("제약 값은 0 이상이어야 합니다: "
+                    + maxEsterScore + ", " + maxDiacetylRisk + ", " + maxDiacetyl + ", " + yeastTempMargin);
+        }
+        if (!(esterWindowAttenuation >= 0 && esterWindowAttenuation <= 1)) {
+            throw new IllegalArgumentException("에스테르 적용 발효도는 0 ~ 1 사이여야 합니다: " + esterWindowAttenuation);
+        }
+        forbiddenTags = (forbiddenTags == null) ? Set.of() : Set.copyOf(forbiddenTags);
+    }
+
+    /**
+     * 겉보기 발효도 50% 까지 에스테르 70 이하, 디아세틸 위험 20 이하이면서 디아세틸이 드라이호핑 1회분의 10% 이하로 줄면 완료,
+     * 권장 온도 ±2°C, 퓨젤/아세트알데히드 금지
+     */
+    public static ScheduleConstraints defaults() {
+        return new ScheduleConstraints(70.0, 0.5, 20.0, 2.5, 2.0,
+                Set.of(FlavorAnalyzer.FUSEL_ALCOHOL_TAG, FlavorAnalyzer.ACETALDEHYDE_TAG));
+    }
+
+    public ScheduleConstraints withMaxEsterScore(double maxEsterScore) {
+        return new ScheduleConstraints(maxEsterScore, esterWindowAttenuation, maxDiacetylRisk, maxDiacetyl, yeastTempMargin,
+                forbiddenTags);
+    }
+
+    public ScheduleConstraints withEsterWindowAttenuation(double esterWindowAttenuation) {
+        return new ScheduleConstraints(maxEsterScore, esterWindowAttenuation, maxDiacetylRisk, maxDiacetyl, yeastTempMargin,
+                forbiddenTags);
+    }
+
+    public ScheduleConstraints withMaxDiacetylRisk(double maxDiacetylRisk) {
+        return new ScheduleConstraints(maxEsterScore, esterWindowAttenuation, maxDiacetylRisk, maxDiacetyl, yeastTempMargin,
+                forbiddenTags);
+    }
+
+    public ScheduleConstraints withMaxDiacetyl(double maxDiacetyl) {
+        return new ScheduleConstraints(maxEsterScore, esterWindowAttenuation, maxDiacetylRisk, maxDiacetyl, yeastTempMargin,
+                forbiddenTags);
+    }
+
+    public ScheduleConstraints withYeastTempMargin(double yeastTempMargin) {
+        return new ScheduleConstraints(maxEsterScore, esterWindowAttenuation, maxDiacetylRisk, maxDiacetyl, yeastTempMargin,
+                forbiddenTags);
+    }
+
+    public ScheduleConstraints withForbiddenTags(Set<String> forbiddenTags) {
+        return new ScheduleConstraints(maxEsterScore, esterWindowAttenuation, maxDiacetylRisk, maxDiacetyl, yeastTempMargin,
+                forbiddenTags);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.service;
+
+import org.example.engine.FlavorProfileCache;
+import org.example.simulation.TemperatureSchedule;
+
+/** 발효 스케줄 최적화 결과
+ * @param shape 찾은 스케줄 (제약을 만족하는 후보가 없으면 null)
+ * @param schedule shape 로 만든 온도 스케줄 (없으면 null)
+ * @param readyHour 목표 비중 도달 + 디아세틸 정리 완료 시간 (없으면 -1)
+ * @param peakEsterScore 에스테르 제한 구간의 최대 에스테르 점수
+ * @param feasible 제약을 만족하는 후보를 찾았는지
+ * @param candidates 생성한 후보 수 (중복 포함)
+ * @param simulations 실제로 실행한 시뮬레이션 수
+ * @param flavorCache 공유 풍미 캐시 통계
+ */
+public record ScheduleOptimizationResult(ScheduleShape shape, TemperatureSchedule schedule, int readyHour,
+                                         double peakEsterScore, boolean feasible, long candidates, long simulations,
+                                         FlavorProfileCache.Stats flavorCache) {
+}
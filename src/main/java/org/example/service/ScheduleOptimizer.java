@@ -0,0 +1,390 @@
+package org.example.service;
+
+import org.example.domain.FlavorTagSet;
+import org.example.domain.Recipe;
+import org.example.domain.Yeast;
+import org.example.engine.FlavorProfileCache;
+import org.example.simulation.IntegrationMode;
+import org.example.simulation.SimulationEvent;
+import org.example.simulation.SimulationOptions;
+import org.example.simulation.SimulationSink;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 탱크 점유 시간을 줄이는 발효 온도 스케줄 최적화기
+ * 주발효 온도, 디아세틸 레스트 시작 시간/온도, 승온 속도를 격자에서 골라 BrewingSimulator(SEGMENT 모드, 1시간 기록)로 평가하고,
+ * 목표 비중 도달과 디아세틸 정리가 모두 끝나는 시간이 가장 이른 스케줄을 찾는다.
+ * 디아세틸 정리는 온도 기준 예측(diacetylRisk)과, 드라이호핑으로 늘고 효모 재흡수로 줄어드는 시뮬레이션 디아세틸 값을 모두 본다.
+ * 에스테르 점수 상한(지정한 발효도까지), 금지 태그와 효모 온도 범위(완료까지)를 만족하지 못하면 후보에서 제외한다.
+ *
+ * 탐색: 격자에서 무작위 후보를 뽑아 평가한 뒤, 상위 후보 주변 격자점을 라운드마다 다시 뽑는다.
+ * 공유 작업: 시뮬레이터, 풍미 캐시, 동결된 레시피(지문 1회 계산)를 모든 후보가 공유하고, 같은 격자점은 한 번만 시뮬레이션한다.
+ * 각 시뮬레이션은 완료/제약 위반 시점, 또는 이전 라운드 상위 후보보다 늦어지는 시점에 바로 중단한다.
+ * 라운드 후보와 중단 기준은 라운드 시작 시점에 정해지므로, 같은 시드면 병렬 수와 관계없이 같은 결과가 나온다.
+ */
+public class ScheduleOptimizer {
+
+    private static final int DEFAULT_INITIAL_SAMPLES = 2048;
+    private static final int DEFAULT_REFINE_ROUNDS = 6;
+    // 라운드마다 주변을 탐색할 상위 후보 수와 후보당 이웃 수
+    private static final int ELITES = 16;
+    private static final int NEIGHBORS_PER_ELITE = 32;
+    // 이웃은 각 축에서 최대 2칸 이동
+    private static final int NEIGHBOR_RADIUS = 2;
+
+    private static final int FLAVOR_CACHE_SIZE = 16_384;
+
+    // BrewingSimulator.determinePhase 의 발효 종료 단계
+    private static final Set<String> TERMINAL_PHASES = Set.of("Finished / Conditioning", "Cold Crashing / Lagering");
+    private static final String HOP_ADDITION_PHASE = "Hop Addition";
+
+    private final FlavorProfileCache flavorCache = new FlavorProfileCache(FLAVOR_CACHE_SIZE, 0.0);
+    private final BrewingSimulator simulator = new BrewingSimulator(new SimulationOptions(
+            IntegrationMode.SEGMENT, 1, null, flavorCache));
+
+    private final int initialSamples;
+    private final int refineRounds;
+    private final int parallelism;
+
+    public ScheduleOptimizer() {
+        this(DEFAULT_INITIAL_SAMPLES, DEFAULT_REFINE_ROUNDS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param initialSamples 첫 라운드 무작위 후보 수
+     * @param refineRounds 상위 후보 주변 재탐색 라운드 수 (0이면 무작위 탐색만)
+     */
+    public ScheduleOptimizer(int initialSamples, int refineRounds, int parallelism) {
+        if (initialSamples <= 0 || refineRounds < 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("최적화 설정이 올바르지 않습니다: "
+                    + initialSamples + ", " + refineRounds + ", " + parallelism);
+        }
+        this.initialSamples = initialSamples;
+        this.refineRounds = refineRounds;
+        this.parallelism = parallelism;
+    }
+
+    public ScheduleOptimizationResult optimize(Recipe recipe, int durationDays, ScheduleConstraints constraints)
+            throws InterruptedException {
+        if (recipe.getYeastItem() == null) {
+            throw new IllegalArgumentException("효모가 지정되지 않은 레시피입니다");
+        }
+        return optimize(recipe, List.of(), durationDays,
+                ScheduleSearchSpace.forYeast(recipe.getYeastItem().yeast(), durationDays), constraints, 0L);
+    }
+
+    /**
+     * @param events 모든 후보에 같이 적용할 이벤트 (드라이호핑 등)
+     * @param durationDays 평가 기간, 이 안에 완료되지 않는 후보는 제외
+     */
+    public ScheduleOptimizationResult optimize(Recipe recipe, List<? extends SimulationEvent> events, int durationDays,
+                                               ScheduleSearchSpace space, ScheduleConstraints constraints,
+                                               long seed) throws InterruptedException {
+        if (recipe.getYeastItem() == null) {
+            throw new IllegalArgumentException("효모가 지정되지 않은 레시피입니다");
+        }
+        if (durationDays <= 0) {
+            throw new IllegalArgumentException("평가 기간은 1일 이상이어야 합니다: " + durationDays);
+        }
+        Problem problem = new Problem(recipe.freeze(), List.copyOf(events), durationDays, space, constraints);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        Map<ScheduleShape, Evaluation> evaluated = new HashMap<>();
+        List<Evaluation> ranked = new ArrayList<>();
+        long candidates = 0;
+
+        ExecutorService executor = (parallelism > 1)
+                ? Executors.newFixedThreadPool(parallelism, new SimulationThreadFactory())
+                : null;
+        try {
+            for (int round = 0; round <= refineRounds; round++) {
+                Set<ScheduleShape> shapes = new LinkedHashSet<>();
+                if (round == 0) {
+                    for (int i = 0; i < initialSamples; i++) {
+                        shapes.add(problem.randomShape(random));
+                    }
+                } else {
+                    if (ranked.isEmpty()) break;
+                    for (Evaluation elite : ranked) {
+                        for (int i = 0; i < NEIGHBORS_PER_ELITE; i++) {
+                            shapes.add(problem.neighbor(elite.index, random));
+                        }
+                    }
+                }
+                candidates += shapes.size();
+
+                // 상위 후보 수가 찼으면 그 마지막 후보보다 늦게 끝나는 후보는 더 볼 필요가 없음
+                int cutoff = (ranked.size() < ELITES) ? Integer.MAX_VALUE : ranked.get(ranked.size() - 1).readyHour;
+                List<Callable<Evaluation>> tasks = new ArrayList<>();
+                for (ScheduleShape shape : shapes) {
+                    if (!evaluated.containsKey(shape)) {
+                        tasks.add(() -> evaluate(problem, shape, cutoff));
+                    }
+                }
+
+                for (Evaluation evaluation : execute(executor, tasks)) {
+                    evaluated.put(evaluation.shape, evaluation);
+                    if (evaluation.isReady()) ranked.add(evaluation);
+                }
+                // 안정 정렬이므로 같은 순위면 먼저 평가된 후보 우선 (결과 재현성)
+                ranked.sort(RANKING);
+                if (ranked.size() > ELITES) ranked.subList(ELITES, ranked.size()).clear();
+            }
+        } finally {
+            if (executor != null) executor.shutdownNow();
+        }
+
+        if (ranked.isEmpty()) {
+            return new ScheduleOptimizationResult(null, null, -1, Double.NaN, false,
+                    candidates, evaluated.size(), flavorCache.stats());
+        }
+        Evaluation best = ranked.get(0);
+        return new ScheduleOptimizationResult(best.shape, best.shape.toSchedule(), best.readyHour,
+                best.peakEsterScore, true, candidates, evaluated.size(), flavorCache.stats());
+    }
+
+    public FlavorProfileCache getFlavorCache() {
+        return flavorCache;
+    }
+
+    private Evaluation evaluate(Problem problem, ScheduleShape shape, int cutoffHour) {
+        int[] index = problem.indexOf(shape);
+        if (!problem.withinYeastLimits(shape)) {
+            return new Evaluation(shape, index, -1, 0, false);
+        }
+
+        ReadinessSink sink = new ReadinessSink(problem.constraints, problem.forbiddenTags, cutoffHour);
+        try {
+            simulator.simulate(problem.recipe, shape.toSchedule(), problem.events, problem.durationDays, sink);
+        } catch (StopSimulation ignored) {
+            // 완료/위반/중단 기준 도달
+        }
+        return new Evaluation(shape, index, sink.readyHour, sink.peakEsterScore, !sink.violated);
+    }
+
+    private List<Evaluation> execute(ExecutorService executor, List<Callable<Evaluation>> tasks)
+            throws InterruptedException {
+        List<Evaluation> results = new ArrayList<>(tasks.size());
+        if (executor == null || tasks.size() <= 1) {
+            for (Callable<Evaluation> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+
+        for (Future<Evaluation> future : executor.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private static Evaluation call(Callable<Evaluation> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) throw runtime;
+        if (cause instanceof Error error) throw error;
+        throw new IllegalStateException("스케줄 평가 중 오류가 발생했습니다", cause);
+    }
+
+    // 완료 시간 -> 최대 에스테르 점수 순
+    private static final Comparator<Evaluation> RANKING = Comparator
+            .comparingInt((Evaluation e) -> e.readyHour)
+            .thenComparingDouble(e -> e.peakEsterScore);
+
+    /**
+     * 최적화 입력과 탐색 격자 (읽기 전용, 스레드 간 공유)
+     */
+    private static final class Problem {
+        final Recipe recipe;
+        final List<? extends SimulationEvent> events;
+        final int durationDays;
+        final ScheduleConstraints constraints;
+        final FlavorTagSet forbiddenTags;
+        final Yeast yeast;
+
+        final double[] temps;
+        final int[] restStartHours;
+        final double[] rampRates;
+
+        Problem(Recipe recipe, List<? extends SimulationEvent> events, int durationDays,
+                ScheduleSearchSpace space, ScheduleConstraints constraints) {
+            this.recipe = recipe;
+            this.events = events;
+            this.durationDays = durationDays;
+            this.constraints = constraints;
+            this.forbiddenTags = FlavorTagSet.of(constraints.forbiddenTags());
+            this.yeast = recipe.getYeastItem().yeast();
+            this.temps = space.temps();
+            this.restStartHours = space.restStartHours();
+            this.rampRates = space.rampRates();
+        }
+
+        ScheduleShape randomShape(SplittableRandom random) {
+            // 샘플 순서 고정: 주발효 온도 -> 레스트 시작 -> 레스트 온도 -> 램프 속도
+            return shapeAt(new int[]{
+                    random.nextInt(temps.length),
+                    random.nextInt(restStartHours.length),
+                    random.nextInt(temps.length),
+                    random.nextInt(rampRates.length)});
+        }
+
+        ScheduleShape neighbor(int[] index, SplittableRandom random) {
+            int[] moved = new int[]{
+                    move(index[0], temps.length, random),
+                    move(index[1], restStartHours.length, random),
+                    move(index[2], temps.length, random),
+                    move(index[3], rampRates.length, random)};
+            return shapeAt(moved);
+        }
+
+        private static int move(int i, int size, SplittableRandom random) {
+            int moved = i + random.nextInt(2 * NEIGHBOR_RADIUS + 1) - NEIGHBOR_RADIUS;
+            return Math.max(0, Math.min(size - 1, moved));
+        }
+
+        ScheduleShape shapeAt(int[] index) {
+            return new ScheduleShape(temps[index[0]], restStartHours[index[1]], temps[index[2]], rampRates[index[3]]);
+        }
+
+        int[] indexOf(ScheduleShape shape) {
+            return new int[]{
+                    nearest(temps, shape.primaryTemp()),
+                    nearest(restStartHours, shape.restStartHour()),
+                    nearest(temps, shape.restTemp()),
+                    nearest(rampRates, shape.rampRatePerHour())};
+        }
+
+        private static int nearest(double[] values, double value) {
+            int best = 0;
+            for (int i = 1; i < values.length; i++) {
+                if (Math.abs(values[i] - value) < Math.abs(values[best] - value)) best = i;
+            }
+            return best;
+        }
+
+        private static int nearest(int[] values, int value) {
+            int best = 0;
+            for (int i = 1; i < values.length; i++) {
+                if (Math.abs(values[i] - value) < Math.abs(values[best] - value)) best = i;
+            }
+            return best;
+        }
+
+        boolean withinYeastLimits(ScheduleShape shape) {
+            double margin = constraints.yeastTempMargin();
+            return shape.minTemp() >= yeast.minTemp() - margin && shape.maxTemp() <= yeast.maxTemp() + margin;
+        }
+    }
+
+    private static final class Evaluation {
+        final ScheduleShape shape;
+        final int[] index;
+        final int readyHour;
+        final double peakEsterScore;
+        final boolean feasible;
+
+        Evaluation(ScheduleShape shape, int[] index, int readyHour, double peakEsterScore, boolean feasible) {
+            this.shape = shape;
+            this.index = index;
+            this.readyHour = readyHour;
+            this.peakEsterScore = peakEsterScore;
+            this.feasible = feasible;
+        }
+
+        boolean isReady() {
+            return feasible && readyHour >= 0;
+        }
+    }
+
+    /**
+     * 기록을 받아 완료 시간과 제약 위반을 판정하고, 더 볼 필요가 없으면 시뮬레이션을 중단시키는 수신자
+     */
+    private static final class ReadinessSink implements SimulationSink {
+        private final ScheduleConstraints constraints;
+        private final FlavorTagSet forbiddenTags;
+        private final int cutoffHour;
+
+        int readyHour = -1;
+        double originalGravity = Double.NaN;
+        double peakEsterScore;
+        boolean violated;
+
+        ReadinessSink(ScheduleConstraints constraints, FlavorTagSet forbiddenTags, int cutoffHour) {
+            this.constraints = constraints;
+            this.forbiddenTags = forbiddenTags;
+            this.cutoffHour = cutoffHour;
+        }
+
+        @Override
+        public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                           List<String> flavorTags, double esterScore, double diacetylRisk) {
+            // 공정/이벤트 기록은 시뮬레이션 디아세틸 값이 없으므로 완료로 판정하지 않음
+            accept(hour, temperature, gravity, abv, phase, flavorTags, esterScore, diacetylRisk, Double.NaN);
+        }
+
+        @Override
+        public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                           List<String> flavorTags, double esterScore, double diacetylRisk, double diacetyl) {
+            // 브루하우스 기록과 드라이호핑 이벤트 기록은 풍미 값이 없음
+            if (hour < 0 || phase.startsWith(HOP_ADDITION_PHASE)) return;
+
+            if (Double.isNaN(originalGravity)) originalGravity = gravity;
+
+            double attenuation = (originalGravity > 1) ? (originalGravity - gravity) / (originalGravity - 1) : 1;
+            if (attenuation <= constraints.esterWindowAttenuation()) {
+                peakEsterScore = Math.max(peakEsterScore, esterScore);
+                if (esterScore > constraints.maxEsterScore()) {
+                    violated = true;
+                    throw StopSimulation.INSTANCE;
+                }
+            }
+            if (flavorTags instanceof FlavorTagSet tags && tags.intersects(forbiddenTags)) {
+                violated = true;
+                throw StopSimulation.INSTANCE;
+            }
+
+            if (TERMINAL_PHASES.contains(phase) && diacetylRisk <= constraints.maxDiacetylRisk()
+                    && diacetyl <= constraints.maxDiacetyl()) {
+                readyHour = hour;
+                throw StopSimulation.INSTANCE;
+            }
+            if (hour >= cutoffHour) throw StopSimulation.INSTANCE;
+        }
+    }
+
+    /**
+     * 평가가 끝난 시뮬레이션을 빠져나오기 위한 내부 신호 (스택 트레이스 불필요)
+     */
+    private static final class StopSimulation extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        static final StopSimulation INSTANCE = new StopSimulation();
+
+        private StopSimulation() {
+            super("스케줄 평가가 끝났습니다", null, false, false);
+        }
+    }
+}
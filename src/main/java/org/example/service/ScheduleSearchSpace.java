@@ -0,0 +1,65 @@
+package org.example.service;
+
+import org.example.domain.Yeast;
+
+/** 스케줄 탐색 격자 (브루어가 실제로 설정하는 단위로 나눈 값만 후보로 쓴다)
+ * @param minTemp 주발효/레스트 최저 온도
+ * @param maxTemp 주발효/레스트 최고 온도
+ * @param tempStep 온도 간격 (°C)
+ * @param restStartStepHours 레스트 시작 시간 간격, 첫 후보도 이 값
+ * @param maxRestStartHour 레스트 시작 시간 상한
+ * @param minRampRate 최저 램프 속도 (°C/h), 이후 maxRampRate 까지 두 배씩
+ * @param maxRampRate 최고 램프 속도 (°C/h)
+ */
+public record ScheduleSearchSpace(double minTemp, double maxTemp, double tempStep,
+                                  int restStartStepHours, int maxRestStartHour,
+                                  double minRampRate, double maxRampRate) {
+
+    public ScheduleSearchSpace {
+        if (!(minTemp <= maxTemp) || !(tempStep > 0)) {
+            throw new IllegalArgumentException("온도 범위가 올바르지 않습니다: " + minTemp + " ~ " + maxTemp + " / " + tempStep);
+        }
+        if (restStartStepHours <= 0 || maxRestStartHour < restStartStepHours) {
+            throw new IllegalArgumentException("레스트 시작 시간 범위가 올바르지 않습니다: "
+                    + restStartStepHours + " ~ " + maxRestStartHour);
+        }
+        if (!(minRampRate > 0) || !(minRampRate <= maxRampRate)) {
+            throw new IllegalArgumentException("램프 속도 범위가 올바르지 않습니다: " + minRampRate + " ~ " + maxRampRate);
+        }
+    }
+
+    /**
+     * 효모 권장 온도 ~ 권장 최고 + 2°C, 0.5°C 간격, 레스트는 12시간 간격으로 평가 기간 전체, 램프 0.25 ~ 4°C/h
+     */
+    public static ScheduleSearchSpace forYeast(Yeast yeast, int durationDays) {
+        return new ScheduleSearchSpace(yeast.minTemp(), yeast.maxTemp() + 2.0, 0.5, 12,
+                Math.max(12, durationDays * 24 - 12), 0.25, 4.0);
+    }
+
+    double[] temps() {
+        int n = (int) Math.floor((maxTemp - minTemp) / tempStep + 1e-9) + 1;
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = minTemp + i * tempStep;
+        }
+        return values;
+    }
+
+    int[] restStartHours() {
+        int[] values = new int[maxRestStartHour / restStartStepHours];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i + 1) * restStartStepHours;
+        }
+        return values;
+    }
+
+    double[] rampRates() {
+        int n = 1;
+        while (minRampRate * Math.pow(2, n) <= maxRampRate * (1 + 1e-9)) n++;
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = minRampRate * Math.pow(2, i);
+        }
+        return values;
+    }
+}
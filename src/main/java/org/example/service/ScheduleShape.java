@@ -0,0 +1,35 @@
+package org.example.service;
+
+import org.example.simulation.TemperatureSchedule;
+
+/** 스케줄 최적화 후보 (주발효 온도 유지 후 디아세틸 레스트 온도로 램프)
+ * @param primaryTemp 0시간부터 유지할 주발효 온도
+ * @param restStartHour 레스트 승온 시작 시간 (1 이상)
+ * @param restTemp 레스트 목표 온도 (주발효 온도보다 낮으면 냉각)
+ * @param rampRatePerHour 승온 속도 (°C/h)
+ */
+public record ScheduleShape(double primaryTemp, int restStartHour, double restTemp, double rampRatePerHour) {
+
+    public ScheduleShape {
+        if (restStartHour <= 0) {
+            throw new IllegalArgumentException("레스트 시작 시간은 1시간 이상이어야 합니다: " + restStartHour);
+        }
+        if (!(rampRatePerHour > 0)) {
+            throw new IllegalArgumentException("램프 속도는 0보다 커야 합니다: " + rampRatePerHour);
+        }
+    }
+
+    public TemperatureSchedule toSchedule() {
+        TemperatureSchedule schedule = new TemperatureSchedule(primaryTemp);
+        schedule.addRamp(restStartHour, restTemp, rampRatePerHour);
+        return schedule;
+    }
+
+    public double minTemp() {
+        return Math.min(primaryTemp, restTemp);
+    }
+
+    public double maxTemp() {
+        return Math.max(primaryTemp, restTemp);
+    }
+}
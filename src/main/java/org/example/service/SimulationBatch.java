@@ -0,0 +1,68 @@
+package org.example.service;
+
+import org.example.simulation.SimulationJob;
+import org.example.simulation.SimulationJobResult;
+import org.example.simulation.SimulationLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 실행 중인 배치 시뮬레이션 핸들
+ * BrewingSimulator.simulateBatch 로만 생성되며, 작업별 결과 수집과 취소를 담당한다.
+ */
+public class SimulationBatch {
+
+    private final ExecutorService executor;
+    private final List<SimulationJob> jobs;
+    private final List<Future<List<SimulationLog>>> futures;
+
+    SimulationBatch(ExecutorService executor, List<SimulationJob> jobs, List<Future<List<SimulationLog>>> futures) {
+        this.executor = executor;
+        this.jobs = jobs;
+        this.futures = futures;
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 대기 후, 입력 순서대로 결과 반환
+     * 개별 작업의 실패/취소는 예외로 던지지 않고 결과의 error 에 담는다.
+     */
+    public List<SimulationJobResult> awaitResults() throws InterruptedException {
+        List<SimulationJobResult> results = new ArrayList<>(jobs.size());
+
+        for (int i = 0; i < jobs.size(); i++) {
+            SimulationJob job = jobs.get(i);
+            try {
+                results.add(new SimulationJobResult(job, futures.get(i).get(), null));
+            } catch (CancellationException e) {
+                results.add(new SimulationJobResult(job, List.of(), e));
+            } catch (ExecutionException e) {
+                results.add(new SimulationJobResult(job, List.of(), e.getCause()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 대기 중인 작업은 실행하지 않고, 실행 중인 작업은 인터럽트로 중단 요청
+     * (시뮬레이터는 하루 단위로 인터럽트 여부를 확인한다)
+     */
+    public void cancel() {
+        for (Future<List<SimulationLog>> future : futures) {
+            future.cancel(true);
+        }
+        executor.shutdownNow();
+    }
+
+    public boolean isDone() {
+        return futures.stream().allMatch(Future::isDone);
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+}
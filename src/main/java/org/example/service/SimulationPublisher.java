@@ -0,0 +1,138 @@
+package org.example.service;
+
+import org.example.domain.Recipe;
+import org.example.simulation.SimulationEvent;
+import org.example.simulation.SimulationLog;
+import org.example.simulation.SimulationSink;
+import org.example.simulation.TemperatureSchedule;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * 시간 단위 시뮬레이션 결과를 계산되는 즉시 흘려보내는 Publisher
+ * 구독마다 시뮬레이션을 새로 실행하며(cold), 구독자가 request 한 만큼만 계산을 진행한다.
+ * 요청량이 0이면 생산 스레드가 대기하므로 메모리 사용량은 기간(durationDays)과 무관하게 일정하다.
+ */
+public class SimulationPublisher implements Flow.Publisher<SimulationLog> {
+
+    private final BrewingSimulator simulator;
+    private final Recipe recipe;
+    private final TemperatureSchedule schedule;
+    private final List<SimulationEvent> events;
+    private final int durationDays;
+    private final Executor executor;
+
+    SimulationPublisher(BrewingSimulator simulator, Recipe recipe, TemperatureSchedule schedule,
+                        List<? extends SimulationEvent> events, int durationDays, Executor executor) {
+        this.simulator = simulator;
+        this.recipe = recipe;
+        this.schedule = schedule;
+        this.events = List.copyOf(events);
+        this.durationDays = durationDays;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SimulationLog> subscriber) {
+        StreamSubscription subscription = new StreamSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        executor.execute(subscription::run);
+    }
+
+    /**
+     * 구독 1건의 상태, 생산 스레드에서는 SimulationSink 로 동작한다.
+     */
+    private final class StreamSubscription implements Flow.Subscription, SimulationSink {
+
+        private final Flow.Subscriber<? super SimulationLog> subscriber;
+        private final Object lock = new Object();
+
+        private long demand;
+        private boolean cancelled;
+        private Throwable pendingError;
+
+        StreamSubscription(Flow.Subscriber<? super SimulationLog> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (lock) {
+                if (cancelled) return;
+                if (n <= 0) {
+                    // Reactive Streams 규약 3.9: 잘못된 요청은 onError 로 종료
+                    pendingError = new IllegalArgumentException("요청 개수는 1 이상이어야 합니다: " + n);
+                    cancelled = true;
+                } else {
+                    demand = (Long.MAX_VALUE - demand < n) ? Long.MAX_VALUE : demand + n;
+                }
+                lock.notifyAll();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (lock) {
+                cancelled = true;
+                lock.notifyAll();
+            }
+        }
+
+        @Override
+        public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                           List<String> flavorTags, double esterScore, double diacetylRisk) {
+            synchronized (lock) {
+                while (demand == 0 && !cancelled) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        cancelled = true;
+                    }
+                }
+                if (cancelled) throw StreamCancelled.INSTANCE;
+                if (demand != Long.MAX_VALUE) demand--;
+            }
+            subscriber.onNext(new SimulationLog(hour, temperature, gravity, abv, phase, flavorTags,
+                    esterScore, diacetylRisk));
+        }
+
+        void run() {
+            try {
+                simulator.simulate(recipe, schedule, events, durationDays, this);
+            } catch (StreamCancelled e) {
+                Throwable error;
+                synchronized (lock) {
+                    error = pendingError;
+                }
+                if (error != null) subscriber.onError(error);
+                return;
+            } catch (Throwable t) {
+                if (!isCancelled()) subscriber.onError(t);
+                return;
+            }
+            if (!isCancelled()) subscriber.onComplete();
+        }
+
+        private boolean isCancelled() {
+            synchronized (lock) {
+                return cancelled;
+            }
+        }
+    }
+
+    /**
+     * 구독 취소 시 시뮬레이션 루프를 빠져나오기 위한 내부 신호 (스택 트레이스 불필요)
+     */
+    private static final class StreamCancelled extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        static final StreamCancelled INSTANCE = new StreamCancelled();
+
+        private StreamCancelled() {
+            super("구독이 취소되었습니다", null, false, false);
+        }
+    }
+}
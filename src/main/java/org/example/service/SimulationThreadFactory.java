@@ -0,0 +1,22 @@
+package org.example.service;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시뮬레이션 작업용 데몬 스레드 팩토리 (스레드 이름: brew-sim-풀번호-스레드번호)
+ */
+class SimulationThreadFactory implements ThreadFactory {
+    private static final AtomicInteger POOL_SEQ = new AtomicInteger();
+
+    private final int poolId = POOL_SEQ.incrementAndGet();
+    private final AtomicInteger threadSeq = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable task) {
+        Thread thread = new Thread(task, "brew-sim-" + poolId + "-" + threadSeq.incrementAndGet());
+        // 배치를 기다리지 않고 JVM이 종료될 수 있도록
+        thread.setDaemon(true);
+        return thread;
+    }
+}
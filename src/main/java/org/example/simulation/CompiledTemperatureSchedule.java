@@ -0,0 +1,86 @@
+package org.example.simulation;
+
+import java.util.Arrays;
+
+/**
+ * 컴파일된 온도 스케줄 (읽기 전용)
+ * 스케줄을 구간(segment) 배열로 펼쳐 두고, 시뮬레이션 기간만큼은 시간별 온도 표를 미리 계산한다.
+ * tempAt 은 기간 안에서는 배열 조회 1회(O(1)), 기간 밖에서는 구간 이진 탐색으로 동작하며 객체를 할당하지 않는다.
+ * 생성 후 변경되지 않으므로 여러 스레드에서 공유해도 안전하다.
+ */
+public final class CompiledTemperatureSchedule {
+
+    // 구간 i 는 [segmentStart[i], segmentStart[i + 1]) 를 담당하고, 온도 = startTemp + slope * (hour - start)
+    private final int[] segmentStart;
+    private final double[] segmentStartTemp;
+    private final double[] segmentSlope;
+
+    // 사용자가 지정한 단계(step/ramp) 시작 시간, 외부 온도 변경 이벤트의 유지 범위 계산용
+    private final int[] breakpoints;
+
+    private final double[] hourly;
+
+    CompiledTemperatureSchedule(int[] segmentStart, double[] segmentStartTemp, double[] segmentSlope,
+                                int[] breakpoints, int horizonHours) {
+        this.segmentStart = segmentStart;
+        this.segmentStartTemp = segmentStartTemp;
+        this.segmentSlope = segmentSlope;
+        this.breakpoints = breakpoints;
+
+        this.hourly = new double[Math.max(0, horizonHours) + 1];
+        int segment = 0;
+        for (int hour = 0; hour < hourly.length; hour++) {
+            while (segment + 1 < segmentStart.length && segmentStart[segment + 1] <= hour) segment++;
+            hourly[hour] = segmentTemp(segment, hour);
+        }
+    }
+
+    /** 시간별 온도 (O(1), 할당 없음) */
+    public double tempAt(int hour) {
+        if (hour >= 0 && hour < hourly.length) return hourly[hour];
+        return segmentTemp(segmentIndexAt(hour), hour);
+    }
+
+    /** 미리 계산된 시간별 온도 표의 마지막 시간 */
+    public int horizonHours() {
+        return hourly.length - 1;
+    }
+
+    /** hour 이후 처음 오는 스케줄 단계 시간, 없으면 Integer.MAX_VALUE */
+    public int nextBreakpointAfter(int hour) {
+        int idx = Arrays.binarySearch(breakpoints, hour);
+        int next = (idx >= 0) ? idx + 1 : -idx - 1;
+        return next < breakpoints.length ? breakpoints[next] : Integer.MAX_VALUE;
+    }
+
+    public int segmentCount() {
+        return segmentStart.length;
+    }
+
+    public int segmentStart(int segment) {
+        return segmentStart[segment];
+    }
+
+    /** 구간 끝 (다음 구간 시작), 마지막 구간은 Integer.MAX_VALUE */
+    public int segmentEnd(int segment) {
+        return segment + 1 < segmentStart.length ? segmentStart[segment + 1] : Integer.MAX_VALUE;
+    }
+
+    /** 온도가 일정한 구간인지 (램프가 아닌지) */
+    public boolean isConstant(int segment) {
+        return segmentSlope[segment] == 0.0;
+    }
+
+    /** hour 가 속한 구간 번호 (첫 구간 이전 시간은 0번 구간으로 취급) */
+    public int segmentIndexAt(int hour) {
+        int idx = Arrays.binarySearch(segmentStart, hour);
+        if (idx >= 0) return idx;
+        return Math.max(0, -idx - 2);
+    }
+
+    private double segmentTemp(int segment, int hour) {
+        double slope = segmentSlope[segment];
+        if (slope == 0.0) return segmentStartTemp[segment];
+        return segmentStartTemp[segment] + slope * (hour - segmentStart[segment]);
+    }
+}
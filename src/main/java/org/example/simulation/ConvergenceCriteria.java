@@ -0,0 +1,30 @@
+package org.example.simulation;
+
+/** 정상 상태(발효 종료) 판정 기준
+ * 비중이 목표 비중 근처에 머물고 디아세틸이 거의 없으면, 다음 이벤트나 온도 변경 전까지 계산을 생략하고 상태를 유지한다.
+ * 생략 구간에서 무시되는 비중 변화는 gravityTolerance 이내다.
+ * @param gravityTolerance 목표 비중과의 허용 차이 (determinePhase 의 종료 기준과 같은 0.001 권장)
+ * @param diacetylTolerance 디아세틸 허용치
+ * @param minHour 판정을 시작할 최소 시간 (효모 증식기 제외용)
+ * @param output 생략 구간 기록 방식
+ */
+public record ConvergenceCriteria(double gravityTolerance, double diacetylTolerance, int minHour,
+                                  SteadyStateOutput output) {
+
+    public ConvergenceCriteria {
+        if (!(gravityTolerance > 0) || diacetylTolerance < 0) {
+            throw new IllegalArgumentException("수렴 허용치가 올바르지 않습니다: " + gravityTolerance + ", " + diacetylTolerance);
+        }
+        if (output == null) {
+            throw new IllegalArgumentException("기록 방식을 지정해야 합니다");
+        }
+    }
+
+    public static ConvergenceCriteria defaults() {
+        return new ConvergenceCriteria(0.001, 0.01, 24, SteadyStateOutput.DENSE);
+    }
+
+    public ConvergenceCriteria withOutput(SteadyStateOutput output) {
+        return new ConvergenceCriteria(gravityTolerance, diacetylTolerance, minHour, output);
+    }
+}
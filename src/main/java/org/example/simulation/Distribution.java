@@ -0,0 +1,83 @@
+package org.example.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * 몬테카를로 입력 분포
+ * 구현체는 상태를 갖지 않으며, 난수 생성기는 호출하는 쪽(작업 스레드)이 넘긴다.
+ */
+public interface Distribution {
+
+    double sample(SplittableRandom random);
+
+    /** 항상 같은 값 (변동 없음) */
+    static Distribution fixed(double value) {
+        return new Fixed(value);
+    }
+
+    static Distribution normal(double mean, double standardDeviation) {
+        return new Normal(mean, standardDeviation);
+    }
+
+    static Distribution uniform(double min, double max) {
+        return new Uniform(min, max);
+    }
+
+    /** 최소/최빈/최대값만 아는 경우 (양조 현장 추정치용) */
+    static Distribution triangular(double min, double mode, double max) {
+        return new Triangular(min, mode, max);
+    }
+
+    record Fixed(double value) implements Distribution {
+        @Override
+        public double sample(SplittableRandom random) {
+            return value;
+        }
+    }
+
+    record Normal(double mean, double standardDeviation) implements Distribution {
+        public Normal {
+            if (!(standardDeviation >= 0)) {
+                throw new IllegalArgumentException("표준편차는 0 이상이어야 합니다: " + standardDeviation);
+            }
+        }
+
+        @Override
+        public double sample(SplittableRandom random) {
+            return mean + standardDeviation * random.nextGaussian();
+        }
+    }
+
+    record Uniform(double min, double max) implements Distribution {
+        public Uniform {
+            if (!(min <= max)) {
+                throw new IllegalArgumentException("범위가 올바르지 않습니다: " + min + " ~ " + max);
+            }
+        }
+
+        @Override
+        public double sample(SplittableRandom random) {
+            return min + (max - min) * random.nextDouble();
+        }
+    }
+
+    record Triangular(double min, double mode, double max) implements Distribution {
+        public Triangular {
+            if (!(min <= mode && mode <= max)) {
+                throw new IllegalArgumentException("범위가 올바르지 않습니다: " + min + " <= " + mode + " <= " + max);
+            }
+        }
+
+        @Override
+        public double sample(SplittableRandom random) {
+            double u = random.nextDouble();
+            double range = max - min;
+            if (range == 0) return mode;
+            double split = (mode - min) / range;
+            // 역변환 샘플링
+            return (u < split)
+                    ? min + Math.sqrt(u * range * (mode - min))
+                    : max - Math.sqrt((1 - u) * range * (max - mode));
+        }
+    }
+}
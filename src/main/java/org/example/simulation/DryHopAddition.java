@@ -2,5 +2,5 @@ package org.example.simulation;
 
 import org.example.domain.Hop;
 
-public record DryHopAddition(int hour, Hop hop, double amountGrams) {
-}
\ No newline at end of file
+public record DryHopAddition(int hour, Hop hop, double amountGrams) implements SimulationEvent {
+}
@@ -0,0 +1,7 @@
+package org.example.simulation;
+
+public enum IntegrationMode {
+    FIXED_STEP, // 1시간 고정 스텝 (기존 경험식 calculateHourlyDrop)
+    ADAPTIVE,   // 적응형 스텝 ODE 적분 (FermentationPhysics 반응 속도론)
+    SEGMENT     // 일정 온도 구간을 해석해로 한 번에 진행 (ADAPTIVE 와 같은 모델, 비용 = 구간 + 기록 수)
+}
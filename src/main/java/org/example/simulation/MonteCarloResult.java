@@ -0,0 +1,12 @@
+package org.example.simulation;
+
+/** 몬테카를로 시뮬레이션 결과
+ * @param trials 시행 횟수
+ * @param seed 재현용 시드 (같은 시드, 같은 입력이면 병렬 수와 무관하게 같은 결과)
+ * @param hoursToTerminal 목표 비중 ±0.001 도달 시간, 기간 안에 도달하지 못한 시행은 무한대
+ * @param terminalFraction 기간 안에 목표 비중에 도달한 시행 비율
+ */
+public record MonteCarloResult(int trials, long seed,
+                               PercentileBand og, PercentileBand fg, PercentileBand abv, PercentileBand ibu,
+                               PercentileBand hoursToTerminal, double terminalFraction) {
+}
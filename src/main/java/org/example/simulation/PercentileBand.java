@@ -0,0 +1,40 @@
+package org.example.simulation;
+
+import java.util.Arrays;
+
+/** 시행 결과 1개 지표의 분포 요약
+ * 무한대 값(기간 안에 도달하지 못한 경우 등)은 백분위에는 포함되고 평균에서는 제외된다.
+ */
+public record PercentileBand(double min, double p05, double p25, double p50, double p75, double p95, double max,
+                             double mean) {
+
+    /**
+     * 값 배열을 정렬(제자리)한 뒤 요약 생성
+     */
+    public static PercentileBand of(double[] values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("값이 없습니다");
+        }
+        Arrays.parallelSort(values);
+
+        double sum = 0;
+        int finite = 0;
+        for (double v : values) {
+            if (Double.isFinite(v)) {
+                sum += v;
+                finite++;
+            }
+        }
+        double mean = finite > 0 ? sum / finite : Double.NaN;
+
+        return new PercentileBand(values[0], percentile(values, 0.05), percentile(values, 0.25),
+                percentile(values, 0.50), percentile(values, 0.75), percentile(values, 0.95),
+                values[values.length - 1], mean);
+    }
+
+    // 정렬된 배열에서 최근접 순위(nearest-rank) 백분위
+    private static double percentile(double[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
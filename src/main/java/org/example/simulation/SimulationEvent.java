@@ -0,0 +1,12 @@
+package org.example.simulation;
+
+/**
+ * 발효 중 특정 시간에 한 번 발생하는 이벤트 (드라이 호핑, 온도 변경 등)
+ * 시뮬레이터는 SimulationEventQueue 를 통해 예정된 시간에만 이벤트를 처리한다.
+ * 시뮬레이터가 처리하는 종류만 허용한다.
+ */
+public sealed interface SimulationEvent permits DryHopAddition, TemperatureChange {
+
+    /** 이벤트 발생 시간 (피칭 기준, 시간 단위) */
+    int hour();
+}
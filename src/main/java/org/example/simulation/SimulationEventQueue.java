@@ -0,0 +1,52 @@
+package org.example.simulation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 시간순 이벤트 큐
+ * 같은 시간의 이벤트는 추가된 순서대로 꺼낸다. (드라이 호핑 로그/태그 순서 유지)
+ * 시뮬레이션 1회 전용이며 스레드 안전하지 않다.
+ */
+public final class SimulationEventQueue {
+
+    private record Entry(SimulationEvent event, long sequence) {}
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            Comparator.comparingInt((Entry e) -> e.event().hour()).thenComparingLong(Entry::sequence));
+    private long sequence;
+
+    public void add(SimulationEvent event) {
+        queue.add(new Entry(event, sequence++));
+    }
+
+    public void addAll(List<? extends SimulationEvent> events) {
+        for (SimulationEvent event : events) {
+            add(event);
+        }
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /** 다음 이벤트 시간, 없으면 Integer.MAX_VALUE */
+    public int nextHour() {
+        Entry head = queue.peek();
+        return head == null ? Integer.MAX_VALUE : head.event().hour();
+    }
+
+    /**
+     * hour 시점까지 도래한 이벤트를 모두 꺼내 out 에 담음
+     * @return 꺼낸 이벤트 수
+     */
+    public int drainUntil(int hour, List<SimulationEvent> out) {
+        int count = 0;
+        while (!queue.isEmpty() && queue.peek().event().hour() <= hour) {
+            out.add(queue.poll().event());
+            count++;
+        }
+        return count;
+    }
+}
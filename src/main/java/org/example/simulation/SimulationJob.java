@@ -0,0 +1,25 @@
+package org.example.simulation;
+
+import org.example.domain.Recipe;
+
+import java.util.List;
+
+/** 배치 시뮬레이션 작업 단위
+ * 작업 실행 중에는 recipe / schedule을 수정하면 안 됨 (여러 작업이 같은 인스턴스를 공유해도 읽기만 하므로 안전)
+ * @param id 작업 식별자 (결과 매칭용)
+ * @param recipe 레시피
+ * @param schedule 발효 온도 스케줄
+ * @param dryHopAdditions 드라이 호핑 목록
+ * @param durationDays 시뮬레이션 기간 (일)
+ */
+public record SimulationJob(String id, Recipe recipe, TemperatureSchedule schedule,
+                            List<DryHopAddition> dryHopAdditions, int durationDays) {
+
+    public SimulationJob {
+        dryHopAdditions = List.copyOf(dryHopAdditions);
+    }
+
+    public SimulationJob(String id, Recipe recipe, TemperatureSchedule schedule, int durationDays) {
+        this(id, recipe, schedule, List.of(), durationDays);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.simulation;
+
+import java.util.List;
+
+/** 배치 시뮬레이션 작업별 결과
+ * @param job 원본 작업
+ * @param logs 시뮬레이션 로그 (실패/취소 시 빈 리스트)
+ * @param error 실패 원인 (성공 시 null, 취소 시 CancellationException)
+ */
+public record SimulationJobResult(SimulationJob job, List<SimulationLog> logs, Throwable error) {
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -2,6 +2,10 @@ package org.example.simulation;
 
 import java.util.List;
 
+/**
+ * 시간별 시뮬레이션 기록
+ * flavorTags 는 발효 기록이면 FlavorTagSet(태그 id 비트셋)이고, 공정/이벤트 기록이면 설명 문자열 목록이다.
+ */
 public record SimulationLog (
     int hour,
     double temperature,
@@ -0,0 +1,60 @@
+package org.example.simulation;
+
+import org.example.engine.FlavorProfileCache;
+import org.example.metrics.MetricsRegistry;
+
+/** 시뮬레이션 실행 설정
+ * @param integrationMode 발효 적분 방식
+ * @param logIntervalHours 기록 간격 (시간), 이벤트 시점과 마지막 시간은 항상 기록
+ *                         (SEGMENT 모드에서 Integer.MAX_VALUE 로 두면 시간별 샘플 없이 이벤트/최종 상태만 계산)
+ * @param convergence 정상 상태 빨리 감기 기준 (FIXED_STEP 전용, null 이면 사용 안 함)
+ * @param flavorCache 하루 단위 풍미 재예측 결과 캐시 (null 이면 매번 계산), 여러 시뮬레이터가 공유할 수 있다
+ * @param metrics 실행/단계별 시간과 계산기 호출을 기록할 지표 저장소 (null 이면 측정하지 않음)
+ */
+public record SimulationOptions(IntegrationMode integrationMode, int logIntervalHours,
+                                ConvergenceCriteria convergence, FlavorProfileCache flavorCache,
+                                MetricsRegistry metrics) {
+
+    public SimulationOptions {
+        if (integrationMode == null) {
+            throw new IllegalArgumentException("적분 방식을 지정해야 합니다");
+        }
+        if (logIntervalHours <= 0) {
+            throw new IllegalArgumentException("기록 간격은 1시간 이상이어야 합니다: " + logIntervalHours);
+        }
+    }
+
+    public SimulationOptions(IntegrationMode integrationMode, int logIntervalHours, ConvergenceCriteria convergence) {
+        this(integrationMode, logIntervalHours, convergence, null, null);
+    }
+
+    public SimulationOptions(IntegrationMode integrationMode, int logIntervalHours, ConvergenceCriteria convergence,
+                             FlavorProfileCache flavorCache) {
+        this(integrationMode, logIntervalHours, convergence, flavorCache, null);
+    }
+
+    /** 기존 동작 (1시간 고정 스텝, 매시간 기록, 빨리 감기 없음, 캐시/측정 없음) */
+    public static SimulationOptions defaults() {
+        return new SimulationOptions(IntegrationMode.FIXED_STEP, 1, null, null, null);
+    }
+
+    public SimulationOptions withIntegrationMode(IntegrationMode integrationMode) {
+        return new SimulationOptions(integrationMode, logIntervalHours, convergence, flavorCache, metrics);
+    }
+
+    public SimulationOptions withLogIntervalHours(int logIntervalHours) {
+        return new SimulationOptions(integrationMode, logIntervalHours, convergence, flavorCache, metrics);
+    }
+
+    public SimulationOptions withConvergence(ConvergenceCriteria convergence) {
+        return new SimulationOptions(integrationMode, logIntervalHours, convergence, flavorCache, metrics);
+    }
+
+    public SimulationOptions withFlavorCache(FlavorProfileCache flavorCache) {
+        return new SimulationOptions(integrationMode, logIntervalHours, convergence, flavorCache, metrics);
+    }
+
+    public SimulationOptions withMetrics(MetricsRegistry metrics) {
+        return new SimulationOptions(integrationMode, logIntervalHours, convergence, flavorCache, metrics);
+    }
+}
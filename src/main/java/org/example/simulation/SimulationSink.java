@@ -0,0 +1,47 @@
+package org.example.simulation;
+
+import java.util.List;
+
+/**
+ * 시뮬레이션 출력 수신자
+ * 시뮬레이터가 매 기록 시점마다 원시 값으로 호출하므로, 구현체가 저장 방식(리스트, 컬럼 등)을 결정한다.
+ * flavorTags 는 변하지 않는 동안 같은 인스턴스가 반복 전달되며, 수정하면 안 된다.
+ * 발효 기록의 flavorTags 는 FlavorTagSet(태그 id 비트셋)이고, 공정/이벤트 기록은 설명 문자열 목록이다.
+ * 발효 기록은 시뮬레이션 디아세틸 값이 붙은 오버로드로 전달되며, 기본 구현은 그 값을 버리고 아래 메서드로 넘긴다.
+ */
+@FunctionalInterface
+public interface SimulationSink {
+
+    void accept(int hour, double temperature, double gravity, double abv, String phase,
+                List<String> flavorTags, double esterScore, double diacetylRisk);
+
+    /**
+     * 발효 기록
+     * @param diacetylRisk 온도 기반 예측 위험도 (FlavorProfile.diacetylRisk)
+     * @param diacetyl 드라이호핑 증가와 효모 재흡수까지 반영한 시뮬레이션 디아세틸 값
+     */
+    default void accept(int hour, double temperature, double gravity, double abv, String phase,
+                        List<String> flavorTags, double esterScore, double diacetylRisk, double diacetyl) {
+        accept(hour, temperature, gravity, abv, phase, flavorTags, esterScore, diacetylRisk);
+    }
+
+    /** 같은 기록을 next 에도 전달 (예: 타임라인 빌더와 이력 저장소에 동시 기록) */
+    default SimulationSink andThen(SimulationSink next) {
+        SimulationSink first = this;
+        return new SimulationSink() {
+            @Override
+            public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                               List<String> flavorTags, double esterScore, double diacetylRisk) {
+                first.accept(hour, temperature, gravity, abv, phase, flavorTags, esterScore, diacetylRisk);
+                next.accept(hour, temperature, gravity, abv, phase, flavorTags, esterScore, diacetylRisk);
+            }
+
+            @Override
+            public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                               List<String> flavorTags, double esterScore, double diacetylRisk, double diacetyl) {
+                first.accept(hour, temperature, gravity, abv, phase, flavorTags, esterScore, diacetylRisk, diacetyl);
+                next.accept(hour, temperature, gravity, abv, phase, flavorTags, esterScore, diacetylRisk, diacetyl);
+            }
+        };
+    }
+}
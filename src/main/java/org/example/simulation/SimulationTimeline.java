@@ -0,0 +1,259 @@
+package org.example.simulation;
+
+import org.example.domain.FlavorTagSet;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼 기반(struct-of-arrays) 시뮬레이션 결과
+ * 시간당 SimulationLog 레코드 대신 원시 배열 컬럼에 저장하고,
+ * 페이즈와 태그 목록은 사전(dictionary) 인코딩하여 행마다 int id 하나만 보관한다.
+ * 생성 후 변경되지 않으므로 여러 스레드에서 공유해도 안전하다.
+ */
+public final class SimulationTimeline {
+
+    private final int size;
+    private final int[] hours;
+    private final double[] temperature;
+    private final double[] gravity;
+    private final double[] abv;
+    private final double[] esterScore;
+    private final double[] diacetylRisk;
+
+    private final int[] phaseIds;
+    private final List<String> phaseDictionary;
+    private final int[] tagSetIds;
+    private final List<List<String>> tagDictionary;
+
+    private SimulationTimeline(Builder b) {
+        this.size = b.size;
+        this.hours = Arrays.copyOf(b.hours, b.size);
+        this.temperature = Arrays.copyOf(b.temperature, b.size);
+        this.gravity = Arrays.copyOf(b.gravity, b.size);
+        this.abv = Arrays.copyOf(b.abv, b.size);
+        this.esterScore = Arrays.copyOf(b.esterScore, b.size);
+        this.diacetylRisk = Arrays.copyOf(b.diacetylRisk, b.size);
+        this.phaseIds = Arrays.copyOf(b.phaseIds, b.size);
+        this.phaseDictionary = List.copyOf(b.phaseDictionary);
+        this.tagSetIds = Arrays.copyOf(b.tagSetIds, b.size);
+        this.tagDictionary = List.copyOf(b.tagDictionary);
+    }
+
+    private SimulationTimeline(int[] hours, double[] temperature, double[] gravity, double[] abv,
+                               double[] esterScore, double[] diacetylRisk,
+                               List<String> phaseDictionary, int[] phaseIds,
+                               List<List<String>> tagDictionary, int[] tagSetIds) {
+        this.size = hours.length;
+        this.hours = hours;
+        this.temperature = temperature;
+        this.gravity = gravity;
+        this.abv = abv;
+        this.esterScore = esterScore;
+        this.diacetylRisk = diacetylRisk;
+        this.phaseDictionary = phaseDictionary;
+        this.phaseIds = phaseIds;
+        this.tagDictionary = tagDictionary;
+        this.tagSetIds = tagSetIds;
+    }
+
+    /**
+     * 컬럼 배열에서 직접 생성 (역직렬화용, 행 단위 빌더를 거치지 않음)
+     * 배열은 복사해서 보관하므로 호출 후 원본을 수정해도 영향이 없다.
+     */
+    public static SimulationTimeline ofColumns(int[] hours, double[] temperature, double[] gravity, double[] abv,
+                                               double[] esterScore, double[] diacetylRisk,
+                                               List<String> phaseDictionary, int[] phaseIds,
+                                               List<List<String>> tagDictionary, int[] tagSetIds) {
+        int rows = hours.length;
+        if (temperature.length != rows || gravity.length != rows || abv.length != rows
+                || esterScore.length != rows || diacetylRisk.length != rows
+                || phaseIds.length != rows || tagSetIds.length != rows) {
+            throw new IllegalArgumentException("컬럼 길이가 서로 다릅니다 (rows=" + rows + ")");
+        }
+        checkIds(phaseIds, phaseDictionary.size(), "페이즈");
+        checkIds(tagSetIds, tagDictionary.size(), "태그 목록");
+        return new SimulationTimeline(hours.clone(), temperature.clone(), gravity.clone(), abv.clone(),
+                esterScore.clone(), diacetylRisk.clone(), List.copyOf(phaseDictionary), phaseIds.clone(),
+                List.copyOf(tagDictionary), tagSetIds.clone());
+    }
+
+    private static void checkIds(int[] ids, int dictionarySize, String name) {
+        for (int id : ids) {
+            if (id < 0 || id >= dictionarySize) {
+                throw new IllegalArgumentException(name + " id 가 사전 범위를 벗어났습니다: " + id + " (사전 크기 " + dictionarySize + ")");
+            }
+        }
+    }
+
+    public int size() { return size; }
+
+    public int hourAt(int row) { return hours[checkRow(row)]; }
+    public double temperatureAt(int row) { return temperature[checkRow(row)]; }
+    public double gravityAt(int row) { return gravity[checkRow(row)]; }
+    public double abvAt(int row) { return abv[checkRow(row)]; }
+    public double esterScoreAt(int row) { return esterScore[checkRow(row)]; }
+    public double diacetylRiskAt(int row) { return diacetylRisk[checkRow(row)]; }
+    public String phaseAt(int row) { return phaseDictionary.get(phaseIds[checkRow(row)]); }
+    public List<String> flavorTagsAt(int row) { return tagDictionary.get(tagSetIds[checkRow(row)]); }
+
+    /** 태그 목록의 사전 id (같은 id면 같은 태그 목록) */
+    public int tagSetIdAt(int row) { return tagSetIds[checkRow(row)]; }
+    public int phaseIdAt(int row) { return phaseIds[checkRow(row)]; }
+
+    public List<String> phaseDictionary() { return phaseDictionary; }
+    public List<List<String>> tagDictionary() { return tagDictionary; }
+
+    // 컬럼 전체 복사본 (분석/직렬화용)
+    public int[] hourColumn() { return hours.clone(); }
+    public double[] temperatureColumn() { return temperature.clone(); }
+    public double[] gravityColumn() { return gravity.clone(); }
+    public double[] abvColumn() { return abv.clone(); }
+    public double[] esterScoreColumn() { return esterScore.clone(); }
+    public double[] diacetylRiskColumn() { return diacetylRisk.clone(); }
+    public int[] phaseIdColumn() { return phaseIds.clone(); }
+    public int[] tagSetIdColumn() { return tagSetIds.clone(); }
+
+    public SimulationLog toLog(int row) {
+        checkRow(row);
+        return new SimulationLog(hours[row], temperature[row], gravity[row], abv[row],
+                phaseDictionary.get(phaseIds[row]), tagDictionary.get(tagSetIds[row]),
+                esterScore[row], diacetylRisk[row]);
+    }
+
+    /**
+     * 기존 List&lt;SimulationLog&gt; 호출부용 읽기 전용 뷰
+     * 레코드는 get 호출 시점에 만들어지므로 전체를 미리 생성하지 않는다.
+     */
+    public List<SimulationLog> asLogs() {
+        return new AbstractList<>() {
+            @Override
+            public SimulationLog get(int index) {
+                return toLog(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("행 범위를 벗어났습니다: " + row + " (size=" + size + ")");
+        }
+        return row;
+    }
+
+    public static Builder builder() {
+        return new Builder(64);
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(Math.max(1, expectedRows));
+    }
+
+    /**
+     * 시뮬레이터 출력을 받아 컬럼에 누적하는 빌더
+     * 스레드 안전하지 않음 (시뮬레이션 1회당 1개 사용)
+     */
+    public static final class Builder implements SimulationSink {
+
+        private int size;
+        private int[] hours;
+        private double[] temperature;
+        private double[] gravity;
+        private double[] abv;
+        private double[] esterScore;
+        private double[] diacetylRisk;
+        private int[] phaseIds;
+        private int[] tagSetIds;
+
+        private final List<String> phaseDictionary = new ArrayList<>();
+        private final Map<String, Integer> phaseIndex = new HashMap<>();
+        private final List<List<String>> tagDictionary = new ArrayList<>();
+        private final Map<List<String>, Integer> tagIndex = new HashMap<>();
+
+        // 시뮬레이터는 태그가 바뀌기 전까지 같은 리스트 인스턴스를 넘기므로, 직전 값은 동일성 비교로 처리
+        private List<String> lastTags;
+        private int lastTagId = -1;
+        private String lastPhase;
+        private int lastPhaseId = -1;
+
+        private Builder(int capacity) {
+            hours = new int[capacity];
+            temperature = new double[capacity];
+            gravity = new double[capacity];
+            abv = new double[capacity];
+            esterScore = new double[capacity];
+            diacetylRisk = new double[capacity];
+            phaseIds = new int[capacity];
+            tagSetIds = new int[capacity];
+        }
+
+        @Override
+        public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                           List<String> flavorTags, double esterScore, double diacetylRisk) {
+            if (size == hours.length) grow();
+
+            this.hours[size] = hour;
+            this.temperature[size] = temperature;
+            this.gravity[size] = gravity;
+            this.abv[size] = abv;
+            this.esterScore[size] = esterScore;
+            this.diacetylRisk[size] = diacetylRisk;
+            this.phaseIds[size] = phaseId(phase);
+            this.tagSetIds[size] = tagSetId(flavorTags);
+            size++;
+        }
+
+        public SimulationTimeline build() {
+            return new SimulationTimeline(this);
+        }
+
+        private int phaseId(String phase) {
+            if (phase == lastPhase) return lastPhaseId;
+            Integer id = phaseIndex.get(phase);
+            if (id == null) {
+                id = phaseDictionary.size();
+                phaseDictionary.add(phase);
+                phaseIndex.put(phase, id);
+            }
+            lastPhase = phase;
+            lastPhaseId = id;
+            return id;
+        }
+
+        private int tagSetId(List<String> tags) {
+            if (tags == lastTags) return lastTagId;
+            Integer id = tagIndex.get(tags);
+            if (id == null) {
+                // FlavorTagSet 은 변경 불가이므로 그대로 보관 (문자열 목록으로 펼치지 않음)
+                List<String> copy = (tags instanceof FlavorTagSet) ? tags : List.copyOf(tags);
+                id = tagDictionary.size();
+                tagDictionary.add(copy);
+                tagIndex.put(copy, id);
+            }
+            lastTags = tags;
+            lastTagId = id;
+            return id;
+        }
+
+        private void grow() {
+            int capacity = hours.length * 2;
+            hours = Arrays.copyOf(hours, capacity);
+            temperature = Arrays.copyOf(temperature, capacity);
+            gravity = Arrays.copyOf(gravity, capacity);
+            abv = Arrays.copyOf(abv, capacity);
+            esterScore = Arrays.copyOf(esterScore, capacity);
+            diacetylRisk = Arrays.copyOf(diacetylRisk, capacity);
+            phaseIds = Arrays.copyOf(phaseIds, capacity);
+            tagSetIds = Arrays.copyOf(tagSetIds, capacity);
+        }
+    }
+}
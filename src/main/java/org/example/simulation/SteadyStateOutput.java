@@ -0,0 +1,6 @@
+package org.example.simulation;
+
+public enum SteadyStateOutput {
+    DENSE,  // 정상 상태 구간도 기록 간격마다 기록 (재계산 없이 직전 값 반복)
+    SPARSE  // 정상 상태 구간은 하루 단위(24h)와 마지막 시간만 기록
+}
@@ -0,0 +1,8 @@
+package org.example.simulation;
+
+/** 발효 온도 변경 이벤트 (스케줄 단계 변경, 콜드 크래시 등)
+ * @param hour 변경 시간
+ * @param temperature 변경 후 온도 (°C)
+ */
+public record TemperatureChange(int hour, double temperature) implements SimulationEvent {
+}
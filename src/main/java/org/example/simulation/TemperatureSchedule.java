@@ -1,10 +1,17 @@
 package org.example.simulation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.TreeMap;
 
 public class TemperatureSchedule {
 
     private final TreeMap<Integer, Double> schedule = new TreeMap<>();
+    // 램프 단계 시작 시간 -> 변화 속도 (°C/h), 여기에 없는 단계는 즉시 변경(step)
+    private final TreeMap<Integer, Double> rampRates = new TreeMap<>();
 
     public TemperatureSchedule(double initialTemp) {
         schedule.put(0, initialTemp);
@@ -12,9 +19,95 @@ public class TemperatureSchedule {
 
     public void addStep(int hour, double temp) {
         schedule.put(hour, temp);
+        rampRates.remove(hour);
+    }
+
+    /**
+     * 선형 램프 단계 추가 (예: 디아세틸 레스트용 0.5°C/h 승온)
+     * hour 시점의 온도에서 시작해 ratePerHour 속도로 targetTemp 까지 이동 후 유지한다.
+     * 다음 단계가 먼저 시작되면 램프는 그 시점에서 끊긴다.
+     * @param ratePerHour 시간당 온도 변화량 (양수, 방향은 목표 온도에 따라 결정)
+     */
+    public void addRamp(int hour, double targetTemp, double ratePerHour) {
+        if (!(ratePerHour > 0)) {
+            throw new IllegalArgumentException("램프 속도는 0보다 커야 합니다: " + ratePerHour);
+        }
+        schedule.put(hour, targetTemp);
+        rampRates.put(hour, ratePerHour);
     }
 
     public double getTempAt(int hour) {
-        return schedule.floorEntry(hour).getValue();
+        if (rampRates.isEmpty()) {
+            return schedule.floorEntry(hour).getValue();
+        }
+        // 램프는 이전 단계 온도에 따라 값이 달라지므로 구간을 펼쳐서 계산 (반복 조회는 compile 사용)
+        return compile(0).tempAt(hour);
+    }
+
+    /** 시간순 온도 단계 (읽기 전용, 램프 단계는 목표 온도) */
+    public NavigableMap<Integer, Double> getSteps() {
+        return Collections.unmodifiableNavigableMap(schedule);
+    }
+
+    public boolean isRamp(int hour) {
+        return rampRates.containsKey(hour);
+    }
+
+    /**
+     * 스케줄을 구간 배열로 컴파일하고, 0 ~ horizonHours 시간별 온도 표를 미리 계산
+     * 이후 스케줄을 수정해도 컴파일 결과에는 반영되지 않는다.
+     */
+    public CompiledTemperatureSchedule compile(int horizonHours) {
+        List<Integer> starts = new ArrayList<>();
+        List<Double> startTemps = new ArrayList<>();
+        List<Double> slopes = new ArrayList<>();
+
+        int[] breakpoints = new int[schedule.size()];
+        int b = 0;
+
+        for (Map.Entry<Integer, Double> step : schedule.entrySet()) {
+            int hour = step.getKey();
+            double target = step.getValue();
+            breakpoints[b++] = hour;
+            Integer nextHour = schedule.higherKey(hour);
+
+            Double rate = rampRates.get(hour);
+            if (rate == null || starts.isEmpty()) {
+                // 즉시 변경 (첫 단계는 이전 온도가 없으므로 램프여도 즉시 변경으로 취급)
+                starts.add(hour);
+                startTemps.add(target);
+                slopes.add(0.0);
+                continue;
+            }
+
+            int last = starts.size() - 1;
+            double from = startTemps.get(last) + slopes.get(last) * (hour - starts.get(last));
+            double delta = target - from;
+            int rampHours = (int) Math.ceil(Math.abs(delta) / rate);
+
+            if (rampHours > 0) {
+                starts.add(hour);
+                startTemps.add(from);
+                slopes.add(Math.copySign(rate, delta));
+            }
+            // 램프 도달 후 목표 온도 유지 (다음 단계 전에 도달하는 경우만)
+            int holdStart = hour + rampHours;
+            if (nextHour == null || holdStart < nextHour) {
+                starts.add(holdStart);
+                startTemps.add(target);
+                slopes.add(0.0);
+            }
+        }
+
+        int n = starts.size();
+        int[] segmentStart = new int[n];
+        double[] segmentStartTemp = new double[n];
+        double[] segmentSlope = new double[n];
+        for (int i = 0; i < n; i++) {
+            segmentStart[i] = starts.get(i);
+            segmentStartTemp[i] = startTemps.get(i);
+            segmentSlope[i] = slopes.get(i);
+        }
+        return new CompiledTemperatureSchedule(segmentStart, segmentStartTemp, segmentSlope, breakpoints, horizonHours);
     }
 }
@@ -0,0 +1,56 @@
+package org.example.simulation;
+
+/** 몬테카를로 시뮬레이션의 양조일 변동 모델
+ * 각 분포는 레시피 값에 더하거나(delta) 곱하는(factor) 변동량을 뽑는다.
+ * @param efficiencyDelta 당화 효율 변동 (레시피 효율에 더함, 결과는 0 ~ 1 로 제한)
+ * @param alphaAcidFactor 홉 알파산 배율 (홉마다 따로 뽑아서 곱함, 음수는 0)
+ * @param yeastAgeDeltaMonths 효모 보관 기간 변동 (개월, 더한 뒤 반올림, 음수는 0)
+ * @param timesCulturedDelta 효모 재사용 횟수 변동 (더한 뒤 반올림, 음수는 0)
+ * @param fermentTempDelta 발효 온도 변동 (°C, 스케줄 전 구간에 더함)
+ */
+public record UncertaintyModel(Distribution efficiencyDelta, Distribution alphaAcidFactor,
+                               Distribution yeastAgeDeltaMonths, Distribution timesCulturedDelta,
+                               Distribution fermentTempDelta) {
+
+    public UncertaintyModel {
+        if (efficiencyDelta == null || alphaAcidFactor == null || yeastAgeDeltaMonths == null
+                || timesCulturedDelta == null || fermentTempDelta == null) {
+            throw new IllegalArgumentException("모든 변동 분포를 지정해야 합니다 (변동이 없으면 Distribution.fixed 사용)");
+        }
+    }
+
+    /** 변동 없음 (모든 시행이 레시피 값 그대로) */
+    public static UncertaintyModel none() {
+        return new UncertaintyModel(Distribution.fixed(0), Distribution.fixed(1),
+                Distribution.fixed(0), Distribution.fixed(0), Distribution.fixed(0));
+    }
+
+    /**
+     * 홈브루 기준 일반적인 변동폭
+     * 효율 ±3%p, 알파산 ±10%, 효모 보관 0 ~ 3개월 추가, 발효 온도 ±0.5°C (모두 1 표준편차 또는 범위)
+     */
+    public static UncertaintyModel typical() {
+        return new UncertaintyModel(Distribution.normal(0, 0.03), Distribution.normal(1, 0.10),
+                Distribution.uniform(0, 3), Distribution.fixed(0), Distribution.normal(0, 0.5));
+    }
+
+    public UncertaintyModel withEfficiencyDelta(Distribution efficiencyDelta) {
+        return new UncertaintyModel(efficiencyDelta, alphaAcidFactor, yeastAgeDeltaMonths, timesCulturedDelta, fermentTempDelta);
+    }
+
+    public UncertaintyModel withAlphaAcidFactor(Distribution alphaAcidFactor) {
+        return new UncertaintyModel(efficiencyDelta, alphaAcidFactor, yeastAgeDeltaMonths, timesCulturedDelta, fermentTempDelta);
+    }
+
+    public UncertaintyModel withYeastAgeDeltaMonths(Distribution yeastAgeDeltaMonths) {
+        return new UncertaintyModel(efficiencyDelta, alphaAcidFactor, yeastAgeDeltaMonths, timesCulturedDelta, fermentTempDelta);
+    }
+
+    public UncertaintyModel withTimesCulturedDelta(Distribution timesCulturedDelta) {
+        return new UncertaintyModel(efficiencyDelta, alphaAcidFactor, yeastAgeDeltaMonths, timesCulturedDelta, fermentTempDelta);
+    }
+
+    public UncertaintyModel withFermentTempDelta(Distribution fermentTempDelta) {
+        return new UncertaintyModel(efficiencyDelta, alphaAcidFactor, yeastAgeDeltaMonths, timesCulturedDelta, fermentTempDelta);
+    }
+}
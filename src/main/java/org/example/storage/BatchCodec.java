@@ -0,0 +1,55 @@
+package org.example.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 배치 기록 직렬화
+ * <pre>
+ * 헤더(BATCH) batchId(문자열)
+ * 레시피 길이(int) + 레시피 본문 (RecipeCodec, 헤더 없음)
+ * 타임라인 길이(int) + 타임라인 본문 (TimelineCodec, 헤더 없음)
+ * </pre>
+ * 구역마다 길이가 앞에 있으므로 필요 없는 구역은 읽지 않고 건너뛴다.
+ */
+public final class BatchCodec {
+
+    private final RecipeCodec recipes;
+
+    public BatchCodec(RecipeCodec recipes) {
+        if (recipes == null) {
+            throw new IllegalArgumentException("레시피 코덱이 필요합니다");
+        }
+        this.recipes = recipes;
+    }
+
+    public byte[] encode(BatchRecord batch) {
+        BinaryFormat.Writer out = new BinaryFormat.Writer(256 + batch.timeline().size() * 44);
+        BinaryFormat.writeHeader(out, BinaryFormat.KIND_BATCH);
+        out.putString(batch.batchId());
+
+        int recipeLength = out.position();
+        out.putInt(0);
+        recipes.write(out, batch.recipe());
+        out.putIntAt(recipeLength, out.position() - recipeLength - 4);
+
+        int timelineLength = out.position();
+        out.putInt(0);
+        TimelineCodec.write(out, batch.timeline());
+        out.putIntAt(timelineLength, out.position() - timelineLength - 4);
+
+        return out.toByteArray();
+    }
+
+    public BatchRecord decode(ByteBuffer buffer) {
+        BinaryFormat.Reader in = BinaryFormat.readHeader(buffer, BinaryFormat.KIND_BATCH);
+        String batchId = in.getString();
+        BinaryFormat.Reader recipe = in.section(in.getInt());
+        BinaryFormat.Reader timeline = in.section(in.getInt());
+        return new BatchRecord(batchId, recipes.read(recipe), TimelineCodec.read(timeline));
+    }
+
+    /** 본문을 읽지 않고 배치 id 만 확인 */
+    public static String batchIdOf(ByteBuffer buffer) {
+        return BinaryFormat.readHeader(buffer, BinaryFormat.KIND_BATCH).getString();
+    }
+}
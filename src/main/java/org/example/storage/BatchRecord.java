@@ -0,0 +1,22 @@
+package org.example.storage;
+
+import org.example.domain.Recipe;
+import org.example.simulation.SimulationTimeline;
+
+/**
+ * 보관용 배치 기록 (레시피 + 시뮬레이션/실측 타임라인)
+ * 레시피는 동결된 사본으로 보관한다.
+ * @param batchId 배치 식별자
+ */
+public record BatchRecord(String batchId, Recipe recipe, SimulationTimeline timeline) {
+
+    public BatchRecord {
+        if (batchId == null || batchId.isBlank()) {
+            throw new IllegalArgumentException("배치 id 가 비어 있습니다");
+        }
+        if (recipe == null || timeline == null) {
+            throw new IllegalArgumentException("레시피와 타임라인이 모두 필요합니다: " + batchId);
+        }
+        recipe = recipe.freeze();
+    }
+}
@@ -0,0 +1,243 @@
+package org.example.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 배치 기록 바이너리 형식 공통 (리틀 엔디언)
+ * <pre>
+ * 헤더 8바이트: magic(int) version(short) kind(byte) reserved(byte)
+ * 정수는 LEB128 가변 길이(varint), 부호 있는 값은 zigzag 후 varint, 실수는 8바이트 double
+ * 문자열은 varint 길이 + UTF-8
+ * </pre>
+ * 읽기는 절대 위치 접근만 쓰므로 매핑된 버퍼나 다른 버퍼의 일부(slice)를 복사 없이 그대로 읽는다.
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x41425242; // "BRBA"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    static final int KIND_RECIPE = 1;
+    static final int KIND_TIMELINE = 2;
+    static final int KIND_BATCH = 3;
+    static final int KIND_SERIES = 4;
+
+    private BinaryFormat() {
+    }
+
+    static void writeHeader(Writer out, int kind) {
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putByte(kind);
+        out.putByte(0);
+    }
+
+    /** 헤더 검사 후 본문 시작 위치의 커서 반환 */
+    static Reader readHeader(ByteBuffer buffer, int kind) {
+        ByteBuffer in = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (in.remaining() < HEADER_SIZE || in.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("배치 기록 형식이 아닙니다");
+        }
+        int version = in.getShort(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 배치 기록 버전입니다: " + version);
+        }
+        if (in.get(6) != kind) {
+            throw new IllegalArgumentException("기록 종류가 다릅니다: " + kindName(in.get(6)) + " (기대값 " + kindName(kind) + ")");
+        }
+        return new Reader(in, HEADER_SIZE);
+    }
+
+    private static String kindName(int kind) {
+        return switch (kind) {
+            case KIND_RECIPE -> "RECIPE";
+            case KIND_TIMELINE -> "TIMELINE";
+            case KIND_BATCH -> "BATCH";
+            case KIND_SERIES -> "SERIES";
+            default -> "UNKNOWN(" + kind + ")";
+        };
+    }
+
+    /**
+     * 늘어나는 쓰기 버퍼
+     */
+    static final class Writer {
+        private ByteBuffer buffer;
+
+        Writer(int capacity) {
+            buffer = ByteBuffer.allocate(Math.max(16, capacity)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        int position() {
+            return buffer.position();
+        }
+
+        void putByte(int value) {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void putShort(int value) {
+            ensure(2);
+            buffer.putShort((short) value);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putIntAt(int index, int value) {
+            buffer.putInt(index, value);
+        }
+
+        void putDouble(double value) {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        /** 0 이상의 정수 */
+        void putVarInt(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("음수는 varint 로 쓸 수 없습니다: " + value);
+            }
+            putUnsigned(value);
+        }
+
+        void putSignedVarInt(int value) {
+            putUnsigned((value << 1) ^ (value >> 31));
+        }
+
+        private void putUnsigned(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void putString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putVarInt(bytes.length);
+            putBytes(bytes);
+        }
+
+        void putBytes(byte[] bytes) {
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() >= bytes) return;
+            long needed = (long) buffer.position() + bytes;
+            if (needed > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("기록이 너무 큽니다 (2GB 초과)");
+            }
+            int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(needed, (long) buffer.capacity() * 2));
+            ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+
+    /**
+     * 순차 읽기 커서 (버퍼의 위치는 건드리지 않음)
+     */
+    static final class Reader {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int position() {
+            return position;
+        }
+
+        /** 현재 위치부터 length 바이트 구간을 읽는 별도 커서 (이 커서는 그 뒤로 이동) */
+        Reader section(int length) {
+            return new Reader(slice(length), 0);
+        }
+
+        /** 현재 위치부터 length 바이트를 복사 없이 잘라낸 버퍼 (커서는 그 뒤로 이동) */
+        ByteBuffer slice(int length) {
+            check(length);
+            ByteBuffer slice = buffer.slice(position, length).order(ByteOrder.LITTLE_ENDIAN);
+            position += length;
+            return slice;
+        }
+
+        int getByte() {
+            check(1);
+            return buffer.get(position++) & 0xFF;
+        }
+
+        int getInt() {
+            check(4);
+            int value = buffer.getInt(position);
+            position += 4;
+            return value;
+        }
+
+        double getDouble() {
+            check(8);
+            double value = buffer.getDouble(position);
+            position += 8;
+            return value;
+        }
+
+        void skip(int bytes) {
+            check(bytes);
+            position += bytes;
+        }
+
+        int getVarInt() {
+            int value = getUnsigned();
+            if (value < 0) {
+                throw new IllegalArgumentException("잘못된 varint 입니다 (위치 " + position + ")");
+            }
+            return value;
+        }
+
+        int getSignedVarInt() {
+            int zigzag = getUnsigned();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        private int getUnsigned() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = getByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("잘못된 varint 입니다 (위치 " + position + ")");
+        }
+
+        String getString() {
+            int length = getVarInt();
+            check(length);
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void check(int bytes) {
+            if (bytes < 0 || position + bytes > buffer.limit()) {
+                throw new IllegalArgumentException("기록이 잘렸습니다 (위치 " + position + ", 필요 " + bytes + "바이트)");
+            }
+        }
+    }
+}
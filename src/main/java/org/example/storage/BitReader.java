@@ -0,0 +1,47 @@
+package org.example.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 비트 단위 읽기 (BitWriter 와 같은 순서, 버퍼는 절대 위치로만 읽음)
+ */
+final class BitReader {
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    // 읽어 둔 비트 (하위 available 개 사용)
+    private long accumulator;
+    private int available;
+
+    BitReader(ByteBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.position = position;
+    }
+
+    /** count 비트 (0 ~ 64) 를 부호 없는 값으로 */
+    long read(int count) {
+        if (count > 32) {
+            long high = readChunk(count - 32);
+            return (high << 32) | readChunk(32);
+        }
+        return (count == 0) ? 0 : readChunk(count);
+    }
+
+    boolean readBit() {
+        return readChunk(1) != 0;
+    }
+
+    private long readChunk(int count) {
+        while (available < count) {
+            if (position >= limit) {
+                throw new IllegalArgumentException("압축 데이터가 잘렸습니다 (위치 " + position + ")");
+            }
+            accumulator = (accumulator << 8) | (buffer.get(position++) & 0xFF);
+            available += 8;
+        }
+        available -= count;
+        return (accumulator >>> available) & ((1L << count) - 1);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.storage;
+
+import java.util.Arrays;
+
+/**
+ * 비트 단위 쓰기 (바이트마다 상위 비트부터 채움)
+ */
+final class BitWriter {
+
+    private byte[] bytes;
+    private int size;
+    // 아직 바이트로 내보내지 않은 비트 (하위 pending 개 사용, 항상 8 미만)
+    private long accumulator;
+    private int pending;
+
+    BitWriter(int capacity) {
+        bytes = new byte[Math.max(16, capacity)];
+    }
+
+    /** 값의 하위 count 비트 (0 ~ 64) */
+    void write(long value, int count) {
+        if (count > 32) {
+            writeChunk(value >>> 32, count - 32);
+            writeChunk(value, 32);
+        } else if (count > 0) {
+            writeChunk(value, count);
+        }
+    }
+
+    void writeBit(boolean bit) {
+        writeChunk(bit ? 1 : 0, 1);
+    }
+
+    private void writeChunk(long value, int count) {
+        accumulator = (accumulator << count) | (value & ((1L << count) - 1));
+        pending += count;
+        while (pending >= 8) {
+            pending -= 8;
+            put((byte) (accumulator >>> pending));
+        }
+    }
+
+    /** 다음 바이트 경계까지 0 으로 채우고 바이트 위치 반환 */
+    int alignToByte() {
+        if (pending > 0) {
+            put((byte) (accumulator << (8 - pending)));
+            pending = 0;
+        }
+        return size;
+    }
+
+    long bitCount() {
+        return (long) size * 8 + pending;
+    }
+
+    byte[] toByteArray() {
+        alignToByte();
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void put(byte b) {
+        if (size == bytes.length) {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("압축 데이터가 너무 큽니다 (2GB 초과)");
+            }
+            bytes = Arrays.copyOf(bytes, (int) Math.min(Integer.MAX_VALUE, (long) size * 2));
+        }
+        bytes[size++] = b;
+    }
+}
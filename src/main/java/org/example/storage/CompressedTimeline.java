@@ -0,0 +1,476 @@
+package org.example.storage;
+
+import org.example.domain.FlavorTagSet;
+import org.example.simulation.SimulationSink;
+import org.example.simulation.SimulationTimeline;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gorilla 방식으로 압축한 시뮬레이션 타임라인 (변경 불가)
+ * 시간은 delta-of-delta, 실수 값은 직전 값과의 XOR 로 부호화하고, 페이즈/태그 목록 id 는 바뀔 때만 기록한다.
+ * 구간별로 일정한 온도나 변화가 멈춘 값은 행당 1비트로 줄고, 계산 잡음이 있는 비중/ABV 는 정밀도를 줄인 압축기(encoder(blockRows, mantissaBits))에서 크게 줄어든다.
+ * 행은 blockRows 개씩 블록으로 나뉘고 블록마다 상태를 새로 시작하므로, 시간 구간 재생은 블록 색인으로 시작 블록을 찾아 그 뒤만 푼다.
+ *
+ * <pre>
+ * 헤더(SERIES) rows(varint) blockRows(varint)
+ * 페이즈 사전, 태그 목록 사전 (TimelineCodec 과 같은 형식)
+ * 블록 수 + (첫 시간 zigzag, 첫 행 varint, 데이터 내 바이트 위치 varint)...
+ * 데이터 길이(varint) + 비트열
+ *
+ * 행 부호화 (블록 첫 행은 시간 32비트, 실수 64비트 원본)
+ * 시간:  delta-of-delta zigzag 가 0 -> '0', 7비트 -> '10', 9비트 -> '110', 12비트 -> '1110', 그 외 '1111' + 64비트
+ * 페이즈, 태그 목록: 직전과 같으면 '0', 다르면 '1' + 16비트 id
+ * 실수 (temperature, gravity, abv, esterScore, diacetylRisk):
+ *        XOR 가 0 -> '0', 직전 유효 비트 구간 안 -> '10' + 구간 비트, 그 외 '11' + 선행 0 개수(5) + 길이-1(6) + 비트
+ * </pre>
+ * 읽기는 데이터 버퍼를 복사하지 않으며, 재생은 행마다 SimulationSink 로 바로 넘기므로 중간 레코드를 만들지 않는다.
+ */
+public final class CompressedTimeline {
+
+    public static final int DEFAULT_BLOCK_ROWS = 256;
+    public static final int LOSSLESS_MANTISSA_BITS = 52;
+
+    private static final int VALUE_COLUMNS = 5;
+    private static final int MAX_DICTIONARY_ID = 0xFFFF;
+
+    private final int rows;
+    private final int blockRows;
+    private final List<String> phases;
+    private final List<List<String>> tagLists;
+    private final int[] blockFirstHours;
+    private final int[] blockOffsets;
+    private final ByteBuffer data;
+
+    private CompressedTimeline(int rows, int blockRows, List<String> phases, List<List<String>> tagLists,
+                               int[] blockFirstHours, int[] blockOffsets, ByteBuffer data) {
+        this.rows = rows;
+        this.blockRows = blockRows;
+        this.phases = phases;
+        this.tagLists = tagLists;
+        this.blockFirstHours = blockFirstHours;
+        this.blockOffsets = blockOffsets;
+        this.data = data;
+    }
+
+    /** 무손실 압축기 */
+    public static Encoder encoder() {
+        return new Encoder(DEFAULT_BLOCK_ROWS, LOSSLESS_MANTISSA_BITS);
+    }
+
+    /**
+     * @param blockRows 블록당 행 수 (작을수록 구간 재생이 빠르고 압축률은 조금 떨어짐)
+     */
+    public static Encoder encoder(int blockRows) {
+        return encoder(blockRows, LOSSLESS_MANTISSA_BITS);
+    }
+
+    /**
+     * 정밀도를 줄여 압축률을 높이는 압축기
+     * 비중/ABV 처럼 계산으로 나온 값은 가수 하위 비트가 사실상 무작위라 XOR 로 거의 줄지 않으므로,
+     * 가수를 mantissaBits 비트만 남기고 버린다. (상대 오차 2^-mantissaBits 미만, 20비트면 비중 기준 약 1e-6)
+     * @param mantissaBits 남길 가수 비트 수 (1 ~ 52, 52 면 무손실)
+     */
+    public static Encoder encoder(int blockRows, int mantissaBits) {
+        if (blockRows < 1) {
+            throw new IllegalArgumentException("블록 행 수는 1 이상이어야 합니다: " + blockRows);
+        }
+        if (mantissaBits < 1 || mantissaBits > LOSSLESS_MANTISSA_BITS) {
+            throw new IllegalArgumentException("가수 비트 수는 1 ~ 52 사이여야 합니다: " + mantissaBits);
+        }
+        return new Encoder(blockRows, mantissaBits);
+    }
+
+    public static CompressedTimeline of(SimulationTimeline timeline) {
+        Encoder encoder = encoder();
+        for (int row = 0; row < timeline.size(); row++) {
+            encoder.accept(timeline.hourAt(row), timeline.temperatureAt(row), timeline.gravityAt(row),
+                    timeline.abvAt(row), timeline.phaseAt(row), timeline.flavorTagsAt(row),
+                    timeline.esterScoreAt(row), timeline.diacetylRiskAt(row));
+        }
+        return encoder.finish();
+    }
+
+    public static CompressedTimeline decode(ByteBuffer buffer) {
+        BinaryFormat.Reader in = BinaryFormat.readHeader(buffer, BinaryFormat.KIND_SERIES);
+        int rows = in.getVarInt();
+        int blockRows = in.getVarInt();
+        if (blockRows < 1) {
+            throw new IllegalArgumentException("블록 행 수가 잘못되었습니다: " + blockRows);
+        }
+
+        String[] phases = new String[in.getVarInt()];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = in.getString();
+        }
+        List<List<String>> tagLists = TimelineCodec.readTagLists(in);
+
+        int blocks = in.getVarInt();
+        if (blocks != (rows + blockRows - 1) / blockRows) {
+            throw new IllegalArgumentException("블록 수가 행 수와 맞지 않습니다: " + blocks + " (rows=" + rows + ")");
+        }
+        int[] firstHours = new int[blocks];
+        int[] offsets = new int[blocks];
+        for (int b = 0; b < blocks; b++) {
+            firstHours[b] = in.getSignedVarInt();
+            offsets[b] = in.getVarInt();
+        }
+        ByteBuffer data = in.slice(in.getVarInt());
+        return new CompressedTimeline(rows, blockRows, List.of(phases), List.copyOf(tagLists), firstHours, offsets, data);
+    }
+
+    public byte[] toByteArray() {
+        BinaryFormat.Writer out = new BinaryFormat.Writer(64 + data.limit() + blockOffsets.length * 6);
+        BinaryFormat.writeHeader(out, BinaryFormat.KIND_SERIES);
+        out.putVarInt(rows);
+        out.putVarInt(blockRows);
+        out.putVarInt(phases.size());
+        for (String phase : phases) {
+            out.putString(phase);
+        }
+        TimelineCodec.writeTagLists(out, tagLists);
+        out.putVarInt(blockOffsets.length);
+        for (int b = 0; b < blockOffsets.length; b++) {
+            out.putSignedVarInt(blockFirstHours[b]);
+            out.putVarInt(blockOffsets[b]);
+        }
+        byte[] bytes = new byte[data.limit()];
+        data.get(0, bytes);
+        out.putVarInt(bytes.length);
+        out.putBytes(bytes);
+        return out.toByteArray();
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public int blockCount() {
+        return blockOffsets.length;
+    }
+
+    /** 압축된 비트열 크기 (바이트, 사전/색인 제외) */
+    public int dataBytes() {
+        return data.limit();
+    }
+
+    /** 전체 행을 순서대로 sink 에 전달 */
+    public void replay(SimulationSink sink) {
+        decodeBlocks(0, Integer.MIN_VALUE, Integer.MAX_VALUE, sink);
+    }
+
+    /** fromHour 이상 toHour 이하 행만 전달 (블록 색인으로 시작 블록을 찾음) */
+    public void replay(int fromHour, int toHour, SimulationSink sink) {
+        if (fromHour > toHour) {
+            throw new IllegalArgumentException("시간 구간이 잘못되었습니다: " + fromHour + " ~ " + toHour);
+        }
+        // 첫 시간이 fromHour 보다 작은 마지막 블록 (같은 시간이 블록 경계를 넘을 수 있으므로 미만으로 찾음)
+        int lo = 0;
+        int hi = blockFirstHours.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (blockFirstHours[mid] < fromHour) lo = mid + 1;
+            else hi = mid;
+        }
+        decodeBlocks(Math.max(0, lo - 1), fromHour, toHour, sink);
+    }
+
+    public SimulationTimeline toTimeline() {
+        SimulationTimeline.Builder builder = SimulationTimeline.builder(rows);
+        replay(builder);
+        return builder.build();
+    }
+
+    private void decodeBlocks(int firstBlock, int fromHour, int toHour, SimulationSink sink) {
+        double[] values = new double[VALUE_COLUMNS];
+        ValueState[] states = newStates();
+        for (int block = firstBlock; block < blockOffsets.length; block++) {
+            BitReader in = new BitReader(data, blockOffsets[block]);
+            int blockEnd = Math.min(rows, (block + 1) * blockRows);
+            int hour = 0;
+            long delta = 0;
+            int phase = -1;
+            int tags = -1;
+            for (int row = block * blockRows; row < blockEnd; row++) {
+                boolean first = (row == block * blockRows);
+                if (first) {
+                    hour = (int) in.read(32);
+                } else {
+                    delta += readDeltaOfDelta(in);
+                    hour = (int) (hour + delta);
+                }
+                if (in.readBit()) phase = checkId((int) in.read(16), phases.size(), "페이즈");
+                if (in.readBit()) tags = checkId((int) in.read(16), tagLists.size(), "태그 목록");
+                if (phase < 0 || tags < 0) {
+                    throw new IllegalArgumentException("압축 데이터가 손상되었습니다 (블록 첫 행에 사전 id 없음)");
+                }
+                for (int c = 0; c < VALUE_COLUMNS; c++) {
+                    values[c] = readValue(in, states[c], first);
+                }
+                if (hour > toHour) return;
+                if (hour >= fromHour) {
+                    sink.accept(hour, values[0], values[1], values[2], phases.get(phase), tagLists.get(tags),
+                            values[3], values[4]);
+                }
+            }
+        }
+    }
+
+    private static int checkId(int id, int size, String name) {
+        if (id >= size) {
+            throw new IllegalArgumentException(name + " id 가 사전 범위를 벗어났습니다: " + id);
+        }
+        return id;
+    }
+
+    private static ValueState[] newStates() {
+        ValueState[] states = new ValueState[VALUE_COLUMNS];
+        for (int c = 0; c < VALUE_COLUMNS; c++) {
+            states[c] = new ValueState();
+        }
+        return states;
+    }
+
+    private static void writeDeltaOfDelta(BitWriter out, long deltaOfDelta) {
+        long zigzag = (deltaOfDelta << 1) ^ (deltaOfDelta >> 63);
+        if (zigzag == 0) {
+            out.write(0b0, 1);
+        } else if (zigzag < (1 << 7)) {
+            out.write(0b10, 2);
+            out.write(zigzag, 7);
+        } else if (zigzag < (1 << 9)) {
+            out.write(0b110, 3);
+            out.write(zigzag, 9);
+        } else if (zigzag < (1 << 12)) {
+            out.write(0b1110, 4);
+            out.write(zigzag, 12);
+        } else {
+            out.write(0b1111, 4);
+            out.write(zigzag, 64);
+        }
+    }
+
+    private static long readDeltaOfDelta(BitReader in) {
+        long zigzag;
+        if (!in.readBit()) return 0;
+        if (!in.readBit()) zigzag = in.read(7);
+        else if (!in.readBit()) zigzag = in.read(9);
+        else if (!in.readBit()) zigzag = in.read(12);
+        else zigzag = in.read(64);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static void writeValue(BitWriter out, ValueState state, double value, boolean first) {
+        long bits = Double.doubleToRawLongBits(value);
+        if (first) {
+            out.write(bits, 64);
+            state.previous = bits;
+            state.leading = -1;
+            return;
+        }
+        long xor = bits ^ state.previous;
+        state.previous = bits;
+        if (xor == 0) {
+            out.writeBit(false);
+            return;
+        }
+        out.writeBit(true);
+        int leading = Math.min(31, Long.numberOfLeadingZeros(xor));
+        int trailing = Long.numberOfTrailingZeros(xor);
+        if (state.leading >= 0 && leading >= state.leading && trailing >= state.trailing) {
+            // 직전 유효 비트 구간 안에 들어가면 구간 정보 없이 비트만 기록
+            out.writeBit(false);
+            out.write(xor >>> state.trailing, 64 - state.leading - state.trailing);
+        } else {
+            int length = 64 - leading - trailing;
+            out.writeBit(true);
+            out.write(leading, 5);
+            out.write(length - 1, 6);
+            out.write(xor >>> trailing, length);
+            state.leading = leading;
+            state.trailing = trailing;
+        }
+    }
+
+    private static double readValue(BitReader in, ValueState state, boolean first) {
+        if (first) {
+            state.previous = in.read(64);
+            state.leading = -1;
+        } else if (in.readBit()) {
+            long xor;
+            if (!in.readBit()) {
+                if (state.leading < 0) {
+                    throw new IllegalArgumentException("압축 데이터가 손상되었습니다 (유효 비트 구간 없음)");
+                }
+                xor = in.read(64 - state.leading - state.trailing) << state.trailing;
+            } else {
+                int leading = (int) in.read(5);
+                int length = (int) in.read(6) + 1;
+                if (leading + length > 64) {
+                    throw new IllegalArgumentException("압축 데이터가 손상되었습니다 (비트 구간 " + leading + "+" + length + ")");
+                }
+                state.leading = leading;
+                state.trailing = 64 - leading - length;
+                xor = in.read(length) << state.trailing;
+            }
+            state.previous ^= xor;
+        }
+        return Double.longBitsToDouble(state.previous);
+    }
+
+    /** 열 하나의 XOR 부호화 상태 */
+    private static final class ValueState {
+        long previous;
+        // 직전 유효 비트 구간 (-1 이면 아직 없음)
+        int leading = -1;
+        int trailing;
+    }
+
+    /**
+     * 시뮬레이터 출력을 바로 압축하는 SimulationSink
+     * 사전은 첫 등장 순서로 만들고, finish 때 사전/색인과 비트열을 묶는다. 스레드 안전하지 않음 (시뮬레이션 1회당 1개 사용)
+     */
+    public static final class Encoder implements SimulationSink {
+        private final int blockRows;
+        // 버릴 가수 하위 비트를 지우는 마스크 (무손실이면 -1)
+        private final long mantissaMask;
+        private final BitWriter out = new BitWriter(4096);
+        private final ValueState[] states = newStates();
+
+        private int rows;
+        private int[] blockFirstHours = new int[16];
+        private int[] blockOffsets = new int[16];
+        private int blocks;
+
+        private int hour;
+        private long delta;
+        private int phase;
+        private int tags;
+
+        private final List<String> phases = new ArrayList<>();
+        private final Map<String, Integer> phaseIds = new HashMap<>();
+        private final List<List<String>> tagLists = new ArrayList<>();
+        private final Map<List<String>, Integer> tagListIds = new HashMap<>();
+        // 같은 인스턴스가 반복 전달되므로 직전 값은 동일성 비교로 처리
+        private String lastPhase;
+        private List<String> lastTags;
+        private boolean finished;
+
+        private Encoder(int blockRows, int mantissaBits) {
+            this.blockRows = blockRows;
+            this.mantissaMask = -1L << (LOSSLESS_MANTISSA_BITS - mantissaBits);
+        }
+
+        @Override
+        public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                           List<String> flavorTags, double esterScore, double diacetylRisk) {
+            if (finished) {
+                throw new IllegalStateException("이미 완료된 압축기입니다");
+            }
+            boolean first = (rows % blockRows == 0);
+            if (first) {
+                startBlock(hour);
+                out.write(hour, 32);
+                this.delta = 0;
+            } else {
+                if (hour < this.hour) {
+                    throw new IllegalArgumentException("기록 시간이 거꾸로 갑니다: " + this.hour + " -> " + hour);
+                }
+                long newDelta = (long) hour - this.hour;
+                writeDeltaOfDelta(out, newDelta - this.delta);
+                this.delta = newDelta;
+            }
+            this.hour = hour;
+
+            int phaseId = phaseId(phase);
+            writeId(phaseId, this.phase, first);
+            this.phase = phaseId;
+            int tagId = tagListId(flavorTags);
+            writeId(tagId, this.tags, first);
+            this.tags = tagId;
+
+            writeValue(out, states[0], reduce(temperature), first);
+            writeValue(out, states[1], reduce(gravity), first);
+            writeValue(out, states[2], reduce(abv), first);
+            writeValue(out, states[3], reduce(esterScore), first);
+            writeValue(out, states[4], reduce(diacetylRisk), first);
+            rows++;
+        }
+
+        public CompressedTimeline finish() {
+            if (finished) {
+                throw new IllegalStateException("이미 완료된 압축기입니다");
+            }
+            finished = true;
+            byte[] bytes = out.toByteArray();
+            return new CompressedTimeline(rows, blockRows, List.copyOf(phases), List.copyOf(tagLists),
+                    Arrays.copyOf(blockFirstHours, blocks), Arrays.copyOf(blockOffsets, blocks), ByteBuffer.wrap(bytes));
+        }
+
+        /** 유한한 정규 값만 가수를 자름 (NaN/무한대와 비정규 값은 잘라내면 상대 오차가 커지므로 그대로) */
+        private double reduce(double value) {
+            if (mantissaMask == -1L || !Double.isFinite(value) || Math.abs(value) < Double.MIN_NORMAL) return value;
+            return Double.longBitsToDouble(Double.doubleToRawLongBits(value) & mantissaMask);
+        }
+
+        private void startBlock(int hour) {
+            if (blocks > 0 && hour < this.hour) {
+                throw new IllegalArgumentException("기록 시간이 거꾸로 갑니다: " + this.hour + " -> " + hour);
+            }
+            if (blocks == blockOffsets.length) {
+                blockFirstHours = Arrays.copyOf(blockFirstHours, blocks * 2);
+                blockOffsets = Arrays.copyOf(blockOffsets, blocks * 2);
+            }
+            blockFirstHours[blocks] = hour;
+            blockOffsets[blocks] = out.alignToByte();
+            blocks++;
+        }
+
+        private void writeId(int id, int previous, boolean first) {
+            if (!first && id == previous) {
+                out.writeBit(false);
+            } else {
+                out.writeBit(true);
+                out.write(id, 16);
+            }
+        }
+
+        private int phaseId(String phase) {
+            if (phase == lastPhase && rows > 0) return this.phase;
+            Integer id = phaseIds.get(phase);
+            if (id == null) {
+                id = newId(phases.size(), "페이즈");
+                phases.add(phase);
+                phaseIds.put(phase, id);
+            }
+            lastPhase = phase;
+            return id;
+        }
+
+        private int tagListId(List<String> tags) {
+            if (tags == lastTags && rows > 0) return this.tags;
+            Integer id = tagListIds.get(tags);
+            if (id == null) {
+                // FlavorTagSet 은 변경 불가이므로 그대로 보관
+                List<String> copy = (tags instanceof FlavorTagSet) ? tags : List.copyOf(tags);
+                id = newId(tagLists.size(), "태그 목록");
+                tagLists.add(copy);
+                tagListIds.put(copy, id);
+            }
+            lastTags = tags;
+            return id;
+        }
+
+        private static int newId(int id, String name) {
+            if (id > MAX_DICTIONARY_ID) {
+                throw new IllegalArgumentException(name + " 종류가 너무 많습니다 (최대 " + (MAX_DICTIONARY_ID + 1) + ")");
+            }
+            return id;
+        }
+    }
+}
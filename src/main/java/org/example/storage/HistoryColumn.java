@@ -0,0 +1,26 @@
+package org.example.storage;
+
+/**
+ * 이력 저장소에 보관하는 시간별 값
+ * 기록 안의 컬럼 위치는 선언 순서가 아니라 code 로 정해진다 (0부터 빈틈 없이, 바꾸면 기존 저장소를 읽을 수 없음).
+ */
+public enum HistoryColumn {
+    TEMPERATURE(0), GRAVITY(1), ABV(2), DIACETYL_RISK(3);
+
+    private final int code;
+
+    HistoryColumn(int code) {
+        this.code = code;
+    }
+
+    int code() {
+        return code;
+    }
+
+    static HistoryColumn fromCode(int code) {
+        for (HistoryColumn column : values()) {
+            if (column.code == code) return column;
+        }
+        throw new IllegalArgumentException("알 수 없는 이력 컬럼입니다: " + code);
+    }
+}
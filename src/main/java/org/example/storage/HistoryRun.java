@@ -0,0 +1,113 @@
+package org.example.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이력 저장소의 실행 하나 (매핑된 세그먼트 위의 읽기 전용 뷰)
+ * 값은 읽는 시점에 버퍼에서 꺼내므로, 시간 구간 조회는 hour 컬럼 이진 탐색과 해당 구간 값이 있는 페이지만 건드린다.
+ * 절대 위치 읽기만 하므로 여러 스레드에서 공유해도 안전하다.
+ *
+ * <pre>
+ * 기록 형식 (리틀 엔디언, 8바이트 정렬)
+ * rows(int) batchId 길이(u16) 예약(u16) batchId(UTF-8, 4바이트 정렬)
+ * hours int[rows] (8바이트 정렬)
+ * HistoryColumn code 순서로 컬럼마다 double[rows] (temperature, gravity, abv, diacetylRisk)
+ * </pre>
+ */
+public final class HistoryRun {
+
+    private final int runNumber;
+    private final String label;
+    private final ByteBuffer record;
+    private final int rows;
+    private final int hoursOffset;
+    private final int valuesOffset;
+
+    HistoryRun(int runNumber, String label, ByteBuffer record) {
+        this.runNumber = runNumber;
+        this.label = label;
+        this.record = record;
+        this.rows = record.getInt(0);
+        this.hoursOffset = align(8 + (record.getShort(4) & 0xFFFF), 4);
+        this.valuesOffset = align(hoursOffset + rows * 4, 8);
+    }
+
+    static int align(int offset, int alignment) {
+        return (offset + alignment - 1) & -alignment;
+    }
+
+    /** rows 행, batchId UTF-8 길이 idLength 인 기록의 크기 */
+    static int recordLength(int idLength, int rows) {
+        int hoursOffset = align(8 + idLength, 4);
+        return align(hoursOffset + rows * 4, 8) + rows * 8 * HistoryColumn.values().length;
+    }
+
+    public int runNumber() {
+        return runNumber;
+    }
+
+    public String batchId() {
+        byte[] bytes = new byte[record.getShort(4) & 0xFFFF];
+        record.get(8, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int hourAt(int row) {
+        return record.getInt(hoursOffset + checkRow(row) * 4);
+    }
+
+    public double valueAt(HistoryColumn column, int row) {
+        return record.getDouble(columnOffset(column) + checkRow(row) * 8);
+    }
+
+    /** hour 이상인 첫 행 (없으면 rows) */
+    public int firstRowAtOrAfter(int hour) {
+        int lo = 0;
+        int hi = rows;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (record.getInt(hoursOffset + mid * 4) < hour) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** fromHour 이상 toHour 이하 구간의 값 */
+    public HistorySeries read(HistoryColumn column, int fromHour, int toHour) {
+        if (fromHour > toHour) {
+            throw new IllegalArgumentException("시간 구간이 잘못되었습니다: " + fromHour + " ~ " + toHour);
+        }
+        int from = firstRowAtOrAfter(fromHour);
+        int to = (toHour == Integer.MAX_VALUE) ? rows : firstRowAtOrAfter(toHour + 1);
+        int[] hours = new int[to - from];
+        double[] values = new double[to - from];
+        record.slice(hoursOffset + from * 4, hours.length * 4).order(record.order()).asIntBuffer().get(hours);
+        record.slice(columnOffset(column) + from * 8, values.length * 8).order(record.order()).asDoubleBuffer().get(values);
+        return new HistorySeries(runNumber, batchId(), column, hours, values);
+    }
+
+    private int columnOffset(HistoryColumn column) {
+        return valuesOffset + column.code() * rows * 8;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("행 범위를 벗어났습니다: " + row + " (rows=" + rows + ")");
+        }
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return "HistoryRun[runNumber=" + runNumber + ", batchId=" + batchId() + ", label=" + label + ", rows=" + rows + "]";
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.storage;
+
+/**
+ * 이력 조회 결과 (실행 하나의 시간 구간 값)
+ * @param runNumber 저장소 안 실행 번호 (추가 순서)
+ * @param hours 기록 시간 (오름차순, 같은 시간이 여러 번 나올 수 있음)
+ * @param values hours 와 같은 위치의 값
+ */
+public record HistorySeries(int runNumber, String batchId, HistoryColumn column, int[] hours, double[] values) {
+
+    public int size() {
+        return hours.length;
+    }
+}
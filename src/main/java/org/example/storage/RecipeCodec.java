@@ -0,0 +1,219 @@
+package org.example.storage;
+
+import org.example.domain.Grain;
+import org.example.domain.GrainItem;
+import org.example.domain.Hop;
+import org.example.domain.HopItem;
+import org.example.domain.Recipe;
+import org.example.domain.Yeast;
+import org.example.domain.YeastItem;
+import org.example.domain.enums.GrainCategory;
+import org.example.domain.enums.GrainTrait;
+import org.example.domain.enums.YeastForm;
+import org.example.domain.enums.YeastType;
+import org.example.repository.GrainRepository;
+import org.example.repository.HopRepository;
+import org.example.repository.YeastRepository;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레시피 직렬화
+ * <pre>
+ * batchSizeLiters(double) efficiency(double)
+ * 몰트: 개수 + (재료, weightKg double)...
+ * 홉: 개수 + (재료, amountGrams double, boilTimeMinutes zigzag)...
+ * 효모: 있음 여부(byte) + (재료, amount double, 플래그 byte, timesCultured zigzag, ageInMonths zigzag)
+ * 재료: 0 = 카탈로그 키(문자열) / 1 = 값 전체
+ * </pre>
+ * 저장소를 넘기면 카탈로그에 같은 값으로 있는 재료는 키만 기록하고, 없는 재료(직접 만든 재료, 값이 바뀐 재료)만 값 전체를 기록한다.
+ * 키로 기록된 재료는 읽을 때 그 시점의 카탈로그 값으로 복원된다.
+ * 읽은 레시피는 동결(freeze) 상태로 반환한다.
+ */
+public final class RecipeCodec {
+
+    private static final int REF_CATALOG = 0;
+    private static final int REF_INLINE = 1;
+
+    private static final int YEAST_AMOUNT_IS_WEIGHT = 1;
+    private static final int YEAST_ADD_TO_SECONDARY = 1 << 1;
+
+    // 모두 null 이면 재료 값을 항상 직접 기록
+    private final GrainRepository grains;
+    private final HopRepository hops;
+    private final YeastRepository yeasts;
+
+    /** 카탈로그 없이 재료 값을 모두 기록 */
+    public RecipeCodec() {
+        this.grains = null;
+        this.hops = null;
+        this.yeasts = null;
+    }
+
+    public RecipeCodec(GrainRepository grains, HopRepository hops, YeastRepository yeasts) {
+        if (grains == null || hops == null || yeasts == null) {
+            throw new IllegalArgumentException("몰트/홉/효모 저장소가 모두 필요합니다");
+        }
+        this.grains = grains;
+        this.hops = hops;
+        this.yeasts = yeasts;
+    }
+
+    public byte[] encode(Recipe recipe) {
+        BinaryFormat.Writer out = new BinaryFormat.Writer(256);
+        BinaryFormat.writeHeader(out, BinaryFormat.KIND_RECIPE);
+        write(out, recipe);
+        return out.toByteArray();
+    }
+
+    public Recipe decode(ByteBuffer buffer) {
+        return read(BinaryFormat.readHeader(buffer, BinaryFormat.KIND_RECIPE));
+    }
+
+    void write(BinaryFormat.Writer out, Recipe recipe) {
+        out.putDouble(recipe.getBatchSizeLiters());
+        out.putDouble(recipe.getEfficiency());
+
+        out.putVarInt(recipe.getGrainItems().size());
+        for (GrainItem item : recipe.getGrainItems()) {
+            writeGrain(out, item.grain());
+            out.putDouble(item.weightKg());
+        }
+
+        out.putVarInt(recipe.getHopItems().size());
+        for (HopItem item : recipe.getHopItems()) {
+            writeHop(out, item.hop());
+            out.putDouble(item.amountGrams());
+            out.putSignedVarInt(item.boilTimeMinutes());
+        }
+
+        YeastItem yeastItem = recipe.getYeastItem();
+        out.putByte(yeastItem == null ? 0 : 1);
+        if (yeastItem != null) {
+            writeYeast(out, yeastItem.yeast());
+            out.putDouble(yeastItem.amount());
+            out.putByte((yeastItem.amountIsWeight() ? YEAST_AMOUNT_IS_WEIGHT : 0)
+                    | (yeastItem.addToSecondary() ? YEAST_ADD_TO_SECONDARY : 0));
+            out.putSignedVarInt(yeastItem.timesCultured());
+            out.putSignedVarInt(yeastItem.ageInMonths());
+        }
+    }
+
+    Recipe read(BinaryFormat.Reader in) {
+        Recipe recipe = new Recipe(in.getDouble(), in.getDouble());
+
+        int grainCount = in.getVarInt();
+        for (int i = 0; i < grainCount; i++) {
+            recipe.addMalt(readGrain(in), in.getDouble());
+        }
+
+        int hopCount = in.getVarInt();
+        for (int i = 0; i < hopCount; i++) {
+            recipe.addHop(readHop(in), in.getDouble(), in.getSignedVarInt());
+        }
+
+        if (in.getByte() != 0) {
+            Yeast yeast = readYeast(in);
+            double amount = in.getDouble();
+            int flags = in.getByte();
+            recipe.setYeastItem(new YeastItem(yeast, amount, (flags & YEAST_AMOUNT_IS_WEIGHT) != 0,
+                    in.getSignedVarInt(), in.getSignedVarInt(), (flags & YEAST_ADD_TO_SECONDARY) != 0));
+        }
+        return recipe.freeze();
+    }
+
+    private void writeGrain(BinaryFormat.Writer out, Grain grain) {
+        String key = (grains == null) ? null : grains.keyOf(grain);
+        if (key != null) {
+            out.putByte(REF_CATALOG);
+            out.putString(key);
+            return;
+        }
+        out.putByte(REF_INLINE);
+        out.putString(grain.name());
+        out.putDouble(grain.potential());
+        out.putDouble(grain.lovibond());
+        out.putByte(grain.category().code());
+        out.putByte(GrainTrait.mask(grain.traits()));
+    }
+
+    private Grain readGrain(BinaryFormat.Reader in) {
+        if (readRef(in) == REF_CATALOG) {
+            return catalog(grains).findByName(in.getString());
+        }
+        return new Grain(in.getString(), in.getDouble(), in.getDouble(), GrainCategory.fromCode(in.getByte()),
+                GrainTrait.fromMask(in.getByte()));
+    }
+
+    private void writeHop(BinaryFormat.Writer out, Hop hop) {
+        String key = (hops == null) ? null : hops.keyOf(hop);
+        if (key != null) {
+            out.putByte(REF_CATALOG);
+            out.putString(key);
+            return;
+        }
+        out.putByte(REF_INLINE);
+        out.putString(hop.name());
+        out.putDouble(hop.alphaAcid());
+        out.putVarInt(hop.flavorTags().size());
+        for (String tag : hop.flavorTags()) {
+            out.putString(tag);
+        }
+    }
+
+    private Hop readHop(BinaryFormat.Reader in) {
+        if (readRef(in) == REF_CATALOG) {
+            return catalog(hops).findByName(in.getString());
+        }
+        String name = in.getString();
+        double alphaAcid = in.getDouble();
+        int tagCount = in.getVarInt();
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(in.getString());
+        }
+        return new Hop(name, alphaAcid, tags);
+    }
+
+    private void writeYeast(BinaryFormat.Writer out, Yeast yeast) {
+        String key = (yeasts == null) ? null : yeasts.keyOf(yeast);
+        if (key != null) {
+            out.putByte(REF_CATALOG);
+            out.putString(key);
+            return;
+        }
+        out.putByte(REF_INLINE);
+        out.putString(yeast.name());
+        out.putDouble(yeast.attenuation());
+        out.putByte(yeast.type().code());
+        out.putByte(yeast.form().code());
+        out.putDouble(yeast.minTemp());
+        out.putDouble(yeast.maxTemp());
+        out.putDouble(yeast.sensitivityFactor());
+    }
+
+    private Yeast readYeast(BinaryFormat.Reader in) {
+        if (readRef(in) == REF_CATALOG) {
+            return catalog(yeasts).findByName(in.getString());
+        }
+        return new Yeast(in.getString(), in.getDouble(), YeastType.fromCode(in.getByte()),
+                YeastForm.fromCode(in.getByte()), in.getDouble(), in.getDouble(), in.getDouble());
+    }
+
+    private static int readRef(BinaryFormat.Reader in) {
+        int ref = in.getByte();
+        if (ref != REF_CATALOG && ref != REF_INLINE) {
+            throw new IllegalArgumentException("알 수 없는 재료 참조 방식입니다: " + ref);
+        }
+        return ref;
+    }
+
+    private static <R> R catalog(R repository) {
+        if (repository == null) {
+            throw new IllegalArgumentException("카탈로그 키로 기록된 재료입니다. 저장소를 지정한 RecipeCodec 으로 읽어야 합니다");
+        }
+        return repository;
+    }
+}
@@ -0,0 +1,479 @@
+package org.example.storage;
+
+import org.example.simulation.SimulationSink;
+import org.example.simulation.SimulationTimeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추가 전용(append-only) 시뮬레이션 이력 저장소
+ * 완료된 실행의 시간별 온도/비중/ABV/디아세틸 값을 고정 크기 세그먼트 파일에 이어 붙이고, 읽을 때는 매핑된 세그먼트를 그대로 본다.
+ * 실행 데이터는 힙에 올리지 않으며, 힙에는 배치 id 해시 표와 라벨별 실행 번호 목록(실행당 수십 바이트)만 둔다.
+ *
+ * <pre>
+ * 디렉터리 구성
+ * runs.idx          헤더 16바이트(magic, version, runCount, segmentBytes) + 실행당 32바이트 항목
+ *                   (batchId 해시 long, 세그먼트 내 위치 long, 세그먼트 번호 int, 라벨 번호 int, rows int, 기록 길이 int)
+ * labels.txt        라벨 번호 순 한 줄에 하나 (UTF-8)
+ * segment-NNNNN.dat 실행 기록 (HistoryRun 형식)을 이어 붙인 파일
+ * </pre>
+ * 추가는 세그먼트 기록 -> 색인 항목 -> 헤더 runCount 순으로 쓰므로, 중간에 멈춰도 다시 열면 마지막 완료된 실행까지 보인다.
+ * 한 프로세스에서 하나의 인스턴스로 여는 것을 전제로 하며, 추가는 직렬화되고 조회는 여러 스레드에서 동시에 해도 된다.
+ */
+public final class SimulationHistoryStore implements AutoCloseable {
+
+    /** 기본 세그먼트 크기 (64MB) */
+    public static final int DEFAULT_SEGMENT_BYTES = 64 << 20;
+
+    private static final int INDEX_MAGIC = 0x49485242; // "BRHI"
+    private static final short INDEX_VERSION = 1;
+    private static final int INDEX_HEADER = 16;
+    private static final int INDEX_ENTRY = 32;
+    private static final int INDEX_RUN_COUNT = 8;
+    private static final int INDEX_SEGMENT_BYTES = 12;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final FileChannel indexChannel;
+    private MappedByteBuffer index;
+
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private int activeSegment;
+    private long writeOffset;
+
+    private int runCount;
+    private final List<String> labels = new ArrayList<>();
+    private final Map<String, Integer> labelIds = new HashMap<>();
+    private final List<RunList> labelRuns = new ArrayList<>();
+    private final IdTable idTable = new IdTable();
+    private boolean closed;
+
+    private SimulationHistoryStore(Path directory, int segmentBytes) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+
+        Path labelsFile = directory.resolve("labels.txt");
+        if (Files.exists(labelsFile)) {
+            for (String label : Files.readAllLines(labelsFile, StandardCharsets.UTF_8)) {
+                registerLabel(label);
+            }
+        }
+
+        Path indexFile = directory.resolve("runs.idx");
+        boolean created = !Files.exists(indexFile);
+        this.indexChannel = FileChannel.open(indexFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (created) {
+            mapIndex(INDEX_HEADER + 1024 * INDEX_ENTRY);
+            index.putInt(0, INDEX_MAGIC);
+            index.putShort(4, INDEX_VERSION);
+            index.putInt(INDEX_RUN_COUNT, 0);
+            index.putInt(INDEX_SEGMENT_BYTES, segmentBytes);
+            this.segmentBytes = segmentBytes;
+        } else {
+            mapIndex(Math.max(indexChannel.size(), INDEX_HEADER));
+            if (index.getInt(0) != INDEX_MAGIC || index.getShort(4) != INDEX_VERSION) {
+                throw new IllegalArgumentException("이력 저장소 색인이 아닙니다: " + indexFile);
+            }
+            // 이미 있는 저장소는 만들 때의 세그먼트 크기를 그대로 사용
+            this.segmentBytes = index.getInt(INDEX_SEGMENT_BYTES);
+        }
+        loadIndex();
+    }
+
+    public static SimulationHistoryStore open(Path directory) {
+        return open(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * @param segmentBytes 새로 만들 때의 세그먼트 파일 크기 (실행 하나의 기록은 세그먼트 하나에 들어가야 함)
+     */
+    public static SimulationHistoryStore open(Path directory, int segmentBytes) {
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("세그먼트 크기는 4KB 이상이어야 합니다: " + segmentBytes);
+        }
+        try {
+            return new SimulationHistoryStore(directory, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이력 저장소를 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        int stored = index.getInt(INDEX_RUN_COUNT);
+        if (segmentBytes < 4096 || stored < 0 || INDEX_HEADER + (long) stored * INDEX_ENTRY > index.capacity()) {
+            throw new IllegalArgumentException("이력 저장소 색인이 손상되었습니다: runCount=" + stored + ", segmentBytes=" + segmentBytes);
+        }
+        for (int run = 0; run < stored; run++) {
+            int entry = INDEX_HEADER + run * INDEX_ENTRY;
+            int label = index.getInt(entry + 20);
+            if (label < 0 || label >= labels.size()) {
+                throw new IllegalArgumentException("이력 저장소 라벨 번호가 잘못되었습니다: " + label + " (실행 " + run + ")");
+            }
+            idTable.put(index.getLong(entry), run);
+            labelRuns.get(label).add(run);
+            activeSegment = index.getInt(entry + 16);
+            writeOffset = index.getLong(entry + 8) + index.getInt(entry + 28);
+        }
+        runCount = stored;
+    }
+
+    /**
+     * 완료된 타임라인 추가
+     * @param label 조회용 분류 (예: 스타일 "IPA"), null 이면 빈 라벨
+     * @return 실행 번호
+     */
+    public int append(String batchId, String label, SimulationTimeline timeline) {
+        Recorder recorder = recorder(batchId, label);
+        for (int row = 0; row < timeline.size(); row++) {
+            recorder.accept(timeline.hourAt(row), timeline.temperatureAt(row), timeline.gravityAt(row),
+                    timeline.abvAt(row), null, null, timeline.esterScoreAt(row), timeline.diacetylRiskAt(row));
+        }
+        return recorder.commit();
+    }
+
+    /**
+     * 시뮬레이터에 바로 연결하는 기록기 (시뮬레이션이 끝나면 commit 호출)
+     * <pre>
+     * Recorder recorder = store.recorder("B-0042", "IPA");
+     * simulator.simulate(recipe, schedule, events, 14, recorder);
+     * recorder.commit();
+     * </pre>
+     */
+    public Recorder recorder(String batchId, String label) {
+        if (batchId == null || batchId.isEmpty()) {
+            throw new IllegalArgumentException("배치 id 가 비어 있습니다");
+        }
+        if (batchId.getBytes(StandardCharsets.UTF_8).length > 0xFFFF) {
+            throw new IllegalArgumentException("배치 id 가 너무 깁니다: " + batchId.substring(0, 32) + "...");
+        }
+        String normalized = (label == null) ? "" : label;
+        if (normalized.indexOf('\n') >= 0 || normalized.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("라벨에 줄바꿈을 넣을 수 없습니다: " + label);
+        }
+        return new Recorder(batchId, normalized);
+    }
+
+    private synchronized int append(String batchId, String label, int rows, int[] hours, double[][] columns) {
+        checkOpen();
+        byte[] id = batchId.getBytes(StandardCharsets.UTF_8);
+        int length = HistoryRun.recordLength(id.length, rows);
+        if (length > segmentBytes) {
+            throw new IllegalArgumentException("실행 기록(" + length + "바이트)이 세그먼트 크기(" + segmentBytes + ")보다 큽니다: " + batchId);
+        }
+        try {
+            if (writeOffset + length > segmentBytes) {
+                activeSegment++;
+                writeOffset = 0;
+            }
+            ByteBuffer record = segment(activeSegment).slice((int) writeOffset, length).order(ByteOrder.LITTLE_ENDIAN);
+            record.putInt(0, rows);
+            record.putShort(4, (short) id.length);
+            record.put(8, id);
+            int hoursOffset = HistoryRun.align(8 + id.length, 4);
+            record.slice(hoursOffset, rows * 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(hours, 0, rows);
+            int valuesOffset = HistoryRun.align(hoursOffset + rows * 4, 8);
+            // columns 는 HistoryColumn code 순서
+            for (int code = 0; code < columns.length; code++) {
+                record.slice(valuesOffset + code * rows * 8, rows * 8).order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer().put(columns[code], 0, rows);
+            }
+
+            int labelId = labelId(label);
+            int run = runCount;
+            int entry = INDEX_HEADER + run * INDEX_ENTRY;
+            if (entry + INDEX_ENTRY > index.capacity()) {
+                mapIndex((long) index.capacity() * 2);
+            }
+            long idHash = hash(id);
+            index.putLong(entry, idHash);
+            index.putLong(entry + 8, writeOffset);
+            index.putInt(entry + 16, activeSegment);
+            index.putInt(entry + 20, labelId);
+            index.putInt(entry + 24, rows);
+            index.putInt(entry + 28, length);
+            index.putInt(INDEX_RUN_COUNT, run + 1);
+
+            writeOffset += length;
+            idTable.put(idHash, run);
+            labelRuns.get(labelId).add(run);
+            runCount = run + 1;
+            return run;
+        } catch (IOException e) {
+            throw new UncheckedIOException("이력을 기록할 수 없습니다: " + batchId, e);
+        }
+    }
+
+    public synchronized int runCount() {
+        return runCount;
+    }
+
+    public synchronized List<String> labels() {
+        return List.copyOf(labels);
+    }
+
+    public synchronized HistoryRun run(int runNumber) {
+        if (runNumber < 0 || runNumber >= runCount) {
+            throw new IndexOutOfBoundsException("실행 번호가 범위를 벗어났습니다: " + runNumber + " (runCount=" + runCount + ")");
+        }
+        int entry = INDEX_HEADER + runNumber * INDEX_ENTRY;
+        try {
+            ByteBuffer record = segment(index.getInt(entry + 16))
+                    .slice((int) index.getLong(entry + 8), index.getInt(entry + 28))
+                    .asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+            return new HistoryRun(runNumber, labels.get(index.getInt(entry + 20)), record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이력 세그먼트를 읽을 수 없습니다: " + runNumber, e);
+        }
+    }
+
+    /** 배치 id 로 가장 최근 실행 조회 (없으면 null) */
+    public synchronized HistoryRun latest(String batchId) {
+        byte[] id = batchId.getBytes(StandardCharsets.UTF_8);
+        // 해시가 같은 다른 id 일 수 있으므로 기록의 id 와 비교하며 이전 실행으로 거슬러 올라감
+        for (int run = idTable.get(hash(id)); run >= 0; run = idTable.previous(run)) {
+            HistoryRun candidate = run(run);
+            if (candidate.batchId().equals(batchId)) return candidate;
+        }
+        return null;
+    }
+
+    /** 라벨의 최근 실행 최대 limit 개 (최신 순) */
+    public synchronized List<HistoryRun> latestRuns(String label, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다: " + limit);
+        }
+        Integer labelId = labelIds.get(label == null ? "" : label);
+        if (labelId == null) return List.of();
+        RunList runs = labelRuns.get(labelId);
+        List<HistoryRun> latest = new ArrayList<>(Math.min(limit, runs.size));
+        for (int i = runs.size - 1; i >= 0 && latest.size() < limit; i--) {
+            latest.add(run(runs.runs[i]));
+        }
+        return latest;
+    }
+
+    /**
+     * 라벨의 최근 실행 limit 개에서 fromHour ~ toHour (양 끝 포함) 구간 값 조회 (최신 순)
+     * 예: query("IPA", 500, HistoryColumn.GRAVITY, 72, 240)
+     */
+    public List<HistorySeries> query(String label, int limit, HistoryColumn column, int fromHour, int toHour) {
+        List<HistoryRun> runs = latestRuns(label, limit);
+        List<HistorySeries> series = new ArrayList<>(runs.size());
+        for (HistoryRun run : runs) {
+            series.add(run.read(column, fromHour, toHour));
+        }
+        return series;
+    }
+
+    /** 매핑된 변경 내용을 디스크에 강제로 기록 */
+    public synchronized void flush() {
+        checkOpen();
+        for (MappedByteBuffer segment : segments) {
+            if (segment != null) segment.force();
+        }
+        index.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        flush();
+        closed = true;
+        try {
+            indexChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이력 저장소를 닫을 수 없습니다: " + directory, e);
+        }
+        // 매핑은 더 이상 참조되지 않으면 GC 가 해제한다 (이미 꺼낸 HistoryRun 은 계속 읽을 수 있음)
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("닫힌 이력 저장소입니다: " + directory);
+        }
+    }
+
+    private void mapIndex(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("이력 색인이 2GB 를 넘었습니다: " + directory);
+        }
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        index.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private MappedByteBuffer segment(int number) throws IOException {
+        while (segments.size() <= number) segments.add(null);
+        MappedByteBuffer segment = segments.get(number);
+        if (segment == null) {
+            Path file = directory.resolve(String.format("segment-%05d.dat", number));
+            // 쓰기 모드 매핑은 파일을 세그먼트 크기로 늘린다 (채널은 매핑 후 닫아도 됨)
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            }
+            segments.set(number, segment);
+        }
+        return segment;
+    }
+
+    private int labelId(String label) throws IOException {
+        Integer id = labelIds.get(label);
+        if (id != null) return id;
+        Files.writeString(directory.resolve("labels.txt"), label + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return registerLabel(label);
+    }
+
+    private int registerLabel(String label) {
+        int id = labels.size();
+        labels.add(label);
+        labelIds.put(label, id);
+        labelRuns.add(new RunList());
+        return id;
+    }
+
+    /** batchId UTF-8 바이트 FNV-1a 64비트 */
+    static long hash(byte[] id) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : id) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    /**
+     * 시뮬레이터 출력을 받아 두었다가 commit 시 저장소에 한 번에 추가하는 기록기
+     * 페이즈/태그/에스테르 점수는 보관하지 않는다. 스레드 안전하지 않음 (시뮬레이션 1회당 1개 사용)
+     */
+    public final class Recorder implements SimulationSink {
+        private final String batchId;
+        private final String label;
+        private int rows;
+        private int[] hours = new int[256];
+        private final double[][] columns = new double[HistoryColumn.values().length][256];
+        private boolean committed;
+
+        private Recorder(String batchId, String label) {
+            this.batchId = batchId;
+            this.label = label;
+        }
+
+        @Override
+        public void accept(int hour, double temperature, double gravity, double abv, String phase,
+                           List<String> flavorTags, double esterScore, double diacetylRisk) {
+            if (committed) {
+                throw new IllegalStateException("이미 저장된 기록입니다: " + batchId);
+            }
+            if (rows > 0 && hour < hours[rows - 1]) {
+                throw new IllegalArgumentException("기록 시간이 거꾸로 갑니다: " + hours[rows - 1] + " -> " + hour);
+            }
+            if (rows == hours.length) grow();
+            hours[rows] = hour;
+            columns[HistoryColumn.TEMPERATURE.code()][rows] = temperature;
+            columns[HistoryColumn.GRAVITY.code()][rows] = gravity;
+            columns[HistoryColumn.ABV.code()][rows] = abv;
+            columns[HistoryColumn.DIACETYL_RISK.code()][rows] = diacetylRisk;
+            rows++;
+        }
+
+        /** 저장소에 추가하고 실행 번호 반환 (한 번만 호출) */
+        public int commit() {
+            if (committed) {
+                throw new IllegalStateException("이미 저장된 기록입니다: " + batchId);
+            }
+            committed = true;
+            return append(batchId, label, rows, hours, columns);
+        }
+
+        private void grow() {
+            int capacity = hours.length * 2;
+            hours = Arrays.copyOf(hours, capacity);
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = Arrays.copyOf(columns[c], capacity);
+            }
+        }
+    }
+
+    /** 라벨별 실행 번호 (오름차순) */
+    private static final class RunList {
+        int[] runs = new int[16];
+        int size;
+
+        void add(int run) {
+            if (size == runs.length) runs = Arrays.copyOf(runs, size * 2);
+            runs[size++] = run;
+        }
+    }
+
+    /**
+     * batchId 해시 -> 최근 실행 번호 (개방 주소법)
+     * 같은 해시의 이전 실행은 previousRun 으로 연결한다.
+     */
+    static final class IdTable {
+        private long[] hashes = new long[1024];
+        private int[] runs = new int[1024];
+        private int used;
+        // 실행 번호 -> 같은 해시의 직전 실행 번호 (-1 이면 없음)
+        private int[] previousRun = new int[1024];
+
+        void put(long hash, int run) {
+            if (run >= previousRun.length) previousRun = Arrays.copyOf(previousRun, Math.max(run + 1, previousRun.length * 2));
+            if ((used + 1) * 2 > hashes.length) resize();
+            int slot = find(hash);
+            if (runs[slot] == 0) {
+                hashes[slot] = hash;
+                used++;
+                previousRun[run] = -1;
+            } else {
+                previousRun[run] = runs[slot] - 1;
+            }
+            runs[slot] = run + 1;
+        }
+
+        /** 가장 최근 실행 번호 (없으면 -1) */
+        int get(long hash) {
+            return runs[find(hash)] - 1;
+        }
+
+        int previous(int run) {
+            return previousRun[run];
+        }
+
+        private int find(long hash) {
+            int mask = hashes.length - 1;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (runs[slot] != 0 && hashes[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            long[] oldHashes = hashes;
+            int[] oldRuns = runs;
+            hashes = new long[oldHashes.length * 2];
+            runs = new int[oldRuns.length * 2];
+            for (int i = 0; i < oldHashes.length; i++) {
+                if (oldRuns[i] == 0) continue;
+                int slot = find(oldHashes[i]);
+                hashes[slot] = oldHashes[i];
+                runs[slot] = oldRuns[i];
+            }
+        }
+    }
+}
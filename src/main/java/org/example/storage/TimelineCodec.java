@@ -0,0 +1,257 @@
+package org.example.storage;
+
+import org.example.domain.FlavorTagSet;
+import org.example.simulation.SimulationTimeline;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 타임라인 직렬화
+ * <pre>
+ * rows(varint)
+ * 페이즈 사전: 개수 + 문자열
+ * 태그 이름 표: 개수 + 문자열 (태그 목록끼리 겹치는 이름은 한 번만 저장)
+ * 태그 목록 사전: 개수 + (종류 byte: 0 = FlavorTagSet, 1 = 설명 목록, 이름 수, 이름 표 번호...)
+ * hour 컬럼: 직전 행과의 차이 (zigzag varint, 보통 행당 1바이트)
+ * 페이즈/태그 id 컬럼: 구간 부호화 (구간 수 + (id, 길이)...)
+ * 실수 컬럼: temperature, gravity, abv, esterScore, diacetylRisk 순으로 바이트 길이(int) + 행마다 직전 값과의 XOR
+ *   (헤더 byte = 앞쪽 0바이트 수 << 4 | 뒤쪽 0바이트 수, 나머지 바이트 리틀 엔디언, 같은 값이면 헤더 0x80 한 바이트)
+ * </pre>
+ * 온도/에스테르/디아세틸은 구간마다 일정해서 행당 1바이트가 되고, 계산된 비중/ABV 는 가수부 끝자리가 매번 달라 원래 크기에 가깝다.
+ * 실수 컬럼은 길이를 앞에 두므로 읽을 때 구간을 복사 없이 잘라 버퍼에서 바로 푼다.
+ */
+public final class TimelineCodec {
+
+    private static final int TAGS_FLAVOR = 0;
+    private static final int TAGS_NOTES = 1;
+    // 직전 값과 같은 행 (앞쪽 0바이트 8개)
+    private static final int SAME_VALUE = 8 << 4;
+
+    private TimelineCodec() {
+    }
+
+    public static byte[] encode(SimulationTimeline timeline) {
+        BinaryFormat.Writer out = new BinaryFormat.Writer(64 + timeline.size() * 44);
+        BinaryFormat.writeHeader(out, BinaryFormat.KIND_TIMELINE);
+        write(out, timeline);
+        return out.toByteArray();
+    }
+
+    public static SimulationTimeline decode(ByteBuffer buffer) {
+        return read(BinaryFormat.readHeader(buffer, BinaryFormat.KIND_TIMELINE));
+    }
+
+    static void write(BinaryFormat.Writer out, SimulationTimeline timeline) {
+        int rows = timeline.size();
+        out.putVarInt(rows);
+
+        List<String> phases = timeline.phaseDictionary();
+        out.putVarInt(phases.size());
+        for (String phase : phases) {
+            out.putString(phase);
+        }
+
+        writeTagLists(out, timeline.tagDictionary());
+
+        int[] hours = timeline.hourColumn();
+        int previous = 0;
+        for (int hour : hours) {
+            out.putSignedVarInt(hour - previous);
+            previous = hour;
+        }
+        writeRuns(out, timeline.phaseIdColumn());
+        writeRuns(out, timeline.tagSetIdColumn());
+
+        writeDoubles(out, timeline.temperatureColumn(), rows);
+        writeDoubles(out, timeline.gravityColumn(), rows);
+        writeDoubles(out, timeline.abvColumn(), rows);
+        writeDoubles(out, timeline.esterScoreColumn(), rows);
+        writeDoubles(out, timeline.diacetylRiskColumn(), rows);
+    }
+
+    static SimulationTimeline read(BinaryFormat.Reader in) {
+        int rows = in.getVarInt();
+
+        String[] phases = new String[in.getVarInt()];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = in.getString();
+        }
+
+        List<List<String>> tagLists = readTagLists(in);
+
+        int[] hours = new int[rows];
+        int previous = 0;
+        for (int row = 0; row < rows; row++) {
+            previous += in.getSignedVarInt();
+            hours[row] = previous;
+        }
+        int[] phaseIds = readRuns(in, rows, phases.length);
+        int[] tagSetIds = readRuns(in, rows, tagLists.size());
+
+        double[] temperature = readDoubles(in, rows);
+        double[] gravity = readDoubles(in, rows);
+        double[] abv = readDoubles(in, rows);
+        double[] esterScore = readDoubles(in, rows);
+        double[] diacetylRisk = readDoubles(in, rows);
+
+        return SimulationTimeline.ofColumns(hours, temperature, gravity, abv, esterScore, diacetylRisk,
+                List.of(phases), phaseIds, tagLists, tagSetIds);
+    }
+
+    /** 실수 컬럼 하나 (직전 값과 XOR 한 비트에서 앞뒤 0바이트를 뺀 나머지만 기록) */
+    private static void writeDoubles(BinaryFormat.Writer out, double[] column, int rows) {
+        int lengthAt = out.position();
+        out.putInt(0);
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            long bits = Double.doubleToRawLongBits(column[row]);
+            long xor = bits ^ previous;
+            previous = bits;
+            if (xor == 0) {
+                out.putByte(SAME_VALUE);
+                continue;
+            }
+            int leading = Long.numberOfLeadingZeros(xor) >>> 3;
+            int trailing = Long.numberOfTrailingZeros(xor) >>> 3;
+            out.putByte(leading << 4 | trailing);
+            xor >>>= trailing * 8;
+            for (int i = 8 - leading - trailing; i > 0; i--) {
+                out.putByte((int) xor);
+                xor >>>= 8;
+            }
+        }
+        out.putIntAt(lengthAt, out.position() - lengthAt - 4);
+    }
+
+    private static double[] readDoubles(BinaryFormat.Reader in, int rows) {
+        double[] column = new double[rows];
+        ByteBuffer bytes = in.slice(in.getInt());
+        int limit = bytes.limit();
+        int position = 0;
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            if (position >= limit) {
+                throw new IllegalArgumentException("실수 컬럼이 잘렸습니다: " + row + " / " + rows + "행");
+            }
+            int header = bytes.get(position++) & 0xFF;
+            int trailing = header & 0x0F;
+            int length = 8 - (header >>> 4) - trailing;
+            if (length < 0 || trailing > 7 || position + length > limit) {
+                throw new IllegalArgumentException("잘못된 실수 컬럼입니다 (" + row + "행, 헤더 " + header + ")");
+            }
+            long xor;
+            if (position + 8 <= limit) {
+                // 8바이트를 한 번에 읽고 이 행의 몫만 남김
+                xor = bytes.getLong(position);
+                if (length < 8) xor &= (1L << (length * 8)) - 1;
+            } else {
+                xor = 0;
+                for (int i = 0; i < length; i++) {
+                    xor |= (bytes.get(position + i) & 0xFFL) << (i * 8);
+                }
+            }
+            position += length;
+            previous ^= xor << (trailing * 8);
+            column[row] = Double.longBitsToDouble(previous);
+        }
+        if (position != limit) {
+            throw new IllegalArgumentException("실수 컬럼 길이가 맞지 않습니다: " + position + " / " + limit);
+        }
+        return column;
+    }
+
+    /** 태그 목록 사전 (이름 표 + 목록별 종류/이름 번호) */
+    static void writeTagLists(BinaryFormat.Writer out, List<List<String>> tagLists) {
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> nameIds = new HashMap<>();
+        for (List<String> tags : tagLists) {
+            for (String tag : tags) {
+                nameIds.computeIfAbsent(tag, t -> {
+                    names.add(t);
+                    return names.size() - 1;
+                });
+            }
+        }
+        out.putVarInt(names.size());
+        for (String name : names) {
+            out.putString(name);
+        }
+        out.putVarInt(tagLists.size());
+        for (List<String> tags : tagLists) {
+            out.putByte(tags instanceof FlavorTagSet ? TAGS_FLAVOR : TAGS_NOTES);
+            out.putVarInt(tags.size());
+            for (String tag : tags) {
+                out.putVarInt(nameIds.get(tag));
+            }
+        }
+    }
+
+    static List<List<String>> readTagLists(BinaryFormat.Reader in) {
+        String[] names = new String[in.getVarInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = in.getString();
+        }
+        List<List<String>> tagLists = new ArrayList<>();
+        int tagListCount = in.getVarInt();
+        for (int i = 0; i < tagListCount; i++) {
+            int kind = in.getByte();
+            String[] tags = new String[in.getVarInt()];
+            for (int t = 0; t < tags.length; t++) {
+                tags[t] = name(names, in.getVarInt());
+            }
+            tagLists.add(switch (kind) {
+                case TAGS_FLAVOR -> FlavorTagSet.of(List.of(tags));
+                case TAGS_NOTES -> List.of(tags);
+                default -> throw new IllegalArgumentException("알 수 없는 태그 목록 종류입니다: " + kind);
+            });
+        }
+        return tagLists;
+    }
+
+    private static void writeRuns(BinaryFormat.Writer out, int[] ids) {
+        int runs = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) runs++;
+        }
+        out.putVarInt(runs);
+        int start = 0;
+        for (int i = 1; i <= ids.length; i++) {
+            if (i == ids.length || ids[i] != ids[start]) {
+                out.putVarInt(ids[start]);
+                out.putVarInt(i - start);
+                start = i;
+            }
+        }
+    }
+
+    private static int[] readRuns(BinaryFormat.Reader in, int rows, int dictionarySize) {
+        int[] ids = new int[rows];
+        int runs = in.getVarInt();
+        int row = 0;
+        for (int r = 0; r < runs; r++) {
+            int id = in.getVarInt();
+            int length = in.getVarInt();
+            if (id >= dictionarySize || length > rows - row) {
+                throw new IllegalArgumentException("잘못된 id 구간입니다: id=" + id + ", 길이=" + length);
+            }
+            Arrays.fill(ids, row, row + length, id);
+            row += length;
+        }
+        if (row != rows) {
+            throw new IllegalArgumentException("id 구간 합이 행 수와 다릅니다: " + row + " / " + rows);
+        }
+        return ids;
+    }
+
+    private static String name(String[] names, int index) {
+        if (index >= names.length) {
+            throw new IllegalArgumentException("잘못된 태그 번호입니다: " + index);
+        }
+        return names[index];
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.domain.enums;
+
+import org.example.domain.Grain;
+import org.example.domain.Recipe;
+import org.example.engine.RecipeMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrainTraitTest {
+
+    @Test
+    @DisplayName("키워드가 두 개인 이름은 두 특성을 모두 가진다")
+    void testOverlappingKeywords() {
+        Grain caramelPilsner = new Grain("Caramel Pilsner", 1.300, 10.0);
+        assertEquals(EnumSet.of(GrainTrait.CRYSTAL, GrainTrait.DMS_PRECURSOR), caramelPilsner.traits());
+
+        Grain blackCrystal = new Grain("Black Crystal", 1.270, 400.0);
+        assertEquals(EnumSet.of(GrainTrait.ROAST, GrainTrait.CRYSTAL), blackCrystal.traits());
+
+        // 카탈로그 분류가 하나여도 이름의 다른 키워드 특성은 유지
+        Grain categorized = new Grain("Caramel Pilsner", 1.300, 10.0, GrainCategory.CRYSTAL);
+        assertTrue(categorized.hasTrait(GrainTrait.DMS_PRECURSOR));
+        assertTrue(categorized.hasTrait(GrainTrait.CRYSTAL));
+    }
+
+    @Test
+    @DisplayName("겹치는 특성이 레시피 지표에 모두 반영된다")
+    void testMetricsCountBothTraits() {
+        Recipe recipe = new Recipe(20.0, 0.72);
+        recipe.addMalt(new Grain("Pale Ale", 1.310, 5.0), 4.0);
+        recipe.addMalt(new Grain("Caramel Pilsner", 1.300, 10.0), 1.0);
+
+        RecipeMetrics metrics = RecipeMetrics.of(recipe);
+        assertEquals(0.2, metrics.crystalFraction(), 1e-12);
+        assertTrue(metrics.hasPilsner());
+    }
+
+    @Test
+    @DisplayName("특성 비트는 저장 형식에 쓰이므로 고정")
+    void testTraitBits() {
+        assertEquals(1, GrainTrait.ROAST.bit());
+        assertEquals(2, GrainTrait.CRYSTAL.bit());
+        assertEquals(4, GrainTrait.DMS_PRECURSOR.bit());
+
+        Set<GrainTrait> traits = EnumSet.of(GrainTrait.ROAST, GrainTrait.DMS_PRECURSOR);
+        assertEquals(traits, GrainTrait.fromMask(GrainTrait.mask(traits)));
+        assertThrows(IllegalArgumentException.class, () -> GrainTrait.fromMask(1 << 7));
+    }
+}
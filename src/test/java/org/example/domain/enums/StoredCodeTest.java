@@ -0,0 +1,69 @@
+package org.example.domain.enums;
+
+import org.example.domain.Grain;
+import org.example.domain.Recipe;
+import org.example.domain.Yeast;
+import org.example.domain.YeastItem;
+import org.example.storage.RecipeCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StoredCodeTest {
+
+    @Test
+    @DisplayName("저장 형식에 쓰이는 분류/종류/형태 코드는 고정")
+    void testCodesArePinned() {
+        assertEquals(0, GrainCategory.BASE.code());
+        assertEquals(1, GrainCategory.PILSNER.code());
+        assertEquals(2, GrainCategory.WHEAT.code());
+        assertEquals(3, GrainCategory.KILNED.code());
+        assertEquals(4, GrainCategory.CRYSTAL.code());
+        assertEquals(5, GrainCategory.ROASTED.code());
+        assertEquals(6, GrainCategory.ADJUNCT.code());
+
+        assertEquals(0, YeastType.ALE.code());
+        assertEquals(1, YeastType.LAGER.code());
+        assertEquals(2, YeastType.WHEAT.code());
+
+        assertEquals(0, YeastForm.LIQUID.code());
+        assertEquals(1, YeastForm.DRY.code());
+        assertEquals(2, YeastForm.SLANT.code());
+        assertEquals(3, YeastForm.CULTURE.code());
+    }
+
+    @Test
+    @DisplayName("코드로 상수를 되찾고, 모르는 코드는 거부")
+    void testFromCode() {
+        for (GrainCategory category : GrainCategory.values()) {
+            assertEquals(category, GrainCategory.fromCode(category.code()));
+        }
+        for (YeastType type : YeastType.values()) {
+            assertEquals(type, YeastType.fromCode(type.code()));
+        }
+        for (YeastForm form : YeastForm.values()) {
+            assertEquals(form, YeastForm.fromCode(form.code()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> GrainCategory.fromCode(99));
+        assertThrows(IllegalArgumentException.class, () -> YeastType.fromCode(99));
+        assertThrows(IllegalArgumentException.class, () -> YeastForm.fromCode(99));
+    }
+
+    @Test
+    @DisplayName("직접 기록한 재료는 코드로 저장되고 그대로 복원")
+    void testInlineIngredientsRoundTrip() {
+        Recipe recipe = new Recipe(20.0, 0.72);
+        recipe.addMalt(new Grain("Dark Crystal", 1.330, 120.0, GrainCategory.CRYSTAL), 0.5);
+        Yeast yeast = new Yeast("House Lager", 0.78, YeastType.LAGER, YeastForm.CULTURE, 9.0, 14.0, 0.2);
+        recipe.setYeastItem(new YeastItem(yeast, 1.0, false, 2, 5, false));
+
+        RecipeCodec codec = new RecipeCodec();
+        Recipe decoded = codec.decode(ByteBuffer.wrap(codec.encode(recipe)));
+        assertEquals(recipe.getGrainItems(), decoded.getGrainItems());
+        assertEquals(yeast, decoded.getYeastItem().yeast());
+    }
+}
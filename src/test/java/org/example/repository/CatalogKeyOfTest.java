@@ -0,0 +1,59 @@
+package org.example.repository;
+
+import org.example.domain.Hop;
+import org.example.domain.Yeast;
+import org.example.domain.enums.YeastForm;
+import org.example.domain.enums.YeastType;
+import org.example.repository.catalog.CatalogCompiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CatalogKeyOfTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("컴파일된 카탈로그에서 값으로 키를 찾는다 (키와 이름이 달라도)")
+    void testMappedKeyOf() {
+        Map<String, Yeast> yeasts = new LinkedHashMap<>();
+        yeasts.put("US-05", new Yeast("SafAle US-05", 0.81, YeastType.ALE, YeastForm.DRY, 18.0, 28.0, 0.05));
+        yeasts.put("W-34/70", new Yeast("Saflager W-34/70", 0.83, YeastType.LAGER, YeastForm.DRY, 9.0, 15.0, 0.3));
+        Path file = dir.resolve("yeasts.bin");
+        CatalogCompiler.compileYeasts(yeasts, file);
+
+        YeastRepository repo = new YeastRepository(file);
+        yeasts.forEach((key, yeast) -> assertEquals(key, repo.keyOf(yeast)));
+        assertNull(repo.keyOf(new Yeast("SafAle US-05", 0.80, YeastType.ALE, YeastForm.DRY, 18.0, 28.0, 0.05)));
+    }
+
+    @Test
+    @DisplayName("같은 값이 여러 키에 있으면 파일 순서상 앞의 키")
+    void testDuplicateValueReturnsFirstKey() {
+        Map<String, Hop> hops = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            hops.put("H" + i, new Hop("Hop " + i, 2 + i / 50.0, List.of("Pine", "Tag" + (i % 7))));
+        }
+        Hop duplicated = new Hop("Twin", 8.0, List.of("Citrus"));
+        hops.put("twin-b", duplicated);
+        hops.put("twin-a", duplicated);
+        Path file = dir.resolve("hops.bin");
+        CatalogCompiler.compileHops(hops, file);
+
+        HopRepository repo = new HopRepository(file);
+        assertEquals("H123", repo.keyOf(hops.get("H123")));
+        assertEquals("twin-b", repo.keyOf(duplicated));
+        assertNull(repo.keyOf(new Hop("Hop 0", 2.5, List.of("Pine", "Tag0"))));
+        // 태그 순서가 다르면 다른 값
+        assertNull(repo.keyOf(new Hop("Hop 0", 2.0, List.of("Tag0", "Pine"))));
+    }
+}
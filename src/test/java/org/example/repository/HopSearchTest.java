@@ -0,0 +1,144 @@
+package org.example.repository;
+
+import org.example.domain.Hop;
+import org.example.repository.catalog.CatalogCompiler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HopSearchTest {
+
+    private static final String[] TAG_POOL = {"Pine", "Citrus", "Mango", "Passionfruit", "Dank", "Resin",
+            "Berry", "Lime", "Melon", "Floral", "Spicy", "Earthy", "Herbal", "Peach", "Grape"};
+
+    @TempDir
+    Path dir;
+
+    private Map<String, Hop> hops;
+    private HopRepository mappedRepo;
+    private HopRepository csvRepo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 흔한 태그와 드문 태그가 섞이도록 앞쪽 태그에 몰리게 생성
+        hops = new LinkedHashMap<>();
+        Random random = new Random(7);
+        StringBuilder csv = new StringBuilder("key,name,alphaAcid,flavorTags\n");
+        for (int i = 0; i < 3000; i++) {
+            Set<String> tags = new LinkedHashSet<>();
+            int count = 1 + random.nextInt(5);
+            while (tags.size() < count) {
+                tags.add(TAG_POOL[(int) Math.min(TAG_POOL.length - 1, Math.abs(random.nextGaussian()) * 4)]);
+            }
+            double alpha = 2 + random.nextInt(1600) / 100.0;
+            String key = "H" + i;
+            hops.put(key, new Hop("Hop " + i, alpha, List.copyOf(tags)));
+            csv.append(key).append(",Hop ").append(i).append(',').append(alpha).append(',')
+                    .append(String.join("|", tags)).append('\n');
+        }
+
+        Path csvFile = dir.resolve("hops.csv");
+        Path binFile = dir.resolve("hops.bin");
+        Files.writeString(csvFile, csv);
+        CatalogCompiler.compileHops(hops, binFile);
+        mappedRepo = new HopRepository(binFile);
+        csvRepo = new HopRepository(csvFile);
+    }
+
+    @Test
+    @DisplayName("AND 검색 결과가 전체 순회 결과와 같다")
+    void testAllMatchesBruteForce() {
+        assertSameAsBruteForce(HopQuery.allOf("passionfruit", "PINE").withMaxAlpha(14));
+        assertSameAsBruteForce(HopQuery.allOf("Pine", "Citrus", "Mango").withLimit(50));
+        assertSameAsBruteForce(HopQuery.allOf("Grape", "Peach").withAlphaRange(6, 9).withLimit(5));
+        assertSameAsBruteForce(HopQuery.allOf("Pine", "nope"));
+    }
+
+    @Test
+    @DisplayName("OR 검색 결과가 전체 순회 결과와 같다")
+    void testAnyMatchesBruteForce() {
+        assertSameAsBruteForce(HopQuery.anyOf("Grape", "Peach", "Dank").withAlphaRange(6, 9).withLimit(10));
+        assertSameAsBruteForce(HopQuery.anyOf("Pine", "Citrus", "nope").withLimit(100));
+        assertSameAsBruteForce(HopQuery.anyOf("Herbal").withMinAlpha(17.5));
+    }
+
+    @Test
+    @DisplayName("태그 없이 알파산 범위만 주면 알파산 오름차순")
+    void testRangeOnlyMatchesBruteForce() {
+        assertSameAsBruteForce(HopQuery.allOf().withAlphaRange(4, 5).withLimit(30));
+        assertSameAsBruteForce(HopQuery.anyOf().withAlphaRange(12, 12).withLimit(30));
+    }
+
+    private void assertSameAsBruteForce(HopQuery query) {
+        List<HopMatch> expected = bruteForce(query);
+        assertMatches(expected, mappedRepo.search(query));
+        assertMatches(expected, csvRepo.search(query));
+    }
+
+    private static void assertMatches(List<HopMatch> expected, List<HopMatch> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).key(), actual.get(i).key());
+            assertEquals(expected.get(i).hop(), actual.get(i).hop());
+            assertEquals(expected.get(i).matchedTags(), actual.get(i).matchedTags());
+            assertEquals(expected.get(i).score(), actual.get(i).score(), 1e-9);
+        }
+    }
+
+    /** 색인 없이 모든 홉을 보고 HopIndex 와 같은 규칙으로 점수/순위를 매김 */
+    private List<HopMatch> bruteForce(HopQuery query) {
+        Map<String, Integer> hopsPerTag = new HashMap<>();
+        for (Hop hop : hops.values()) {
+            for (String tag : hop.flavorTags()) {
+                hopsPerTag.merge(tag.toLowerCase(Locale.ROOT), 1, Integer::sum);
+            }
+        }
+        Set<String> queryTags = new LinkedHashSet<>();
+        for (String tag : query.tags()) {
+            queryTags.add(tag.toLowerCase(Locale.ROOT));
+        }
+
+        List<HopMatch> matches = new ArrayList<>();
+        for (Map.Entry<String, Hop> entry : hops.entrySet()) {
+            Hop hop = entry.getValue();
+            if (hop.alphaAcid() < query.minAlpha() || hop.alphaAcid() >= query.maxAlpha()) continue;
+
+            int matched = 0;
+            double weight = 0;
+            for (String tag : queryTags) {
+                if (hop.flavorTags().stream().anyMatch(t -> t.equalsIgnoreCase(tag))) {
+                    matched++;
+                    weight += Math.log(1 + (double) hops.size() / hopsPerTag.get(tag));
+                }
+            }
+            boolean hit = queryTags.isEmpty()
+                    || ((query.mode() == HopQuery.Mode.ALL) ? matched == queryTags.size() : matched > 0);
+            if (hit) {
+                double score = queryTags.isEmpty() ? 0.0 : weight / Math.sqrt(hop.flavorTags().size());
+                matches.add(new HopMatch(entry.getKey(), hop, matched, score));
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(HopMatch::score).reversed()
+                .thenComparingDouble(m -> m.hop().alphaAcid())
+                .thenComparing(HopMatch::key));
+        return matches.subList(0, Math.min(query.limit(), matches.size()));
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedTimelineTest {
+
+    private static final double[] EDGE_VALUES = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE, 1.0, 1.0, 17.0, 12.0, 1.0493812744};
+
+    @Test
+    @DisplayName("블록 크기와 관계없이 모든 값이 비트 단위로 그대로 복원")
+    void testRoundTripIsBitExact() {
+        List<Row> rows = sampleRows(600);
+        for (int blockRows : new int[]{1, 2, 7, 256}) {
+            CompressedTimeline timeline = encode(rows, CompressedTimeline.encoder(blockRows));
+            assertEquals(rows.size(), timeline.size());
+            assertEquals((rows.size() + blockRows - 1) / blockRows, timeline.blockCount());
+            assertEquals(rows, replay(timeline));
+            assertEquals(rows, replay(CompressedTimeline.decode(ByteBuffer.wrap(timeline.toByteArray()))));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 시간의 여러 행이 블록 경계에 걸쳐도 구간 재생에 모두 포함")
+    void testReplayRangeAcrossBlockBoundary() {
+        // 4행 블록: [0 1 2 3] [4 5 10 10] [10 10 11 12] ... (10시에 드라이호핑 기록 네 행)
+        List<Row> rows = new ArrayList<>();
+        for (int hour = 0; hour <= 5; hour++) {
+            rows.add(row(hour, 20.0, 1.050 - hour * 0.001, "Lag Phase", List.of()));
+        }
+        for (int i = 0; i < 4; i++) {
+            rows.add(row(10, 20.0, 1.044, "Hop Addition: H" + i, List.of("+50.0g H" + i)));
+        }
+        for (int hour = 11; hour <= 20; hour++) {
+            rows.add(row(hour, 18.0, 1.044 - (hour - 10) * 0.001, "Active", List.of("Citrus")));
+        }
+        CompressedTimeline timeline = encode(rows, CompressedTimeline.encoder(4));
+
+        assertEquals(rows.subList(6, 10), replay(timeline, 10, 10));
+        for (int from = -2; from <= 22; from++) {
+            for (int to = from; to <= 22; to++) {
+                assertEquals(between(rows, from, to), replay(timeline, from, to), from + " ~ " + to);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> timeline.replay(5, 4, (hour, temperature, gravity, abv,
+                phase, flavorTags, esterScore, diacetylRisk) -> { }));
+    }
+
+    @Test
+    @DisplayName("바이트 배열로 내보내고 다시 읽으면 같은 내용과 같은 바이트")
+    void testByteArrayRoundTrip() {
+        CompressedTimeline timeline = encode(sampleRows(300), CompressedTimeline.encoder(16));
+        byte[] bytes = timeline.toByteArray();
+
+        // 다른 버퍼의 중간에서 읽어도 같음
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 8);
+        buffer.position(5);
+        buffer.put(bytes);
+        buffer.position(5);
+        CompressedTimeline decoded = CompressedTimeline.decode(buffer);
+
+        assertEquals(timeline.size(), decoded.size());
+        assertEquals(timeline.blockCount(), decoded.blockCount());
+        assertEquals(timeline.dataBytes(), decoded.dataBytes());
+        assertEquals(replay(timeline), replay(decoded));
+        assertArrayEquals(bytes, decoded.toByteArray());
+    }
+
+    @Test
+    @DisplayName("정밀도를 줄인 압축기는 상대 오차 2^-mantissaBits 미만, NaN/무한대/비정규 값은 그대로")
+    void testReducedPrecisionErrorBound() {
+        List<Row> rows = sampleRows(500);
+        for (int mantissaBits : new int[]{1, 10, 20, 36, 51}) {
+            List<Row> decoded = replay(encode(rows, CompressedTimeline.encoder(64, mantissaBits)));
+            double bound = Math.scalb(1.0, -mantissaBits);
+            for (int i = 0; i < rows.size(); i++) {
+                Row expected = rows.get(i);
+                Row actual = decoded.get(i);
+                assertEquals(expected.hour, actual.hour);
+                for (int c = 0; c < expected.values.length; c++) {
+                    double value = expected.values[c];
+                    double reduced = actual.values[c];
+                    if (!Double.isFinite(value) || Math.abs(value) < Double.MIN_NORMAL) {
+                        assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(reduced));
+                    } else {
+                        assertTrue(Math.abs(value - reduced) <= Math.abs(value) * bound,
+                                mantissaBits + "비트: " + value + " -> " + reduced);
+                    }
+                }
+            }
+        }
+        assertEquals(rows, replay(encode(rows, CompressedTimeline.encoder(64, CompressedTimeline.LOSSLESS_MANTISSA_BITS))));
+
+        assertThrows(IllegalArgumentException.class, () -> CompressedTimeline.encoder(0));
+        assertThrows(IllegalArgumentException.class, () -> CompressedTimeline.encoder(16, 0));
+        assertThrows(IllegalArgumentException.class, () -> CompressedTimeline.encoder(16, 53));
+    }
+
+    @Test
+    @DisplayName("잘린 기록과 손상된 기록은 IllegalArgumentException")
+    void testCorruptedInputRejected() {
+        byte[] bytes = encode(sampleRows(200), CompressedTimeline.encoder(16)).toByteArray();
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(IllegalArgumentException.class, () -> CompressedTimeline.decode(ByteBuffer.wrap(truncated)));
+        }
+
+        byte[] badMagic = bytes.clone();
+        badMagic[0] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> CompressedTimeline.decode(ByteBuffer.wrap(badMagic)));
+
+        byte[] otherKind = TimelineCodec.encode(CompressedTimeline.decode(ByteBuffer.wrap(bytes)).toTimeline());
+        assertThrows(IllegalArgumentException.class, () -> CompressedTimeline.decode(ByteBuffer.wrap(otherKind)));
+
+        // 비트열의 어느 비트가 바뀌어도 다른 예외로 새지 않음 (값만 바뀌고 읽히는 경우는 허용)
+        int dataStart = bytes.length - CompressedTimeline.decode(ByteBuffer.wrap(bytes)).dataBytes();
+        for (int i = dataStart; i < bytes.length; i++) {
+            for (int bit = 0; bit < 8; bit++) {
+                byte[] corrupted = bytes.clone();
+                corrupted[i] ^= (byte) (1 << bit);
+                try {
+                    replay(CompressedTimeline.decode(ByteBuffer.wrap(corrupted)));
+                } catch (IllegalArgumentException expected) {
+                    // 손상 감지
+                }
+            }
+        }
+    }
+
+    /** 시간/값 비교용 행 (실수는 원본 비트로 비교) */
+    private record Row(int hour, double[] values, String phase, List<String> tags) {
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Row other)) return false;
+            if (hour != other.hour || !phase.equals(other.phase) || !tags.equals(other.tags)) return false;
+            for (int c = 0; c < values.length; c++) {
+                if (Double.doubleToRawLongBits(values[c]) != Double.doubleToRawLongBits(other.values[c])) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hour;
+        }
+
+        @Override
+        public String toString() {
+            return hour + " " + Arrays.toString(values) + " " + phase + " " + tags;
+        }
+    }
+
+    private static Row row(int hour, double temperature, double gravity, String phase, List<String> tags) {
+        return new Row(hour, new double[]{temperature, gravity, 0.0, 0.0, 0.0}, phase, tags);
+    }
+
+    /** 브루하우스 음수 시간, 같은 시간 반복, 큰 간격, 경계 실수 값, 계산 잡음이 섞인 행 */
+    private static List<Row> sampleRows(int count) {
+        List<Row> rows = new ArrayList<>(count);
+        int hour = -120;
+        for (int i = 0; i < count; i++) {
+            if (i % 37 != 0) hour += (i % 50 == 0) ? 1000 : 1 + i % 3;
+            double edge = EDGE_VALUES[i % EDGE_VALUES.length];
+            double gravity = 1.050 - i * 0.00007 + Math.sin(i) * 1e-9;
+            double abv = (1.050 - gravity) * 131.25;
+            String phase = (i < count / 3) ? "Lag Phase" : (i < 2 * count / 3) ? "Active" : "Finished / Conditioning";
+            List<String> tags = (i % 11 == 0) ? List.of("+50.0g H" + i) : List.of("Citrus", "Pine").subList(0, 1 + i % 2);
+            rows.add(new Row(hour, new double[]{(i / 40) * 0.5 + 10, gravity, abv, edge, -edge}, phase, tags));
+        }
+        return rows;
+    }
+
+    private static CompressedTimeline encode(List<Row> rows, CompressedTimeline.Encoder encoder) {
+        for (Row row : rows) {
+            encoder.accept(row.hour, row.values[0], row.values[1], row.values[2], row.phase, row.tags,
+                    row.values[3], row.values[4]);
+        }
+        return encoder.finish();
+    }
+
+    private static List<Row> replay(CompressedTimeline timeline) {
+        return replay(timeline, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static List<Row> replay(CompressedTimeline timeline, int fromHour, int toHour) {
+        List<Row> rows = new ArrayList<>();
+        timeline.replay(fromHour, toHour, (hour, temperature, gravity, abv, phase, flavorTags, esterScore, diacetylRisk) ->
+                rows.add(new Row(hour, new double[]{temperature, gravity, abv, esterScore, diacetylRisk}, phase, flavorTags)));
+        return rows;
+    }
+
+    private static List<Row> between(List<Row> rows, int fromHour, int toHour) {
+        List<Row> selected = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.hour >= fromHour && row.hour <= toHour) selected.add(row);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationHistoryStoreTest {
+
+    // 50행 기록 하나가 약 1.8KB 라 세그먼트 하나에 두 개씩 들어감
+    private static final int SEGMENT_BYTES = 4096;
+    private static final int ROWS = 50;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("컬럼 위치 코드는 저장 형식에 쓰이므로 고정")
+    void testColumnCodesArePinned() {
+        assertEquals(0, HistoryColumn.TEMPERATURE.code());
+        assertEquals(1, HistoryColumn.GRAVITY.code());
+        assertEquals(2, HistoryColumn.ABV.code());
+        assertEquals(3, HistoryColumn.DIACETYL_RISK.code());
+        for (HistoryColumn column : HistoryColumn.values()) {
+            assertEquals(column, HistoryColumn.fromCode(column.code()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> HistoryColumn.fromCode(4));
+    }
+
+    @Test
+    @DisplayName("다시 열어도 기존 실행이 보이고, 이어서 추가한 실행은 앞 기록을 덮지 않는다")
+    void testAppendReopenAppend() {
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir, SEGMENT_BYTES)) {
+            assertEquals(0, append(store, "B-1", "IPA", 1));
+            assertEquals(1, append(store, "B-2", "Lager", 2));
+        }
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir, SEGMENT_BYTES)) {
+            assertEquals(2, store.runCount());
+            assertEquals(List.of("IPA", "Lager"), store.labels());
+            assertEquals(2, append(store, "B-3", "IPA", 3));
+        }
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir)) {
+            assertEquals(3, store.runCount());
+            assertRun(store.latest("B-1"), 0, 1);
+            assertRun(store.latest("B-2"), 1, 2);
+            assertRun(store.latest("B-3"), 2, 3);
+
+            List<HistoryRun> ipa = store.latestRuns("IPA", 10);
+            assertEquals(2, ipa.size());
+            assertEquals("B-3", ipa.get(0).batchId());
+            assertEquals("B-1", ipa.get(1).batchId());
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 다음 세그먼트 파일에 이어 쓴다")
+    void testSegmentRollover() {
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir, SEGMENT_BYTES)) {
+            for (int i = 0; i < 5; i++) {
+                append(store, "B-" + i, "IPA", i);
+            }
+            assertTrue(Files.exists(dir.resolve("segment-00002.dat")));
+            for (int i = 0; i < 5; i++) {
+                assertRun(store.run(i), i, i);
+            }
+
+            // 한 세그먼트에 들어가지 않는 기록은 거부
+            SimulationHistoryStore.Recorder recorder = store.recorder("too-large", "IPA");
+            for (int hour = 0; hour < 200; hour++) {
+                recorder.accept(hour, 20.0, 1.050, 0.0, null, null, 0, 0);
+            }
+            assertThrows(IllegalArgumentException.class, recorder::commit);
+        }
+        // 다시 열면 마지막 세그먼트의 남은 자리부터 이어 씀
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir, SEGMENT_BYTES)) {
+            assertEquals(5, append(store, "B-5", "IPA", 5));
+            assertTrue(Files.exists(dir.resolve("segment-00002.dat")));
+            for (int i = 0; i <= 5; i++) {
+                assertRun(store.run(i), i, i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("시간 구간 조회는 양 끝을 포함하고, 같은 시간의 여러 행을 모두 돌려준다")
+    void testHourRangeBounds() {
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir, SEGMENT_BYTES)) {
+            SimulationHistoryStore.Recorder recorder = store.recorder("B-1", "IPA");
+            int[] hours = {0, 2, 4, 4, 4, 6, 8};
+            for (int row = 0; row < hours.length; row++) {
+                recorder.accept(hours[row], 20.0, 1.050 - row * 0.001, 0.0, null, null, 0, 0);
+            }
+            recorder.commit();
+            HistoryRun run = store.latest("B-1");
+
+            assertArrayEquals(new int[]{0, 2}, run.read(HistoryColumn.GRAVITY, -10, 2).hours());
+            assertArrayEquals(new int[]{4, 4, 4}, run.read(HistoryColumn.GRAVITY, 3, 5).hours());
+            assertArrayEquals(new double[]{1.050 - 2 * 0.001, 1.050 - 3 * 0.001, 1.050 - 4 * 0.001},
+                    run.read(HistoryColumn.GRAVITY, 4, 4).values());
+            assertArrayEquals(new int[]{8}, run.read(HistoryColumn.GRAVITY, 8, Integer.MAX_VALUE).hours());
+            assertArrayEquals(hours, run.read(HistoryColumn.GRAVITY, Integer.MIN_VALUE, Integer.MAX_VALUE).hours());
+            assertEquals(0, run.read(HistoryColumn.GRAVITY, 9, 100).hours().length);
+            assertEquals(0, run.read(HistoryColumn.GRAVITY, -5, -1).hours().length);
+            assertEquals(2, run.firstRowAtOrAfter(4));
+            assertEquals(hours.length, run.firstRowAtOrAfter(9));
+            assertThrows(IllegalArgumentException.class, () -> run.read(HistoryColumn.GRAVITY, 5, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> run.hourAt(hours.length));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 해시의 실행은 최근 것부터 연결되고, 슬롯만 겹치는 해시는 따로 찾는다")
+    void testIdTableHashCollisions() {
+        SimulationHistoryStore.IdTable table = new SimulationHistoryStore.IdTable();
+        long hash = 0x1234_5678_9ABC_DEF0L;
+        // 상위/하위 32비트를 같이 바꾸면 슬롯 번호는 같고 해시는 다름
+        long sameSlot = hash ^ (1L << 32) ^ 1L;
+
+        table.put(hash, 0);
+        table.put(sameSlot, 1);
+        table.put(hash, 2);
+        table.put(hash, 5);
+
+        assertEquals(5, table.get(hash));
+        assertEquals(2, table.previous(5));
+        assertEquals(0, table.previous(2));
+        assertEquals(-1, table.previous(0));
+        assertEquals(1, table.get(sameSlot));
+        assertEquals(-1, table.previous(1));
+        assertEquals(-1, table.get(hash + 1));
+
+        // 표가 늘어나도 연결은 유지
+        for (int run = 6; run < 3000; run++) {
+            table.put(SimulationHistoryStore.hash(("B-" + run).getBytes(StandardCharsets.UTF_8)), run);
+        }
+        assertEquals(5, table.get(hash));
+        assertEquals(2, table.previous(5));
+        assertEquals(1, table.get(sameSlot));
+        for (int run = 6; run < 3000; run++) {
+            assertEquals(run, table.get(SimulationHistoryStore.hash(("B-" + run).getBytes(StandardCharsets.UTF_8))));
+        }
+    }
+
+    @Test
+    @DisplayName("배치 id 조회는 저장된 id 를 비교해 같은 id 의 최근 실행만 돌려준다")
+    void testLatestByBatchId() {
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir, 1 << 20)) {
+            for (int i = 0; i < 1500; i++) {
+                append(store, "B-" + i, "IPA", i);
+            }
+            append(store, "B-7", "IPA", 9999);
+        }
+        try (SimulationHistoryStore store = SimulationHistoryStore.open(dir)) {
+            for (int i = 0; i < 1500; i++) {
+                if (i != 7) assertRun(store.latest("B-" + i), i, i);
+            }
+            assertRun(store.latest("B-7"), 1500, 9999);
+            assertNull(store.latest("B-1500"));
+        }
+    }
+
+    /** seed 로 값을 정해 ROWS 행 기록 (hour = 행 * 2) */
+    private static int append(SimulationHistoryStore store, String batchId, String label, int seed) {
+        SimulationHistoryStore.Recorder recorder = store.recorder(batchId, label);
+        for (int row = 0; row < ROWS; row++) {
+            recorder.accept(row * 2, seed + row * 0.25, 1.050 - row * 0.0005, row * 0.1, null, null, 0, seed * 0.5);
+        }
+        return recorder.commit();
+    }
+
+    private static void assertRun(HistoryRun run, int runNumber, int seed) {
+        assertEquals(runNumber, run.runNumber());
+        assertEquals(ROWS, run.rows());
+        for (int row = 0; row < ROWS; row++) {
+            assertEquals(row * 2, run.hourAt(row));
+            assertEquals(seed + row * 0.25, run.valueAt(HistoryColumn.TEMPERATURE, row), 0.0);
+            assertEquals(1.050 - row * 0.0005, run.valueAt(HistoryColumn.GRAVITY, row), 0.0);
+            assertEquals(row * 0.1, run.valueAt(HistoryColumn.ABV, row), 0.0);
+            assertEquals(seed * 0.5, run.valueAt(HistoryColumn.DIACETYL_RISK, row), 0.0);
+        }
+    }
+}
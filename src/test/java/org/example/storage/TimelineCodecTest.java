@@ -0,0 +1,85 @@
+package org.example.storage;
+
+import org.example.simulation.SimulationTimeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimelineCodecTest {
+
+    private static final double[] EDGE_VALUES = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE, 1.0, 1.0, 17.0, 12.0, 1.0493812744};
+
+    @Test
+    @DisplayName("실수 컬럼은 비트 단위로 그대로 복원")
+    void testRoundTripIsBitExact() {
+        int rows = EDGE_VALUES.length;
+        double[] gravity = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            gravity[i] = 1.050 - i * 0.0011 + Math.sin(i) * 1e-9;
+        }
+        double[] reversed = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            reversed[i] = EDGE_VALUES[rows - 1 - i];
+        }
+        SimulationTimeline timeline = timeline(rows, EDGE_VALUES, gravity, reversed, new double[rows], EDGE_VALUES);
+
+        SimulationTimeline decoded = TimelineCodec.decode(ByteBuffer.wrap(TimelineCodec.encode(timeline)));
+        assertBitsEqual(timeline.temperatureColumn(), decoded.temperatureColumn());
+        assertBitsEqual(timeline.gravityColumn(), decoded.gravityColumn());
+        assertBitsEqual(timeline.abvColumn(), decoded.abvColumn());
+        assertBitsEqual(timeline.esterScoreColumn(), decoded.esterScoreColumn());
+        assertBitsEqual(timeline.diacetylRiskColumn(), decoded.diacetylRiskColumn());
+        assertArrayEquals(timeline.hourColumn(), decoded.hourColumn());
+    }
+
+    @Test
+    @DisplayName("일정한 컬럼은 행당 1바이트")
+    void testConstantColumnsAreCompact() {
+        int rows = 1000;
+        double[] constant = new double[rows];
+        Arrays.fill(constant, 12.5);
+        SimulationTimeline timeline = timeline(rows, constant, constant, constant, constant, constant);
+
+        // 실수 5컬럼 + hour 차이로 행당 약 6바이트 (원본 double 이면 실수 컬럼만 행당 40바이트)
+        assertTrue(TimelineCodec.encode(timeline).length < rows * 7);
+    }
+
+    @Test
+    @DisplayName("잘린 기록은 거부")
+    void testTruncatedRejected() {
+        int rows = 50;
+        double[] values = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            values[i] = 1.0 / (i + 3);
+        }
+        byte[] bytes = TimelineCodec.encode(timeline(rows, values, values, values, values, values));
+        assertThrows(IllegalArgumentException.class,
+                () -> TimelineCodec.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 3))));
+    }
+
+    private static SimulationTimeline timeline(int rows, double[] temperature, double[] gravity, double[] abv,
+                                               double[] esterScore, double[] diacetylRisk) {
+        int[] hours = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            hours[i] = i * 2;
+        }
+        return SimulationTimeline.ofColumns(hours, temperature, gravity, abv, esterScore, diacetylRisk,
+                List.of("Lag Phase"), new int[rows], List.of(List.of()), new int[rows]);
+    }
+
+    private static void assertBitsEqual(double[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(Double.doubleToRawLongBits(expected[i]), Double.doubleToRawLongBits(actual[i]));
+        }
+    }
+}